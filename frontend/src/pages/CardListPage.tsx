@@ -183,10 +183,11 @@ export const CardListPage = () => {
         }
         setCollectStatus("수집 중...");
         try {
-            await api.post(`/my-collections/${targetCategoryId}/cards`, {
+            const response = await api.post(`/my-collections/${targetCategoryId}/cards`, {
                 cardId: selectedCardId
             });
-            setCollectStatus("수집 성공!");
+            // [수정] 이미 수집된 카드도 성공 응답(200, ALREADY_PRESENT)으로 옴
+            setCollectStatus(response.data?.result === 'ALREADY_PRESENT' ? "이미 수집된 카드입니다." : "수집 성공!");
             const addedCategory = categories.find(
                 c => String(c.categoryId) === targetCategoryId
             );
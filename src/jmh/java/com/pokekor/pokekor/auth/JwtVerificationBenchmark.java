@@ -0,0 +1,73 @@
+package com.pokekor.pokekor.auth;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 요청 한 번당 JWT 인증 비용 비교
+ *
+ * - legacyValidate: 이전 JwtAuthenticationFilter 경로 (요청마다 키 생성 + 파서 생성, 토큰 3회 파싱)
+ * - verifyUncached: 키/파서 재사용, 토큰 1회 파싱 (캐시 크기 0, 처음 보는 토큰과 같은 비용)
+ * - verifyCached:   같은 토큰으로 반복 요청 (다이제스트 캐시 적중)
+ */
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-0123456789-abcdefghijklmnop";
+
+    private JwtUtil cachedJwtUtil;
+    private JwtUtil uncachedJwtUtil;
+    private UserDetails user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachedJwtUtil = new JwtUtil(SECRET, 10_000);
+        uncachedJwtUtil = new JwtUtil(SECRET, 0);
+        user = new User("benchmark-user", "password", List.of());
+        token = cachedJwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean legacyValidate() {
+        // 이전 구현: extractUsername -> validateToken(extractUsername + extractExpiration)
+        String username = legacyClaims(token).getSubject();
+        return username.equals(user.getUsername())
+                && legacyClaims(token).getSubject().equals(user.getUsername())
+                && !legacyClaims(token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public JwtUtil.VerifiedToken verifyUncached() {
+        return uncachedJwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public JwtUtil.VerifiedToken verifyCached() {
+        return cachedJwtUtil.verify(token);
+    }
+
+    /**
+     * 이전 JwtUtil.extractAllClaims (호출마다 SecretKey와 JwtParser를 새로 만듦)
+     */
+    private static Claims legacyClaims(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
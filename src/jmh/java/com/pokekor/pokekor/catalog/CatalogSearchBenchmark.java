@@ -0,0 +1,73 @@
+package com.pokekor.pokekor.catalog;
+
+import com.pokekor.pokekor.dto.CardSearchCondition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 인메모리 카탈로그 검색 비용 (이전 CardSpecification + findAll(spec) 경로를 대체한 부분)
+ * 카드 20,000장, 팩 40개, 레어도 8종 기준으로 자주 쓰는 필터 조합을 측정
+ */
+@State(Scope.Benchmark)
+public class CatalogSearchBenchmark {
+
+    private static final String[] RARITIES = {"C", "U", "R", "RR", "AR", "SR", "SAR", "UR"};
+    private static final String[] TYPES = {"포켓몬", "트레이너스", "에너지"};
+    private static final String[] ATTRIBUTES = {"풀", "불꽃", "물", "번개", "초", "격투", "악", "강철", "드래곤", "무색"};
+    private static final String[] NAMES = {"피카츄", "리자몽", "이상해씨", "꼬부기", "뮤츠", "잠만보", "망나뇽", "루카리오"};
+
+    private CatalogSnapshot snapshot;
+
+    private final CardSearchCondition all = new CardSearchCondition(null, null, null, null, null);
+    private final CardSearchCondition packAndRarity = new CardSearchCondition(7L, null, "RR", null, null);
+    private final CardSearchCondition name = new CardSearchCondition(null, "리자몽", null, null, null);
+    private final CardSearchCondition nameAndAttribute = new CardSearchCondition(null, "피카", null, "포켓몬", "번개");
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(7);
+        List<CatalogCard> cards = new ArrayList<>();
+        for (long id = 1; id <= 20_000; id++) {
+            long packId = 1 + random.nextInt(40);
+            cards.add(new CatalogCard(
+                    id,
+                    NAMES[random.nextInt(NAMES.length)] + " " + (id % 50 == 0 ? "ex" : "V"),
+                    "https://example.com/" + id + ".png",
+                    String.valueOf(id % 300),
+                    TYPES[random.nextInt(TYPES.length)],
+                    ATTRIBUTES[random.nextInt(ATTRIBUTES.length)],
+                    random.nextInt(10) == 0 ? ATTRIBUTES[random.nextInt(ATTRIBUTES.length)] : null,
+                    packId,
+                    "팩 " + packId,
+                    RARITIES[random.nextInt(RARITIES.length)]
+            ));
+        }
+        snapshot = CatalogSnapshot.of(1L, cards);
+    }
+
+    @Benchmark
+    public List<CatalogCard> searchAll() {
+        return snapshot.search(all);
+    }
+
+    @Benchmark
+    public List<CatalogCard> searchPackAndRarity() {
+        return snapshot.search(packAndRarity);
+    }
+
+    @Benchmark
+    public List<CatalogCard> searchName() {
+        return snapshot.search(name);
+    }
+
+    @Benchmark
+    public List<CatalogCard> searchNameAndAttribute() {
+        return snapshot.search(nameAndAttribute);
+    }
+}
@@ -0,0 +1,63 @@
+package com.pokekor.pokekor.dto;
+
+import com.pokekor.pokekor.domain.Card;
+import com.pokekor.pokekor.domain.CollectedCard;
+import com.pokekor.pokekor.domain.CollectionCategory;
+import com.pokekor.pokekor.domain.Pack;
+import com.pokekor.pokekor.domain.Rarity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 카테고리 상세 조회(GET /api/my-collections/{categoryId})의 엔티티 -> CollectionCategoryDetailDTO 변환 비용
+ * (JOIN FETCH로 읽은 CollectedCard -> Card -> Pack/Rarity 그래프를 CardDTO 목록으로 바꾸는 부분만 측정)
+ */
+@State(Scope.Benchmark)
+public class CollectionCategoryDetailBenchmark {
+
+    @Param({"100", "2000"})
+    private int collectedCards;
+
+    private CollectionCategory category;
+
+    @Setup
+    public void setUp() {
+        category = new CollectionCategory();
+        category.setCategoryId(1L);
+        category.setCategoryName("내 컬렉션");
+        category.setThemeColor("#FFFFFF");
+        category.setCategoryType("OWNED");
+
+        Pack pack = new Pack();
+        pack.setPackId(1L);
+        pack.setPackNameKo("벤치마크 팩");
+        Rarity rarity = new Rarity();
+        rarity.setRarityId("RR");
+
+        for (long id = 1; id <= collectedCards; id++) {
+            Card card = new Card();
+            card.setCardId(id);
+            card.setCardName("카드 " + id);
+            card.setCardImageUrl("https://example.com/" + id + ".png");
+            card.setCardNumberInPack(String.valueOf(id));
+            card.setCardType("포켓몬");
+            card.setCardAttribute1("물");
+            card.setPack(pack);
+            card.setRarity(rarity);
+
+            CollectedCard collectedCard = new CollectedCard();
+            collectedCard.setCollectedCardId(id);
+            collectedCard.setCategory(category);
+            collectedCard.setCard(card);
+            category.getCollectedCards().add(collectedCard);
+        }
+    }
+
+    @Benchmark
+    public CollectionCategoryDetailDTO toDetailDTO() {
+        return new CollectionCategoryDetailDTO(category);
+    }
+}
@@ -0,0 +1,123 @@
+package com.pokekor.pokekor.repository;
+
+import com.pokekor.pokekor.PokekorApplication;
+import com.pokekor.pokekor.catalog.CatalogCard;
+import com.pokekor.pokekor.dataset.DatasetSpec;
+import com.pokekor.pokekor.dataset.SyntheticDatasetGenerator;
+import com.pokekor.pokekor.domain.Card;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 카드 목록 조회 경로 비교 (H2 인메모리 DB, PostgreSQL 호환 모드)
+ *
+ * - entityFetchJoin: 이전 경로
+ *   (Card 엔티티를 Pack, Rarity와 JOIN FETCH로 읽어 영속성 컨텍스트에 올린 뒤 CatalogCard로 변환)
+ * - constructorProjection: 현재 경로 (CardRepository.findAllCatalogCards, 필요한 컬럼만 CatalogCard로 바로 생성)
+ *
+ * 두 경로 모두 읽기 전용 트랜잭션 하나에서 카탈로그 전체를 읽으며, 트랜잭션/JDBC/H2 비용이 함께 포함된다.
+ * (DB가 같은 프로세스에 있으므로 네트워크 전송량 차이는 나타나지 않고, Hibernate의 엔티티 생성/관리 비용 차이가 주로 보임)
+ *
+ * cards: 카탈로그 카드 수
+ */
+@State(Scope.Benchmark)
+public class CardReadPathBenchmark {
+
+    @Param({"2000", "20000"})
+    private int cards;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private CardRepository cardRepository;
+    private TransactionTemplate readOnly;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(PokekorApplication.class, BenchmarkMetrics.class)
+                .web(WebApplicationType.NONE)
+                // application.yml보다 우선하도록 명령행 인자로 전달 (PostgreSQL 대신 H2)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:card-read-path;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+                                + "DEFAULT_NULL_ORDERING=HIGH;IGNORE_UNKNOWN_SETTINGS=TRUE;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jwt.secret=pokekor-benchmark-secret-key-0123456789-abcdefghijklmn",
+                        "--management.server.port=-1",
+                        "--pokekor.catalog.refresh-interval=PT1H"
+                );
+
+        DatasetSpec spec = new DatasetSpec();
+        spec.setPacks(Math.max(1, cards / 200));
+        spec.setCards(cards);
+        spec.setUsers(0);
+        context.getBean(SyntheticDatasetGenerator.class).generate(spec);
+
+        entityManager = context.getBean(EntityManager.class);
+        cardRepository = context.getBean(CardRepository.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+    }
+
+    /**
+     * JMH jar는 의존성 jar를 하나로 합치면서 중복된 META-INF 파일을 하나만 남기므로 actuator 자동 설정이 빠질 수 있음
+     * (java -jar로 실행한 경우) -> 애플리케이션 빈이 쓰는 MeterRegistry를 직접 등록
+     */
+    @Configuration(proxyBeanMethods = false)
+    static class BenchmarkMetrics {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<CatalogCard> entityFetchJoin() {
+        return readOnly.execute(status -> entityManager
+                .createQuery("SELECT c FROM Card c LEFT JOIN FETCH c.pack LEFT JOIN FETCH c.rarity", Card.class)
+                .getResultList()
+                .stream()
+                .map(card -> new CatalogCard(
+                        card.getCardId(),
+                        card.getCardName(),
+                        card.getCardImageUrl(),
+                        card.getCardNumberInPack(),
+                        card.getCardType(),
+                        card.getCardAttribute1(),
+                        card.getCardAttribute2(),
+                        card.getPack() != null ? card.getPack().getPackId() : null,
+                        card.getPack() != null ? card.getPack().getPackNameKo() : null,
+                        card.getRarity() != null ? card.getRarity().getRarityId() : null))
+                .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public List<CatalogCard> constructorProjection() {
+        return readOnly.execute(status -> cardRepository.findAllCatalogCards());
+    }
+}
@@ -0,0 +1,147 @@
+package com.pokekor.pokekor.service;
+
+import com.pokekor.pokekor.catalog.CatalogCard;
+import com.pokekor.pokekor.collection.CollectionOverlay;
+import com.pokekor.pokekor.collection.CollectionOverlayRow;
+import com.pokekor.pokekor.domain.Card;
+import com.pokekor.pokekor.domain.CollectedCard;
+import com.pokekor.pokekor.domain.CollectionCategory;
+import com.pokekor.pokekor.domain.Pack;
+import com.pokekor.pokekor.domain.Rarity;
+import com.pokekor.pokekor.dto.CardDTO;
+import com.pokekor.pokekor.dto.CollectionInfoDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 카드 검색 응답(GET /api/cards)의 수집 정보 결합 + CardDTO 변환 비용
+ *
+ * - groupingByMap / entityCardDTOs: 이전 CardService 경로
+ *   (CollectedCard 엔티티 목록을 Collectors.groupingBy로 Map<cardId, List<CollectionInfoDTO>>로 만들고, Card 엔티티마다 getOrDefault)
+ * - collectionOverlay / catalogCardDTOs: 현재 경로
+ *   (프로젝션 행으로 CollectionOverlay를 만들고, CatalogCard마다 이진 탐색)
+ *
+ * cards: 검색 결과 카드 수, collected: 사용자가 수집한 카드 수 (카드당 카테고리 1~3개)
+ */
+@State(Scope.Benchmark)
+public class CardMappingBenchmark {
+
+    @Param({"2000"})
+    private int cards;
+
+    @Param({"100", "5000"})
+    private int collected;
+
+    private List<Card> cardEntities;
+    private List<CatalogCard> catalogCards;
+    private List<CollectedCard> collectedEntities;
+    private List<CollectionOverlayRow> overlayRows;
+
+    private Map<Long, List<CollectionInfoDTO>> groupedMap;
+    private CollectionOverlay overlay;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+
+        List<CollectionCategory> categories = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            CollectionCategory category = new CollectionCategory();
+            category.setCategoryId(id);
+            category.setCategoryName("카테고리 " + id);
+            category.setThemeColor("#00000" + id);
+            category.setCategoryType(id % 2 == 0 ? "WISHLIST" : "OWNED");
+            categories.add(category);
+        }
+
+        Pack pack = new Pack();
+        pack.setPackId(1L);
+        pack.setPackNameKo("벤치마크 팩");
+        Rarity rarity = new Rarity();
+        rarity.setRarityId("RR");
+
+        int catalogSize = Math.max(cards, collected);
+        List<Card> allCards = new ArrayList<>(catalogSize);
+        catalogCards = new ArrayList<>(cards);
+        for (long id = 1; id <= catalogSize; id++) {
+            Card card = new Card();
+            card.setCardId(id);
+            card.setCardName("카드 " + id);
+            card.setCardImageUrl("https://example.com/" + id + ".png");
+            card.setCardNumberInPack(String.valueOf(id));
+            card.setCardType("포켓몬");
+            card.setCardAttribute1("불꽃");
+            card.setPack(pack);
+            card.setRarity(rarity);
+            allCards.add(card);
+            if (id <= cards) {
+                catalogCards.add(new CatalogCard(id, card.getCardName(), card.getCardImageUrl(), card.getCardNumberInPack(),
+                        card.getCardType(), card.getCardAttribute1(), null, 1L, pack.getPackNameKo(), "RR"));
+            }
+        }
+        cardEntities = allCards.subList(0, cards);
+
+        collectedEntities = new ArrayList<>();
+        overlayRows = new ArrayList<>();
+        for (int i = 0; i < collected; i++) {
+            Card card = allCards.get(random.nextInt(catalogSize));
+            int categoryCount = 1 + random.nextInt(3);
+            int first = random.nextInt(categories.size());
+            for (int c = 0; c < categoryCount; c++) {
+                CollectionCategory category = categories.get((first + c) % categories.size());
+                CollectedCard collectedCard = new CollectedCard();
+                collectedCard.setCard(card);
+                collectedCard.setCategory(category);
+                collectedEntities.add(collectedCard);
+                overlayRows.add(new CollectionOverlayRow(card.getCardId(), category.getCategoryId(),
+                        category.getCategoryName(), category.getThemeColor()));
+            }
+        }
+
+        groupedMap = groupingByMap();
+        overlay = collectionOverlay();
+    }
+
+    @Benchmark
+    public Map<Long, List<CollectionInfoDTO>> groupingByMap() {
+        return collectedEntities.stream()
+                .collect(Collectors.groupingBy(
+                        cc -> cc.getCard().getCardId(),
+                        Collectors.mapping(
+                                cc -> new CollectionInfoDTO(
+                                        cc.getCategory().getCategoryName(),
+                                        cc.getCategory().getThemeColor()
+                                ),
+                                Collectors.toList()
+                        )
+                ));
+    }
+
+    @Benchmark
+    public CollectionOverlay collectionOverlay() {
+        return CollectionOverlay.build(overlayRows);
+    }
+
+    @Benchmark
+    public List<CardDTO> entityCardDTOs() {
+        return cardEntities.stream()
+                .map(card -> new CardDTO(card, groupedMap))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<CardDTO> catalogCardDTOs() {
+        return catalogCards.stream()
+                .map(card -> new CardDTO(card, overlay.collectionsOf(card.getCardId())))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,338 @@
+package com.pokekor.pokekor.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pokekor.pokekor.catalog.CatalogIndex;
+import com.pokekor.pokekor.dataset.DatasetResult;
+import com.pokekor.pokekor.dataset.DatasetSpec;
+import com.pokekor.pokekor.dataset.SyntheticDatasetGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * HTTP 부하 테스트 (실행: ./gradlew loadTest)
+ *
+ * H2 인메모리 DB(PostgreSQL 호환 모드)로 애플리케이션 전체를 띄우고, SyntheticDatasetGenerator로 합성 데이터를 넣은 뒤
+ * 여러 클라이언트 스레드가 실제 HTTP로 요청을 섞어 보내며 엔드포인트별 처리량과 p50/p99/p999를 기록한다.
+ * 외부 서비스가 필요 없으므로 일반 리눅스 머신에서 오프라인으로 실행할 수 있다.
+ *
+ * 설정 (gradle -P 또는 -D 로 지정, 예: ./gradlew loadTest -Ploadtest.clients=64 -Ploadtest.duration=PT60S)
+ * - loadtest.clients   동시 클라이언트(= 사용자) 수 (기본 32)
+ * - loadtest.cards     카탈로그 카드 수 (기본 20000)
+ * - loadtest.packs     팩 수 (기본 40)
+ * - loadtest.users     측정에 참여하지 않고 수집 데이터만 가진 배경 사용자 수 (기본 1000)
+ * - loadtest.warmup    측정 전 워밍업 시간 (기본 PT10S)
+ * - loadtest.duration  측정 시간 (기본 PT30S)
+ * - loadtest.max-p99-ms  지정하면 어느 엔드포인트든 p99가 이 값을 넘을 때 실패 (릴리스 게이트용)
+ *
+ * 오류 응답(예상하지 못한 상태 코드)이 하나라도 있으면 실패하며, 결과는 build/reports/loadtest/summary.txt 에도 남긴다.
+ * 측정이 끝난 시점의 서버 메트릭(/actuator/prometheus)은 build/reports/loadtest/prometheus.txt 에 남긴다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability(tracing = false) // 테스트에서도 Prometheus 레지스트리 사용
+@ActiveProfiles("loadtest")
+class ApiLoadTest {
+
+    private static final long SEED = 20241030L;
+    private static final String PASSWORD = "loadtest-password";
+
+    @LocalServerPort
+    private int port;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Autowired
+    private SyntheticDatasetGenerator datasetGenerator;
+
+    @Autowired
+    private CatalogIndex catalogIndex;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private long minCardId;
+    private long maxCardId;
+    private int packs;
+
+    @Test
+    void mixedTraffic() throws Exception {
+        int clients = Integer.getInteger("loadtest.clients", 32);
+        int cards = Integer.getInteger("loadtest.cards", 20_000);
+        packs = Integer.getInteger("loadtest.packs", 40);
+        int backgroundUsers = Integer.getInteger("loadtest.users", 1000);
+        Duration warmup = Duration.parse(System.getProperty("loadtest.warmup", "PT10S"));
+        Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT30S"));
+        String maxP99 = System.getProperty("loadtest.max-p99-ms");
+
+        // 1. 카탈로그와 배경 사용자 준비 후 인메모리 인덱스 재빌드
+        DatasetSpec spec = new DatasetSpec();
+        spec.setSeed(SEED);
+        spec.setPacks(packs);
+        spec.setCards(cards);
+        spec.setUsers(backgroundUsers);
+        spec.setHeavyUsers(0);
+        DatasetResult dataset = datasetGenerator.generate(spec);
+        minCardId = dataset.getFirstCardId();
+        maxCardId = dataset.getLastCardId();
+        catalogIndex.rebuild();
+
+        // 2. 사용자 준비 (가입, 로그인, 카테고리 생성은 측정하지 않음)
+        List<VirtualUser> users = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            users.add(createUser("loadtest-user-" + i, SEED + i));
+        }
+
+        // 3. 워밍업 (JIT, 커넥션 풀, 오버레이 캐시) 후 측정
+        run(users, warmup);
+        LatencyRecorder recorder = run(users, duration);
+
+        String report = String.format("clients=%d, cards=%d, packs=%d, users=%d, collected=%d, duration=%s%n%s",
+                clients, cards, packs, backgroundUsers, dataset.getCollectedCardsInserted(), duration,
+                recorder.report(duration));
+        System.out.println(report);
+        Path reportFile = Path.of("build", "reports", "loadtest", "summary.txt");
+        Files.createDirectories(reportFile.getParent());
+        Files.writeString(reportFile, report);
+        Files.writeString(reportFile.resolveSibling("prometheus.txt"), scrapeMetrics());
+
+        assertTrue(recorder.getErrors().isEmpty(), "오류 응답이 있습니다: " + recorder.getErrors());
+        if (maxP99 != null) {
+            double limit = Double.parseDouble(maxP99);
+            for (String endpoint : Endpoint.ALL) {
+                double p99 = recorder.percentileMillis(endpoint, 0.99);
+                assertTrue(p99 <= limit, endpoint + " p99 " + p99 + "ms > " + limit + "ms");
+            }
+        }
+    }
+
+    /**
+     * 모든 사용자가 각자 스레드에서 duration 동안 요청을 보내고, 스레드별 기록을 합쳐서 반환
+     */
+    private LatencyRecorder run(List<VirtualUser> users, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService clients = Executors.newFixedThreadPool(users.size());
+        try {
+            List<Future<LatencyRecorder>> results = new ArrayList<>();
+            for (VirtualUser user : users) {
+                results.add(clients.submit(() -> user.runUntil(deadline)));
+            }
+            LatencyRecorder merged = new LatencyRecorder();
+            for (Future<LatencyRecorder> result : results) {
+                merged.merge(result.get());
+            }
+            return merged;
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    /**
+     * 관리 포트의 Prometheus 스크레이프 결과
+     */
+    private String scrapeMetrics() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + managementPort + "/actuator/prometheus")).GET().build();
+        HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+        assertTrue(response.statusCode() == 200, "메트릭 스크레이프 실패: " + response.statusCode());
+        return response.body();
+    }
+
+    private VirtualUser createUser(String username, long seed) throws IOException, InterruptedException {
+        String credentials = objectMapper.writeValueAsString(Map.of("username", username, "password", PASSWORD));
+        send(post("/api/auth/register", null, credentials), 201);
+        String token = objectMapper.readTree(send(post("/api/auth/login", null, credentials), 200).body())
+                .get("accessToken").asText();
+
+        String category = objectMapper.writeValueAsString(
+                Map.of("categoryName", "부하 테스트", "categoryType", "OWNED", "themeColor", "#FF0000"));
+        long categoryId = objectMapper.readTree(send(post("/api/my-collections", token, category), 201).body())
+                .get("categoryId").asLong();
+        return new VirtualUser(username, credentials, token, categoryId, new SplittableRandom(seed));
+    }
+
+    private HttpResponse<String> send(HttpRequest request, int expectedStatus) throws IOException, InterruptedException {
+        HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != expectedStatus) {
+            throw new IllegalStateException(request.method() + " " + request.uri() + " -> " + response.statusCode() + ": " + response.body());
+        }
+        return response;
+    }
+
+    private HttpRequest get(String path, String token) {
+        return request(path, token).GET().build();
+    }
+
+    private HttpRequest post(String path, String token, String json) {
+        return request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private HttpRequest delete(String path, String token) {
+        return request(path, token).DELETE().build();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    /**
+     * 리포트에 쓰는 엔드포인트 이름
+     */
+    private static final class Endpoint {
+        static final String LOGIN = "POST /api/auth/login";
+        static final String CARDS = "GET /api/cards";
+        static final String CARDS_PAGE = "GET /api/cards/page";
+        static final String MY_COLLECTIONS = "GET /api/my-collections";
+        static final String CATEGORY_DETAIL = "GET /api/my-collections/{id}";
+        static final String ADD_CARD = "POST /api/my-collections/{id}/cards";
+        static final String REMOVE_CARD = "DELETE /api/my-collections/{id}/cards/{cardId}";
+        static final List<String> ALL = List.of(LOGIN, CARDS, CARDS_PAGE, MY_COLLECTIONS, CATEGORY_DETAIL, ADD_CARD, REMOVE_CARD);
+    }
+
+    /**
+     * 사용자 한 명의 요청 흐름 (한 스레드에서만 사용)
+     *
+     * 요청 비율: 카드 검색 50%, 카드 페이지 15%, 내 카테고리 목록 10%, 카테고리 상세 8%, 카드 추가/제거 14%, 로그인 3%
+     * 카드 추가/제거는 사용자가 수집한 카드를 직접 추적해서, 항상 성공해야 하는 요청만 보낸다 (201/200 외에는 오류).
+     */
+    private final class VirtualUser {
+        private final String username;
+        private final String credentials;
+        private final String token;
+        private final long categoryId;
+        private final SplittableRandom random;
+        private final List<Long> collected = new ArrayList<>();
+        private final Set<Long> collectedSet = new HashSet<>();
+
+        VirtualUser(String username, String credentials, String token, long categoryId, SplittableRandom random) {
+            this.username = username;
+            this.credentials = credentials;
+            this.token = token;
+            this.categoryId = categoryId;
+            this.random = random;
+        }
+
+        LatencyRecorder runUntil(long deadline) {
+            LatencyRecorder recorder = new LatencyRecorder();
+            while (System.nanoTime() < deadline) {
+                int roll = random.nextInt(100);
+                if (roll < 50) {
+                    call(recorder, Endpoint.CARDS, get("/api/cards" + randomFilter(), token), 200);
+                } else if (roll < 65) {
+                    call(recorder, Endpoint.CARDS_PAGE, get("/api/cards/page?size=50" + randomFilter().replace('?', '&'), token), 200);
+                } else if (roll < 75) {
+                    call(recorder, Endpoint.MY_COLLECTIONS, get("/api/my-collections", token), 200);
+                } else if (roll < 83) {
+                    call(recorder, Endpoint.CATEGORY_DETAIL, get("/api/my-collections/" + categoryId, token), 200);
+                } else if (roll < 97) {
+                    toggleCard(recorder);
+                } else {
+                    call(recorder, Endpoint.LOGIN, post("/api/auth/login", null, credentials), 200);
+                }
+            }
+            return recorder;
+        }
+
+        /**
+         * 수집한 카드가 적으면 추가, 많으면 제거 위주로 (카테고리 크기를 일정 범위로 유지)
+         */
+        private void toggleCard(LatencyRecorder recorder) {
+            boolean add = collected.isEmpty() || (collected.size() < 200 && random.nextBoolean());
+            if (add) {
+                long cardId = minCardId + random.nextLong(maxCardId - minCardId + 1);
+                if (!collectedSet.add(cardId)) {
+                    return;
+                }
+                collected.add(cardId);
+                call(recorder, Endpoint.ADD_CARD,
+                        post("/api/my-collections/" + categoryId + "/cards", token, "{\"cardId\":" + cardId + "}"), 201);
+            } else {
+                int index = random.nextInt(collected.size());
+                long cardId = collected.get(index);
+                collected.set(index, collected.get(collected.size() - 1));
+                collected.remove(collected.size() - 1);
+                collectedSet.remove(cardId);
+                call(recorder, Endpoint.REMOVE_CARD,
+                        delete("/api/my-collections/" + categoryId + "/cards/" + cardId, token), 200);
+            }
+        }
+
+        /**
+         * 검색 필터 조합 (필터 없음 5%, 팩, 팩 + 레어도, 이름, 유형 + 속성)
+         */
+        private String randomFilter() {
+            int roll = random.nextInt(100);
+            if (roll < 5) {
+                return "";
+            } else if (roll < 35) {
+                return "?packId=" + (1 + random.nextInt(packs));
+            } else if (roll < 55) {
+                return "?packId=" + (1 + random.nextInt(packs))
+                        + "&rarityId=" + SyntheticDatasetGenerator.RARITY_IDS.get(
+                        random.nextInt(SyntheticDatasetGenerator.RARITY_IDS.size()));
+            } else if (roll < 80) {
+                String name = SyntheticDatasetGenerator.POKEMON_NAMES.get(
+                        random.nextInt(SyntheticDatasetGenerator.POKEMON_NAMES.size()));
+                return "?name=" + URLEncoder.encode(name.substring(0, Math.min(2, name.length())), StandardCharsets.UTF_8);
+            }
+            return "?type=" + URLEncoder.encode(SyntheticDatasetGenerator.CARD_TYPES.get(0), StandardCharsets.UTF_8)
+                    + "&attribute=" + URLEncoder.encode(SyntheticDatasetGenerator.ATTRIBUTES.get(
+                    random.nextInt(SyntheticDatasetGenerator.ATTRIBUTES.size())), StandardCharsets.UTF_8);
+        }
+
+        private void call(LatencyRecorder recorder, String endpoint, HttpRequest request, int expectedStatus) {
+            long startedAt = System.nanoTime();
+            try {
+                HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                long elapsed = System.nanoTime() - startedAt;
+                if (response.statusCode() == expectedStatus) {
+                    recorder.record(endpoint, elapsed);
+                } else {
+                    recorder.error(endpoint, "HTTP " + response.statusCode() + " (" + username + ")");
+                }
+            } catch (IOException e) {
+                recorder.error(endpoint, e.getClass().getSimpleName());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                recorder.error(endpoint, "interrupted");
+            }
+        }
+    }
+}
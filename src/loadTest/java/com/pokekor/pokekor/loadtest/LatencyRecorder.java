@@ -0,0 +1,99 @@
+package com.pokekor.pokekor.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 엔드포인트별 응답 시간 기록 (클라이언트 스레드마다 하나씩 사용하고 마지막에 merge)
+ */
+final class LatencyRecorder {
+
+    private final Map<String, Samples> samples = new TreeMap<>();
+    private final Map<String, Integer> errors = new TreeMap<>();
+
+    void record(String endpoint, long nanos) {
+        samples.computeIfAbsent(endpoint, k -> new Samples()).add(nanos);
+    }
+
+    void error(String endpoint, String reason) {
+        errors.merge(endpoint + " -> " + reason, 1, Integer::sum);
+    }
+
+    void merge(LatencyRecorder other) {
+        other.samples.forEach((endpoint, values) ->
+                samples.computeIfAbsent(endpoint, k -> new Samples()).addAll(values));
+        other.errors.forEach((key, count) -> errors.merge(key, count, Integer::sum));
+    }
+
+    Map<String, Integer> getErrors() {
+        return errors;
+    }
+
+    /**
+     * 엔드포인트의 백분위 응답 시간 (ms)
+     */
+    double percentileMillis(String endpoint, double percentile) {
+        Samples values = samples.get(endpoint);
+        return values == null ? 0 : values.percentile(percentile) / 1_000_000.0;
+    }
+
+    String report(Duration duration) {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%-48s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)"));
+        long total = 0;
+        for (Map.Entry<String, Samples> entry : samples.entrySet()) {
+            Samples values = entry.getValue();
+            values.sort();
+            total += values.size;
+            out.append(String.format("%-48s %9d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey(), values.size, values.size / (double) duration.toSeconds(),
+                    values.percentile(0.50) / 1e6, values.percentile(0.99) / 1e6,
+                    values.percentile(0.999) / 1e6, values.percentile(1.0) / 1e6));
+        }
+        out.append(String.format("%-48s %9d %9.1f%n", "total", total, total / (double) duration.toSeconds()));
+        errors.forEach((key, count) -> out.append("error: ").append(key).append(" x").append(count).append('\n'));
+        return out.toString();
+    }
+
+    /**
+     * 박싱 없는 long 가변 배열
+     */
+    private static final class Samples {
+        private long[] values = new long[1024];
+        private int size;
+        private boolean sorted;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+            sorted = false;
+        }
+
+        void addAll(Samples other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.values[i]);
+            }
+        }
+
+        void sort() {
+            if (!sorted) {
+                Arrays.sort(values, 0, size);
+                sorted = true;
+            }
+        }
+
+        long percentile(double percentile) {
+            if (size == 0) {
+                return 0;
+            }
+            sort();
+            int rank = (int) Math.ceil(percentile * size);
+            return values[Math.max(0, Math.min(size, rank) - 1)];
+        }
+    }
+}
@@ -2,8 +2,10 @@ package com.pokekor.pokekor;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling // 카탈로그 인덱스 주기적 갱신 등
 public class PokekorApplication {
 
     public static void main(String[] args) {
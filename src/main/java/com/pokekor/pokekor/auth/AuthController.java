@@ -1,15 +1,23 @@
 package com.pokekor.pokekor.auth;
 
-import com.pokekor.pokekor.domain.User;
 import lombok.RequiredArgsConstructor;
+import com.pokekor.pokekor.metrics.QueryBudget;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
@@ -17,53 +25,115 @@ public class AuthController {
     private final SignUpService signUpService;
 
     /**
-     * 회원가입 API 엔드포인트 (기존과 동일)
+     * 회원가입 API 엔드포인트
      * POST /api/auth/register
+     *
+     * [수정] 비밀번호 해시를 별도 스레드 풀에서 기다리는 동안 요청 스레드를 반환 (CompletableFuture 비동기 응답)
      */
     @PostMapping("/register")
-    public ResponseEntity<String> registerUser(@RequestBody AuthDTO dto) {
+    @QueryBudget(1) // 중복 아이디 확인 (해시와 저장은 해시 전용 스레드)
+    public CompletableFuture<ResponseEntity<String>> registerUser(@RequestBody AuthDTO dto) {
         try {
-            User registeredUser = signUpService.registerUser(dto);
-            // 회원가입 성공 시 201 Created 응답과 메시지 반환
-            return ResponseEntity
-                    .status(HttpStatus.CREATED)
-                    .body("회원가입 성공: " + registeredUser.getUsername());
-        } catch (IllegalStateException e) {
-            // 아이디 중복 등 예외 발생 시 409 Conflict 응답
-            return ResponseEntity
-                    .status(HttpStatus.CONFLICT)
-                    .body(e.getMessage());
+            return signUpService.registerUser(dto)
+                    // 회원가입 성공 시 201 Created 응답과 메시지 반환
+                    .thenApply(registeredUser -> ResponseEntity
+                            .status(HttpStatus.CREATED)
+                            .body("회원가입 성공: " + registeredUser.getUsername()))
+                    .exceptionally(e -> registerFailure(unwrap(e)));
         } catch (Exception e) {
-            // 기타 서버 오류 시 500 Internal Server Error 응답
+            return CompletableFuture.completedFuture(registerFailure(e));
+        }
+    }
+
+    private ResponseEntity<String> registerFailure(Throwable e) {
+        if (e instanceof RejectedExecutionException) {
+            // 해시 대기열이 가득 참 -> 기다리지 않고 503 Service Unavailable
+            return serviceBusy();
+        }
+        if (e instanceof IllegalStateException || e instanceof DataIntegrityViolationException) {
+            // 아이디 중복 등 예외 발생 시 409 Conflict 응답 (동시 가입은 unique 제약 위반)
+            String message = e instanceof IllegalStateException ? e.getMessage() : "이미 존재하는 아이디입니다.";
             return ResponseEntity
-                    .status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body("서버 오류: " + e.getMessage());
+                    .status(HttpStatus.CONFLICT)
+                    .body(message);
         }
+        // 기타 서버 오류 시 500 Internal Server Error 응답
+        return ResponseEntity
+                .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body("서버 오류: " + e.getMessage());
     }
 
     /**
      * [추가됨] 로그인 API 엔드포인트
      * POST /api/auth/login
+     *
+     * [수정] 비밀번호 비교(BCrypt)를 별도 스레드 풀에서 기다리는 동안 요청 스레드를 반환 (CompletableFuture 비동기 응답)
      */
     @PostMapping("/login")
+    @QueryBudget(0) // 사용자 조회와 비밀번호 확인은 해시 전용 스레드
     // [수정됨] DTO 클래스 참조 변경 (AuthDTO.LoginRequest -> AuthDTO)
-    public ResponseEntity<?> loginUser(@RequestBody AuthDTO loginRequest) {
+    public CompletableFuture<ResponseEntity<?>> loginUser(@RequestBody AuthDTO loginRequest) {
         try {
             // [수정됨] DTO 및 서비스 참조 변경 (반환 타입이 AuthDTO)
-            AuthDTO loginResponse = signUpService.login(loginRequest);
-
-            // 로그인 성공 시 200 OK와 함께 JWT 토큰이 담긴 응답(AuthDTO) 반환
-            // (AuthDTO의 @JsonInclude 덕분에 password, email은 null이라 전송되지 않음)
-            return ResponseEntity.ok(loginResponse);
+            return signUpService.login(loginRequest)
+                    // 로그인 성공 시 200 OK와 함께 JWT 토큰이 담긴 응답(AuthDTO) 반환
+                    // (AuthDTO의 @JsonInclude 덕분에 password, email은 null이라 전송되지 않음)
+                    .<ResponseEntity<?>>thenApply(ResponseEntity::ok)
+                    .exceptionally(e -> loginFailure(unwrap(e)));
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(loginFailure(e));
+        }
+    }
 
-        } catch (AuthenticationException e) {
+    private ResponseEntity<?> loginFailure(Throwable e) {
+        if (e instanceof RejectedExecutionException) {
+            // 해시 대기열이 가득 참 -> 기다리지 않고 503 Service Unavailable
+            return serviceBusy();
+        }
+        if (e instanceof AuthenticationException) {
             // Spring Security 인증 실패 시 (예: 아이디 없음, 비밀번호 틀림)
             // 401 Unauthorized (권한 없음) 응답
             return ResponseEntity
                     .status(HttpStatus.UNAUTHORIZED)
                     .body("아이디 또는 비밀번호가 일치하지 않습니다.");
+        }
+        // 기타 서버 오류 시 500 Internal Server Error 응답
+        return ResponseEntity
+                .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body("서버 오류: " + e.getMessage());
+    }
+
+    private static ResponseEntity<String> serviceBusy() {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body("로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    /**
+     * CompletableFuture 단계에서 감싼 예외(CompletionException)를 풀어서 원래 예외를 반환
+     */
+    private static Throwable unwrap(Throwable e) {
+        return (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
+    }
+
+    /**
+     * [추가] 로그아웃 API 엔드포인트 (이 사용자에게 발급된 토큰을 모두 무효화)
+     * POST /api/auth/logout
+     */
+    @PostMapping("/logout")
+    @QueryBudget(0)
+    public ResponseEntity<?> logoutUser(@AuthenticationPrincipal UserDetails userDetails) {
+        // /api/auth/** 는 인증 없이 허용되므로 유효한 토큰이 없으면 여기서 401
+        if (userDetails == null) {
+            return ResponseEntity
+                    .status(HttpStatus.UNAUTHORIZED)
+                    .body("로그인이 필요합니다.");
+        }
+        try {
+            signUpService.logout(userDetails.getUsername());
+            return ResponseEntity.noContent().build();
         } catch (Exception e) {
-            // 기타 서버 오류 시 500 Internal Server Error 응답
             return ResponseEntity
                     .status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body("서버 오류: " + e.getMessage());
@@ -0,0 +1,25 @@
+package com.pokekor.pokekor.auth;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * 인증된 사용자 (Spring Security principal)
+ * 기본 User에 숫자 사용자 ID(userId)를 더한 것으로, 컨트롤러는 기존처럼 @AuthenticationPrincipal UserDetails로 받아도 된다.
+ *
+ * - 로그인 시: CustomUserDetailService가 DB에서 읽어서 생성 (비밀번호 해시 포함, 인증 후 지워짐)
+ * - 요청 인증 시: JWT 클레임(sub, uid)만으로 생성 (비밀번호 없음, DB 조회 없음)
+ */
+@Getter
+public class AuthUser extends User {
+
+    private final Long userId;
+
+    public AuthUser(Long userId, String username, String password, Collection<? extends GrantedAuthority> authorities) {
+        super(username, password, authorities);
+        this.userId = userId;
+    }
+}
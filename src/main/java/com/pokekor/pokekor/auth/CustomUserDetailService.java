@@ -1,7 +1,6 @@
 package com.pokekor.pokekor.auth;
 
 import com.pokekor.pokekor.repository.UserRepository;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -28,6 +27,7 @@ public class CustomUserDetailService implements UserDetailsService {
 
         // Spring Security가 사용하는 UserDetails 객체로 변환하여 반환
         // (권한(Authority)은 지금 당장 없으므로 빈 리스트(ArrayList) 전달)
-        return new User(user.getUsername(), user.getPassword(), new ArrayList<>());
+        // [수정] 숫자 사용자 ID를 함께 담는 AuthUser로 반환 (로그인 시 토큰의 uid 클레임이 됨)
+        return new AuthUser(user.getUserId(), user.getUsername(), user.getPassword(), new ArrayList<>());
     }
 }
@@ -1,10 +1,13 @@
 package com.pokekor.pokekor.auth;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -14,10 +17,20 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Collections;
 
 /**
  * 모든 HTTP 요청 이전에 단 한 번 실행되어
  * 요청 헤더의 JWT 토큰을 검증하고 사용자를 인증하는 필터
+ *
+ * [추가] 인증 모드 (pokekor.auth.mode)
+ * - token (기본): 서명이 검증된 토큰의 클레임(sub, uid)만으로 principal(AuthUser)을 만들고 DB를 조회하지 않음
+ *   (uid 클레임이 없는 이전 토큰만 DB에서 조회)
+ * - database: 기존처럼 요청마다 DB에서 사용자를 조회
+ * 두 모드 모두 로그아웃으로 무효화된 토큰(TokenRevocationList)은 거부한다.
+ *
+ * [추가] Bearer 토큰이 있는 요청의 인증 처리 시간을 pokekor.auth.jwt 타이머로 기록
+ * (태그 outcome: authenticated | rejected | error, 이후 필터와 컨트롤러 시간은 포함하지 않음)
  */
 @Component
 @RequiredArgsConstructor
@@ -25,6 +38,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final CustomUserDetailService userDetailsService;
+    private final TokenRevocationList tokenRevocationList; // [추가]
+    private final MeterRegistry meterRegistry; // [추가]
+
+    @Value("${pokekor.auth.mode:token}")
+    private String authMode; // [추가]
 
     @Override
     protected void doFilterInternal(
@@ -35,7 +53,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         final String authHeader = request.getHeader("Authorization"); // "Authorization" 헤더
         final String jwt;
-        final String username;
 
         // 1. "Authorization" 헤더가 없거나 "Bearer "로 시작하지 않으면,
         //    이 요청은 JWT 인증이 필요 없는 요청(예: 로그인, 회원가입)이므로 다음 필터로 넘김
@@ -47,18 +64,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 2. "Bearer " 문자열(7글자) 이후의 토큰(jwt) 부분만 추출
         jwt = authHeader.substring(7);
 
+        Timer.Sample sample = Timer.start(meterRegistry); // [추가]
+        String outcome = "rejected";
         try {
-            // 3. 토큰에서 사용자 아이디(username) 추출
-            username = jwtUtil.extractUsername(jwt);
+            // 3. [수정] 토큰 검증 (서명, 만료)과 사용자 아이디(username) 추출을 한 번에
+            //    (토큰은 한 번만 파싱하며, 최근 검증한 토큰이면 파싱 없이 캐시에서 확인)
+            JwtUtil.VerifiedToken verified = jwtUtil.verify(jwt);
 
-            // 4. 사용자 아이디가 존재하고, 아직 현재 SecurityContext에 인증 정보가 없다면
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            // 4. 유효하고 로그아웃으로 무효화되지 않은 토큰이며, 아직 현재 SecurityContext에 인증 정보가 없다면
+            if (verified != null
+                    && !tokenRevocationList.isRevoked(verified.getUsername(), verified.getIssuedAtMillis())
+                    && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-                // 5. DB에서 사용자 정보 조회
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+                // 5. [수정] 사용자 정보 생성 (token 모드는 토큰 클레임으로, 그 외에는 DB에서 조회)
+                UserDetails userDetails = resolveUser(verified);
 
-                // 6. 토큰 검증 (사용자 정보 일치, 만료 여부)
-                if (jwtUtil.validateToken(jwt, userDetails)) {
+                // 6. 토큰의 사용자와 조회한 사용자가 일치하는지 확인 (서명, 만료는 3에서 검증됨)
+                if (verified.getUsername().equals(userDetails.getUsername())) {
                     // 7. 토큰이 유효하면, Spring Security가 사용할 인증 토큰(UsernamePasswordAuthenticationToken) 생성
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
@@ -72,15 +94,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     // 8. (중요) SecurityContextHolder에 인증 정보(authToken)를 저장
                     //    -> 이 작업이 완료되면 Spring Security는 이 사용자를 '인증된' 사용자로 간주
                     SecurityContextHolder.getContext().setAuthentication(authToken);
+                    outcome = "authenticated";
                 }
             }
         } catch (Exception e) {
             // 토큰 검증 실패 시 (예: 만료, 서명 불일치 등)
             // (로깅 추가 가능)
             SecurityContextHolder.clearContext(); // 컨텍스트 클리어
+            outcome = "error";
+        } finally {
+            sample.stop(Timer.builder("pokekor.auth.jwt")
+                    .description("JWT 인증 필터 처리 시간")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
         }
 
         // 9. 다음 필터 체인 실행
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * [추가] 검증된 토큰의 사용자 정보
+     */
+    private UserDetails resolveUser(JwtUtil.VerifiedToken verified) {
+        if ("token".equals(authMode) && verified.getUserId() != null) {
+            // 서명으로 내용이 보장되므로 DB 조회 없이 클레임만으로 생성 (비밀번호는 필요 없음)
+            return new AuthUser(verified.getUserId(), verified.getUsername(), "", Collections.emptyList());
+        }
+        return this.userDetailsService.loadUserByUsername(verified.getUsername());
+    }
 }
@@ -1,47 +1,153 @@
 package com.pokekor.pokekor.auth;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.function.Function;
 
 /**
  * JWT 토큰 생성, 검증, 정보 추출을 담당하는 유틸리티 클래스
+ *
+ * [수정] 서명 키와 파서는 생성 시 한 번만 만들고(둘 다 불변이라 스레드 안전), 요청마다 토큰을 한 번만 파싱한다.
+ * 최근 검증한 토큰은 SHA-256 다이제스트 -> (username, 만료 시각)으로 일정 개수까지 캐시해서,
+ * 같은 토큰으로 계속 요청하는 클라이언트는 서명 검증과 클레임 JSON 파싱을 건너뛴다.
+ * (원본 토큰 문자열은 캐시에 남기지 않음)
+ *
+ * [추가] 토큰에는 subject(username) 외에 숫자 사용자 ID(uid)와 밀리초 단위 발급 시각(iat_ms)을 담아서,
+ * 요청 인증 시 DB를 조회하지 않고 principal을 만들고 로그아웃 무효화(TokenRevocationList)를 확인할 수 있게 한다.
  */
 @Component
 public class JwtUtil {
 
-    // application.properties에 설정된 시크릿 키
-    @Value("${spring.jwt.secret}")
-    private String secretKey;
-
     // 토큰 만료 시간 (예: 24시간)
-    private static final long EXPIRATION_TIME_MS = 1000 * 60 * 60 * 24;
+    static final long EXPIRATION_TIME_MS = 1000 * 60 * 60 * 24;
+
+    // [추가] 커스텀 클레임 이름
+    static final String USER_ID_CLAIM = "uid";
+    static final String ISSUED_AT_MILLIS_CLAIM = "iat_ms"; // 표준 iat는 초 단위라 로그아웃과 같은 초에 발급된 토큰을 구분할 수 없음
+
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    // [추가] 검증된 토큰 캐시 (access-order LinkedHashMap, 가장 오래 사용하지 않은 토큰부터 제거)
+    private final Map<ByteBuffer, VerifiedToken> verifiedTokens;
+
+    public JwtUtil(
+            // application.yml에 설정된 시크릿 키
+            @Value("${spring.jwt.secret}") String secretKey,
+            @Value("${pokekor.auth.token-cache.max-entries:10000}") int maxCachedTokens
+    ) {
+        // 시크릿 키를 HMAC-SHA 알고리즘에 맞는 SecretKey 객체로 변환 (한 번만)
+        this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey) // 시크릿 키로 검증
+                .build();
+        this.verifiedTokens = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ByteBuffer, VerifiedToken> eldest) {
+                return size() > maxCachedTokens;
+            }
+        };
+    }
 
     /**
-     * 시크릿 키를 HMAC-SHA 알고리즘에 맞는 SecretKey 객체로 변환
+     * [추가] 서명과 만료를 확인한 토큰 정보
      */
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    @Getter
+    @AllArgsConstructor
+    public static class VerifiedToken {
+        private final String username;
+        private final Long userId;          // [추가] uid 클레임 (이 클레임이 없던 이전 토큰은 null)
+        private final long issuedAtMillis;  // [추가] 발급 시각 (무효화 확인용)
+        private final long expiresAtMillis;
+
+        boolean isExpired(long nowMillis) {
+            return expiresAtMillis <= nowMillis;
+        }
+    }
+
+    /**
+     * [추가] 토큰을 검증하고 사용자 정보를 반환 (요청당 한 번만 호출)
+     * 캐시에 있으면 만료 시각만 확인하고, 없으면 한 번 파싱(서명 + 만료 검증)한 뒤 캐시에 넣는다.
+     *
+     * @return 유효한 토큰이면 VerifiedToken, 서명이 틀리거나 만료되었거나 형식이 잘못되었으면 null
+     */
+    public VerifiedToken verify(String token) {
+        long now = System.currentTimeMillis();
+        ByteBuffer digest = digest(token);
+
+        VerifiedToken cached;
+        synchronized (verifiedTokens) {
+            cached = verifiedTokens.get(digest);
+        }
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return cached;
+            }
+            synchronized (verifiedTokens) {
+                verifiedTokens.remove(digest);
+            }
+            return null;
+        }
+
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload(); // 서명 검증 + 만료 검증 (1회)
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+        if (claims.getSubject() == null || claims.getExpiration() == null) {
+            return null;
+        }
+
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        Number issuedAtMillis = claims.get(ISSUED_AT_MILLIS_CLAIM, Number.class);
+        long issuedAt = issuedAtMillis != null ? issuedAtMillis.longValue()
+                : claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0L;
+
+        VerifiedToken verified = new VerifiedToken(
+                claims.getSubject(),
+                userId != null ? userId.longValue() : null,
+                issuedAt,
+                claims.getExpiration().getTime()
+        );
+        synchronized (verifiedTokens) {
+            verifiedTokens.put(digest, verified);
+        }
+        return verified;
+    }
+
+    /**
+     * [추가] 검증 캐시에 있는 토큰 수 (테스트 확인용)
+     */
+    int cachedTokenCount() {
+        synchronized (verifiedTokens) {
+            return verifiedTokens.size();
+        }
     }
 
     /**
      * 토큰에서 모든 클레임(정보)을 추출
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey()) // 시크릿 키로 검증
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     /**
@@ -66,38 +172,50 @@ public class JwtUtil {
         return extractClaim(token, Claims::getExpiration);
     }
 
-    /**
-     * 토큰이 만료되었는지 확인
-     */
-    private Boolean isTokenExpired(String token) {
-        // 만료 시간이 현재 시간보다 이전인지 확인
-        return extractExpiration(token).before(new Date());
-    }
-
     /**
      * UserDetails를 기반으로 JWT 토큰을 생성
      */
     public String generateToken(UserDetails userDetails) {
-        return createToken(userDetails.getUsername());
+        // [수정] AuthUser이면 숫자 사용자 ID도 토큰에 담음
+        Long userId = (userDetails instanceof AuthUser authUser) ? authUser.getUserId() : null;
+        return createToken(userDetails.getUsername(), userId);
     }
 
     /**
      * 사용자 아이디(subject)를 기반으로 실제 JWT 토큰을 생성
      */
-    private String createToken(String subject) {
-        return Jwts.builder()
+    private String createToken(String subject, Long userId) {
+        long now = System.currentTimeMillis();
+        JwtBuilder builder = Jwts.builder()
                 .subject(subject) // 토큰 제목 (사용자 아이디)
-                .issuedAt(new Date(System.currentTimeMillis())) // 발급 시간
-                .expiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME_MS)) // 만료 시간
-                .signWith(getSigningKey()) // 서명 (HMAC-SHA 사용)
+                .issuedAt(new Date(now)) // 발급 시간
+                .expiration(new Date(now + EXPIRATION_TIME_MS)) // 만료 시간
+                .claim(ISSUED_AT_MILLIS_CLAIM, now); // [추가] 밀리초 단위 발급 시간
+        if (userId != null) {
+            builder.claim(USER_ID_CLAIM, userId); // [추가] 숫자 사용자 ID
+        }
+        return builder
+                .signWith(signingKey) // 서명 (HMAC-SHA 사용)
                 .compact();
     }
 
     /**
      * 토큰이 유효한지 검증 (사용자 아이디 일치 및 만료 여부)
+     * [수정] 토큰을 여러 번 파싱하지 않고 verify 한 번으로 확인
      */
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        VerifiedToken verified = verify(token);
+        return verified != null && verified.getUsername().equals(userDetails.getUsername());
+    }
+
+    /**
+     * 토큰의 SHA-256 다이제스트 (캐시 키, ByteBuffer는 내용 기준으로 equals/hashCode)
+     */
+    private static ByteBuffer digest(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // SHA-256은 모든 JVM에서 지원
+        }
     }
 }
@@ -0,0 +1,106 @@
+package com.pokekor.pokekor.auth;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시(BCrypt) 전용 스레드 풀
+ *
+ * BCrypt는 한 번에 수십 ms의 CPU를 쓰므로, 로그인/회원가입이 몰리면 Tomcat 요청 스레드가 모두 해시 계산에 묶여
+ * 카드 조회 같은 가벼운 요청까지 멈춘다. 해시 작업은 이 풀에서만 실행하고,
+ * 대기열(queue-capacity)까지 가득 차면 기다리지 않고 바로 거절(RejectedExecutionException -> 503)한다.
+ *
+ * 메트릭
+ * - pokekor.auth.hash (Timer, operation=login|register): 대기열에서 꺼낸 후 작업 실행 시간
+ * - pokekor.auth.hash.queue.wait (Timer): 대기열에서 기다린 시간
+ * - pokekor.auth.hash.queue.size / pokekor.auth.hash.active (Gauge): 대기 중인 작업 수 / 실행 중인 스레드 수
+ * - pokekor.auth.hash.rejected (Counter): 가득 차서 거절된 작업 수
+ *
+ * (Executor 타입의 빈으로 등록하면 Spring Boot 기본 applicationTaskExecutor가 만들어지지 않으므로 내부에만 둠)
+ */
+@Slf4j
+@Component
+public class PasswordHashExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final Timer queueWait;
+    private final Counter rejected;
+
+    public PasswordHashExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${pokekor.auth.hash-executor.threads:0}") int threads,
+            @Value("${pokekor.auth.hash-executor.queue-capacity:100}") int queueCapacity
+    ) {
+        // 0이면 CPU 코어의 절반 (나머지 코어는 조회 요청이 쓸 수 있도록)
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.meterRegistry = meterRegistry;
+        this.queueWait = Timer.builder("pokekor.auth.hash.queue.wait")
+                .description("비밀번호 해시 작업의 대기열 대기 시간")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("pokekor.auth.hash.rejected")
+                .description("대기열이 가득 차서 거절된 비밀번호 해시 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("pokekor.auth.hash.queue.size", executor, pool -> pool.getQueue().size())
+                .description("대기 중인 비밀번호 해시 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("pokekor.auth.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("비밀번호 해시를 실행 중인 스레드 수")
+                .register(meterRegistry);
+
+        log.info("비밀번호 해시 스레드 풀: threads={}, queueCapacity={}", poolSize, queueCapacity);
+    }
+
+    /**
+     * 해시 작업을 풀에서 실행
+     * @param operation (메트릭 태그, 예: login, register)
+     * @throws RejectedExecutionException 대기열이 가득 찬 경우 (호출 스레드에서 바로 발생)
+     */
+    public <T> CompletableFuture<T> submit(String operation, Supplier<T> task) {
+        Timer timer = Timer.builder("pokekor.auth.hash")
+                .description("비밀번호 해시 작업 실행 시간")
+                .tag("operation", operation)
+                .register(meterRegistry);
+        long submittedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                queueWait.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return timer.record(task);
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
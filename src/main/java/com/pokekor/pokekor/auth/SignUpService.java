@@ -10,7 +10,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -19,53 +20,73 @@ public class SignUpService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager; // [추가됨]
     private final JwtUtil jwtUtil; // [추가됨]
+    private final TokenRevocationList tokenRevocationList; // [추가]
+    private final PasswordHashExecutor passwordHashExecutor; // [추가] BCrypt 전용 스레드 풀
 
     /**
      * 회원가입 비즈니스 로직
+     * [수정] 비밀번호 해시는 PasswordHashExecutor에서 실행 (요청 스레드를 점유하지 않음)
+     * 해시 계산 동안 트랜잭션/DB 커넥션을 잡고 있지 않도록 메서드 전체 트랜잭션은 제거하고,
+     * 조회와 저장은 리포지토리 메서드 각각의 트랜잭션을 사용
+     *
+     * @throws java.util.concurrent.RejectedExecutionException 해시 대기열이 가득 찬 경우
      */
-    @Transactional // 쓰기 트랜잭션 적용
-    public User registerUser(AuthDTO request) {
-        // 1. 아이디 중복 검사
+    public CompletableFuture<User> registerUser(AuthDTO request) {
+        // 1. 아이디 중복 검사 (해시 계산 전에 확인해서 중복 요청에 CPU를 쓰지 않음)
         if (userRepository.findByUsername(request.getUsername()).isPresent()) {
             // (나중에 커스텀 예외로 변경하는 것이 좋습니다)
             throw new IllegalStateException("이미 존재하는 아이디입니다.");
         }
 
-        // 2. User 엔티티 생성
-        User newUser = new User();
-        newUser.setUsername(request.getUsername());
+        return passwordHashExecutor.submit("register", () -> {
+            // 2. User 엔티티 생성
+            User newUser = new User();
+            newUser.setUsername(request.getUsername());
 
-        // 3. (중요) 비밀번호를 암호화하여 저장
-        newUser.setPassword(passwordEncoder.encode(request.getPassword()));
+            // 3. (중요) 비밀번호를 암호화하여 저장
+            newUser.setPassword(passwordEncoder.encode(request.getPassword()));
 
-        // 4. 이메일 설정 (null일 수도 있음)
-        if (request.getEmail() != null && !request.getEmail().isEmpty()) {
-            newUser.setEmail(request.getEmail());
-        }
+            // 4. 이메일 설정 (null일 수도 있음)
+            if (request.getEmail() != null && !request.getEmail().isEmpty()) {
+                newUser.setEmail(request.getEmail());
+            }
 
-        // 5. DB에 저장 (T_USER 테이블에 INSERT)
-        return userRepository.save(newUser);
+            // 5. DB에 저장 (T_USER 테이블에 INSERT, 동시에 같은 아이디로 가입하면 unique 제약으로 실패)
+            return userRepository.save(newUser);
+        });
     }
 
     /**
      * 로그인 비즈니스 로직
+     * [수정] 인증(사용자 조회 + BCrypt 비교)을 PasswordHashExecutor에서 실행 (요청 스레드를 점유하지 않음)
+     *
+     * @throws java.util.concurrent.RejectedExecutionException 해시 대기열이 가득 찬 경우
      */
-    @Transactional(readOnly = true) // 읽기 트랜잭션 적용
     // [수정됨] DTO 클래스 참조 및 반환 타입 변경 (AuthDTO.LoginRequest -> AuthDTO, 반환타입 AuthDTO)
-    public AuthDTO login(AuthDTO request) {
-        // 1. Spring Security의 AuthenticationManager를 사용하여 인증 시도
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword())
-        );
+    public CompletableFuture<AuthDTO> login(AuthDTO request) {
+        return passwordHashExecutor.submit("login", () -> {
+            // 1. Spring Security의 AuthenticationManager를 사용하여 인증 시도
+            Authentication authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword())
+            );
+
+            // 2. 인증 성공 시, (UserDetails) 객체를 가져옴
+            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
 
-        // 2. 인증 성공 시, (UserDetails) 객체를 가져옴
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+            // 3. JwtUtil을 사용하여 액세스 토큰 생성
+            String accessToken = jwtUtil.generateToken(userDetails);
 
-        // 3. JwtUtil을 사용하여 액세스 토큰 생성
-        String accessToken = jwtUtil.generateToken(userDetails);
+            // 4. LoginResponse DTO에 토큰과 사용자 아이디를 담아 반환
+            // [수정됨] AuthDTO의 응답용 생성자 사용 (password, email은 null로 유지됨)
+            return new AuthDTO(userDetails.getUsername(), accessToken);
+        });
+    }
 
-        // 4. LoginResponse DTO에 토큰과 사용자 아이디를 담아 반환
-        // [수정됨] AuthDTO의 응답용 생성자 사용 (password, email은 null로 유지됨)
-        return new AuthDTO(userDetails.getUsername(), accessToken);
+    /**
+     * [추가] 로그아웃 비즈니스 로직
+     * 요청 인증에 DB를 쓰지 않으므로 토큰을 서버에서 삭제할 수 없음 -> 지금까지 발급된 사용자의 토큰을 모두 무효화
+     */
+    public void logout(String username) {
+        tokenRevocationList.revokeAll(username);
     }
 }
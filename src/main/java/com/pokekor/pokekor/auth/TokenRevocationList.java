@@ -0,0 +1,39 @@
+package com.pokekor.pokekor.auth;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 토큰 무효화 목록 (메모리)
+ *
+ * 토큰마다 저장하지 않고 사용자별로 "이 시각 이전에 발급된 토큰은 무효"라는 시각(notBefore) 하나만 기록한다.
+ * 로그아웃하면 그 사용자의 기존 토큰이 모두 무효가 되며, 요청마다 DB를 조회하지 않고 맵 조회 한 번으로 확인한다.
+ * 토큰 유효기간이 지난 기록은 그 이전 토큰이 이미 모두 만료되었으므로 정리한다.
+ *
+ * 주의: 서버 메모리에만 있으므로 재시작하면 비워지고, 서버가 여러 대면 서버마다 따로 관리된다.
+ */
+@Component
+public class TokenRevocationList {
+
+    private final Map<String, Long> notBeforeByUsername = new ConcurrentHashMap<>();
+
+    /**
+     * 사용자의 지금까지 발급된 토큰을 모두 무효화
+     */
+    public void revokeAll(String username) {
+        long now = System.currentTimeMillis();
+        notBeforeByUsername.put(username, now);
+        notBeforeByUsername.values().removeIf(notBefore -> notBefore < now - JwtUtil.EXPIRATION_TIME_MS);
+    }
+
+    /**
+     * 무효화된 토큰인지 확인
+     * @param issuedAtMillis (토큰 발급 시각)
+     */
+    public boolean isRevoked(String username, long issuedAtMillis) {
+        Long notBefore = notBeforeByUsername.get(username);
+        return notBefore != null && issuedAtMillis < notBefore;
+    }
+}
@@ -0,0 +1,85 @@
+package com.pokekor.pokekor.catalog;
+
+import com.pokekor.pokekor.dto.CardFacetsDTO;
+import com.pokekor.pokekor.dto.CardSearchCondition;
+import org.springframework.util.StringUtils;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * 카드(또는 같은 값을 가진 카드 묶음)를 한 번씩만 보면서 필터 옵션별 건수를 세는 집계기
+ *
+ * 카드마다 pack/rarity/type/attribute 필터 중 몇 개를 통과하지 못하는지 확인해서
+ * - 모두 통과하면: 전체 건수와 모든 항목에 집계
+ * - 하나만 통과하지 못하면: 그 항목에만 집계 (그 필터만 바꾸면 결과에 들어오는 카드)
+ * - 둘 이상 통과하지 못하면: 어느 항목에도 집계하지 않음
+ * 이렇게 하면 항목마다 따로 검색하지 않고 한 번의 순회로 모든 항목의 건수를 구할 수 있다.
+ * (카드 이름 필터는 항목이 아니므로, 이름이 일치하는 카드만 넘겨야 함)
+ */
+public final class CardFacetCounter {
+
+    private final CardSearchCondition condition;
+
+    private long total;
+    private final Map<Long, Long> packs = new TreeMap<>();
+    private final Map<String, Long> rarities = new TreeMap<>();
+    private final Map<String, Long> types = new TreeMap<>();
+    private final Map<String, Long> attributes = new TreeMap<>();
+
+    public CardFacetCounter(CardSearchCondition condition) {
+        this.condition = condition;
+    }
+
+    /**
+     * 같은 (pack, rarity, type, attribute1, attribute2) 값을 가진 카드 count장을 집계
+     */
+    public void add(Long packId, String rarityId, String cardType, String attribute1, String attribute2, long count) {
+        boolean packMatched = condition.getPackId() == null || condition.getPackId().equals(packId);
+        boolean rarityMatched = !StringUtils.hasText(condition.getRarityId()) || condition.getRarityId().equals(rarityId);
+        boolean typeMatched = !StringUtils.hasText(condition.getCardType()) || condition.getCardType().equals(cardType);
+        boolean attributeMatched = !StringUtils.hasText(condition.getCardAttribute())
+                || condition.getCardAttribute().equals(attribute1)
+                || condition.getCardAttribute().equals(attribute2);
+
+        int missed = (packMatched ? 0 : 1) + (rarityMatched ? 0 : 1) + (typeMatched ? 0 : 1) + (attributeMatched ? 0 : 1);
+        if (missed > 1) {
+            return;
+        }
+        if (missed == 0) {
+            total += count;
+        }
+
+        if (rarityMatched && typeMatched && attributeMatched) {
+            increment(packs, packId, count);
+        }
+        if (packMatched && typeMatched && attributeMatched) {
+            increment(rarities, rarityId, count);
+        }
+        if (packMatched && rarityMatched && attributeMatched) {
+            increment(types, cardType, count);
+        }
+        if (packMatched && rarityMatched && typeMatched) {
+            increment(attributes, attribute1, count);
+            if (!Objects.equals(attribute1, attribute2)) {
+                increment(attributes, attribute2, count);
+            }
+        }
+    }
+
+    public void add(CatalogCard card) {
+        add(card.getPackId(), card.getRarityId(), card.getCardType(),
+                card.getCardAttribute1(), card.getCardAttribute2(), 1);
+    }
+
+    public CardFacetsDTO toDTO() {
+        return new CardFacetsDTO(total, packs, rarities, types, attributes);
+    }
+
+    private static <K> void increment(Map<K, Long> counts, K key, long count) {
+        if (key != null) {
+            counts.merge(key, count, Long::sum);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.pokekor.pokekor.catalog;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카드 이름 부분 일치 검색을 위한 n-gram 역색인 (unigram + bigram)
+ *
+ * LIKE '%이름%'은 B-tree 인덱스를 쓸 수 없어 매번 T_CARD 전체를 훑으므로,
+ * 카드 이름의 글자(unigram)와 인접한 두 글자(bigram)마다 카드 위치 목록(포스팅)을 만들어 둔다.
+ *
+ * - 글자 단위는 char가 아닌 유니코드 코드 포인트 (완성형 한글 음절 1자 = 1 코드 포인트)
+ * - 이름과 검색어 모두 NFC로 정규화하므로, 자모가 분리된(NFD) 입력도 완성형 음절로 합쳐서 비교
+ * - 검색어가 1자면 unigram 포스팅, 2자 이상이면 bigram 포스팅들의 교집합으로 후보를 구하고
+ *   3자 이상일 때만 실제 부분 문자열 포함 여부를 한 번 더 확인 (bigram만으로는 순서가 보장되지 않으므로)
+ */
+final class CardNameIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final String[] normalizedNames;   // 카드 위치별 NFC 정규화된 이름
+    private final Map<Long, int[]> postings;  // gram 키 -> 오름차순 카드 위치 목록
+
+    CardNameIndex(CatalogCard[] cards) {
+        this.normalizedNames = new String[cards.length];
+
+        Map<Long, IntList> building = new HashMap<>();
+        for (int position = 0; position < cards.length; position++) {
+            String name = normalize(cards[position].getCardName());
+            normalizedNames[position] = name;
+
+            int[] codePoints = name.codePoints().toArray();
+            for (int i = 0; i < codePoints.length; i++) {
+                add(building, unigramKey(codePoints[i]), position);
+                if (i + 1 < codePoints.length) {
+                    add(building, bigramKey(codePoints[i], codePoints[i + 1]), position);
+                }
+            }
+        }
+
+        this.postings = new HashMap<>(building.size() * 4 / 3 + 1);
+        building.forEach((key, list) -> postings.put(key, list.toArray()));
+    }
+
+    /**
+     * 이름에 검색어를 포함하는 카드 위치의 비트셋을 반환
+     */
+    BitSet match(String query) {
+        String normalized = normalize(query);
+        int[] codePoints = normalized.codePoints().toArray();
+        BitSet result = new BitSet(normalizedNames.length);
+        if (codePoints.length == 0) {
+            result.set(0, normalizedNames.length);
+            return result;
+        }
+
+        // 1. 검색어의 gram 포스팅 수집
+        List<int[]> lists = new ArrayList<>();
+        if (codePoints.length == 1) {
+            lists.add(postings.getOrDefault(unigramKey(codePoints[0]), EMPTY));
+        } else {
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                lists.add(postings.getOrDefault(bigramKey(codePoints[i], codePoints[i + 1]), EMPTY));
+            }
+        }
+
+        // 2. 가장 짧은 포스팅부터 교집합
+        lists.sort(Comparator.comparingInt(list -> list.length));
+        int[] candidates = lists.get(0);
+        for (int i = 1; i < lists.size() && candidates.length > 0; i++) {
+            candidates = intersect(candidates, lists.get(i));
+        }
+
+        // 3. 3자 이상이면 실제 포함 여부 확인 (bigram 교집합은 후보일 뿐)
+        boolean verify = codePoints.length > 2;
+        for (int position : candidates) {
+            if (!verify || normalizedNames[position].contains(normalized)) {
+                result.set(position);
+            }
+        }
+        return result;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : Normalizer.normalize(value, Normalizer.Form.NFC);
+    }
+
+    private static long unigramKey(int codePoint) {
+        return -1L - codePoint; // 음수 영역: unigram
+    }
+
+    private static long bigramKey(int first, int second) {
+        return ((long) first << 32) | (second & 0xFFFFFFFFL); // 0 이상: bigram
+    }
+
+    private static void add(Map<Long, IntList> building, long key, int position) {
+        IntList list = building.computeIfAbsent(key, k -> new IntList());
+        // 같은 이름 안에서 같은 gram이 반복되면 한 번만 등록 (위치는 오름차순으로만 추가됨)
+        if (list.size == 0 || list.values[list.size - 1] != position) {
+            list.add(position);
+        }
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    /**
+     * 박싱 없이 int를 모으는 최소한의 가변 배열 (인덱스 빌드 전용)
+     */
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
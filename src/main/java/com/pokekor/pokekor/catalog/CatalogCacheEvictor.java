@@ -0,0 +1,37 @@
+package com.pokekor.pokekor.catalog;
+
+import com.pokekor.pokekor.domain.Pack;
+import com.pokekor.pokekor.domain.Rarity;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카탈로그가 바뀌면 Pack/Rarity 2차 캐시와 목록 쿼리 캐시를 비움
+ *
+ * 엔티티로 쓴 변경은 Hibernate가 캐시를 직접 갱신하지만, 카탈로그 가져오기나 합성 데이터셋처럼
+ * JDBC로 직접 쓴 변경은 Hibernate가 알 수 없으므로 CatalogChangedEvent를 받아 커밋 후에 비운다.
+ * (카탈로그 쓰기는 드물기 때문에 엔티티 변경에도 구분 없이 모두 비움)
+ *
+ * [수정] 이벤트는 CatalogIndex가 받아서 CatalogVersion을 올리기 전에 evictAll()을 호출한다
+ * (주기적 갱신에서 DB 직접 변경을 발견했을 때도 같음)
+ */
+@Slf4j
+@Component
+public class CatalogCacheEvictor {
+
+    private final SessionFactory sessionFactory;
+
+    public CatalogCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    public void evictAll() {
+        org.hibernate.Cache cache = sessionFactory.getCache();
+        cache.evictEntityData(Pack.class);
+        cache.evictEntityData(Rarity.class);
+        cache.evictQueryRegion(CatalogCacheRegions.QUERY);
+        log.debug("카탈로그 2차 캐시 비움");
+    }
+}
@@ -0,0 +1,14 @@
+package com.pokekor.pokekor.catalog;
+
+/**
+ * 카탈로그 참조 데이터의 Hibernate 2차 캐시 리전 이름 (ehcache.xml의 cache alias와 같아야 함)
+ */
+public final class CatalogCacheRegions {
+
+    public static final String PACK = "pokekor.catalog.pack";
+    public static final String RARITY = "pokekor.catalog.rarity";
+    public static final String QUERY = "pokekor.catalog.query"; // 팩/레어도 목록 쿼리 결과
+
+    private CatalogCacheRegions() {
+    }
+}
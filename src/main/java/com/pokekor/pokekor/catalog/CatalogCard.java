@@ -0,0 +1,25 @@
+package com.pokekor.pokekor.catalog;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 카탈로그 스냅샷에 보관되는 카드 한 건의 불변(immutable) 표현
+ * (JPA 엔티티가 아니므로 영속성 컨텍스트/지연 로딩과 무관하게 여러 스레드에서 공유 가능)
+ * JPQL 생성자 프로젝션(SELECT new ...)으로 바로 만들어짐
+ */
+@Getter
+@AllArgsConstructor
+public final class CatalogCard {
+
+    private final Long cardId;
+    private final String cardName;
+    private final String cardImageUrl;
+    private final String cardNumberInPack;
+    private final String cardType;
+    private final String cardAttribute1;
+    private final String cardAttribute2;
+    private final Long packId;
+    private final String packName; // Pack 엔티티의 packNameKo
+    private final String rarityId;
+}
@@ -0,0 +1,14 @@
+package com.pokekor.pokekor.catalog;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 카탈로그(Card/Pack/Rarity) 데이터가 변경되었음을 알리는 애플리케이션 이벤트
+ * (커밋 이후 CatalogIndex가 이 이벤트를 받아 스냅샷을 다시 빌드함)
+ */
+@Getter
+@RequiredArgsConstructor
+public class CatalogChangedEvent {
+    private final String source; // 변경을 일으킨 엔티티/작업 이름 (로그용)
+}
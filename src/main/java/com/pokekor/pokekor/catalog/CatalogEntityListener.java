@@ -0,0 +1,26 @@
+package com.pokekor.pokekor.catalog;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Card/Pack/Rarity 엔티티의 쓰기(INSERT/UPDATE/DELETE)를 감지하는 JPA 엔티티 리스너
+ * (Spring Boot가 Hibernate에 SpringBeanContainer를 등록하므로 스프링 빈으로 주입받을 수 있음)
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onCatalogWrite(Object entity) {
+        eventPublisher.publishEvent(new CatalogChangedEvent(entity.getClass().getSimpleName()));
+    }
+}
@@ -0,0 +1,158 @@
+package com.pokekor.pokekor.catalog;
+
+import com.pokekor.pokekor.repository.CardRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 카드 카탈로그의 인메모리 인덱스
+ *
+ * 카탈로그(Card/Pack/Rarity)는 새 팩이 출시될 때만 바뀌므로, 전체를 CatalogSnapshot으로 만들어 두고
+ * 카드 검색은 DB 대신 스냅샷에서 처리한다.
+ * 스냅샷 교체는 volatile 참조 하나를 바꾸는 것으로 끝나므로(원자적), 검색 중인 요청은 항상
+ * 완전한 이전 스냅샷 또는 완전한 새 스냅샷 중 하나만 보게 된다.
+ *
+ * 재빌드 시점
+ * 1. 애플리케이션 시작 직후 (또는 첫 조회 시)
+ * 2. Card/Pack/Rarity 쓰기가 커밋된 직후 (CatalogChangedEvent)
+ * 3. DB에 직접 INSERT한 데이터를 반영하기 위한 주기적 갱신 (pokekor.catalog.refresh-interval)
+ *
+ * 스냅샷 버전은 CatalogVersion을 따른다. 주기적 갱신에서 이벤트 없이 내용이 바뀐 것을 발견하면
+ * 그때도 버전을 올려서, 이전 ETag로 바뀐 카탈로그가 304 응답되지 않게 한다.
+ *
+ * [수정] 버전을 올리기 전에 항상 Pack/Rarity 2차 캐시와 쿼리 캐시를 먼저 비운다 (CatalogCacheEvictor).
+ * 순서가 반대면 새 버전의 ETag와 캐시에 남은 이전 내용이 함께 응답될 수 있어서, 두 작업을 여기 한 곳에서 순서대로 한다.
+ */
+@Slf4j
+@Component
+public class CatalogIndex {
+
+    private final CardRepository cardRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final CatalogVersion catalogVersion;
+    private final CatalogCacheEvictor catalogCacheEvictor; // [추가]
+
+    private final AtomicBoolean rebuildPending = new AtomicBoolean(false);
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalog-index-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile CatalogSnapshot snapshot;
+
+    public CatalogIndex(CardRepository cardRepository, PlatformTransactionManager transactionManager,
+                        CatalogVersion catalogVersion, CatalogCacheEvictor catalogCacheEvictor) {
+        this.cardRepository = cardRepository;
+        this.catalogVersion = catalogVersion;
+        this.catalogCacheEvictor = catalogCacheEvictor;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 현재 스냅샷을 반환 (아직 한 번도 빌드되지 않았다면 이 자리에서 빌드)
+     */
+    public CatalogSnapshot current() {
+        CatalogSnapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = rebuild();
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * DB에서 카탈로그 전체를 읽어 새 스냅샷을 만들고 교체
+     */
+    public synchronized CatalogSnapshot rebuild() {
+        long startedAt = System.nanoTime();
+
+        // 버전은 읽기 전에 확인 (읽는 도중 커밋된 변경은 버전이 더 높으므로 다음 재빌드에서 반영됨)
+        long version = catalogVersion.current();
+        List<CatalogCard> cards = readOnlyTransaction.execute(status -> cardRepository.findAllCatalogCards());
+
+        CatalogSnapshot rebuilt = CatalogSnapshot.of(version, cards);
+        CatalogSnapshot previous = this.snapshot;
+        if (previous != null && previous.getVersion() >= version && previous.getFingerprint() != rebuilt.getFingerprint()) {
+            // 이벤트 없이 DB에서 직접 바뀐 경우
+            // [수정] 팩/레어도 캐시도 같은 이유로 오래된 내용일 수 있으므로, 새 ETag를 발급하기 전에 비움
+            rebuilt = rebuilt.withVersion(evictAndBumpVersion());
+        }
+        this.snapshot = rebuilt;
+
+        log.info("카탈로그 인덱스 빌드 완료: version={}, cards={}, {}ms",
+                rebuilt.getVersion(), rebuilt.size(), (System.nanoTime() - startedAt) / 1_000_000);
+        return rebuilt;
+    }
+
+    /**
+     * 재빌드를 백그라운드에서 요청
+     * (한 트랜잭션에서 카드 수백 장이 바뀌어도 이벤트가 여러 번 오므로, 대기 중인 재빌드가 있으면 합쳐서 한 번만 수행)
+     */
+    public void requestRebuild() {
+        if (rebuildPending.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                rebuildPending.set(false);
+                try {
+                    rebuild();
+                } catch (Exception e) {
+                    log.error("카탈로그 인덱스 재빌드 실패 (이전 스냅샷을 계속 사용)", e);
+                }
+            });
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        current();
+    }
+
+    /**
+     * 카탈로그 쓰기 트랜잭션이 커밋된 후에만 재빌드 (롤백된 변경은 반영하지 않음)
+     * [수정] 2차 캐시 비우기도 여기서 버전을 올리기 전에 실행 (리스너가 둘이면 실행 순서가 정해지지 않음)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        log.debug("카탈로그 변경 감지: {}", event.getSource());
+        evictAndBumpVersion();
+        requestRebuild();
+    }
+
+    /**
+     * [추가] 팩/레어도 2차 캐시와 쿼리 캐시를 비운 뒤 버전을 올리고 새 버전을 반환
+     */
+    private long evictAndBumpVersion() {
+        catalogCacheEvictor.evictAll();
+        return catalogVersion.bump();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${pokekor.catalog.refresh-interval:PT10M}",
+            initialDelayString = "${pokekor.catalog.refresh-interval:PT10M}"
+    )
+    public void refreshPeriodically() {
+        requestRebuild();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,279 @@
+package com.pokekor.pokekor.catalog;
+
+import com.pokekor.pokekor.dto.CardFacetsDTO;
+import com.pokekor.pokekor.dto.CardSearchCondition;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 특정 시점의 카드 카탈로그 전체를 메모리에 올려둔 불변(immutable) 스냅샷
+ *
+ * - 카드는 cardId 오름차순 배열로 보관하며, 배열의 위치(position)가 비트셋의 비트 번호가 됨
+ * - packId, rarityId, cardType, 속성(cardAttribute1/2)별로 비트셋 포스팅 리스트를 미리 만들어 두어
+ *   검색 필터를 DB 쿼리 대신 비트셋 교집합(AND)으로 처리
+ * - 카드 이름 부분 일치 검색은 n-gram 역색인(CardNameIndex)으로 처리
+ * - 한 번 만들어진 스냅샷은 절대 수정하지 않으므로 여러 요청 스레드가 락 없이 공유할 수 있음
+ * - version은 스냅샷을 만들기 시작한 시점의 CatalogVersion이며 /api/cards 응답의 ETag로 쓰임
+ */
+public final class CatalogSnapshot {
+
+    private final long version;
+    private final long fingerprint;    // 카드 내용 전체의 해시 (이벤트 없이 DB가 바뀌었는지 확인용)
+    private final CatalogCard[] cards; // cardId 오름차순
+    private final long[] cardIds;      // cards와 같은 순서 (이진 탐색용)
+
+    private final Map<Long, BitSet> byPack;
+    private final Map<String, BitSet> byRarity;
+    private final Map<String, BitSet> byType;
+    private final Map<String, BitSet> byAttribute; // cardAttribute1, cardAttribute2를 하나로 합친 포스팅
+    private final CardNameIndex nameIndex;
+
+    private CatalogSnapshot(long version, CatalogCard[] cards) {
+        this.version = version;
+        this.cards = cards;
+        this.cardIds = new long[cards.length];
+        for (int i = 0; i < cards.length; i++) {
+            cardIds[i] = cards[i].getCardId();
+        }
+        this.byPack = buildPostings(cards, CatalogCard::getPackId);
+        this.byRarity = buildPostings(cards, CatalogCard::getRarityId);
+        this.byType = buildPostings(cards, CatalogCard::getCardType);
+        this.byAttribute = buildAttributePostings(cards);
+        this.nameIndex = new CardNameIndex(cards);
+        this.fingerprint = fingerprint(cards);
+    }
+
+    /**
+     * 같은 내용에 버전만 다른 스냅샷 (인덱스는 공유)
+     */
+    private CatalogSnapshot(long version, CatalogSnapshot source) {
+        this.version = version;
+        this.fingerprint = source.fingerprint;
+        this.cards = source.cards;
+        this.cardIds = source.cardIds;
+        this.byPack = source.byPack;
+        this.byRarity = source.byRarity;
+        this.byType = source.byType;
+        this.byAttribute = source.byAttribute;
+        this.nameIndex = source.nameIndex;
+    }
+
+    /**
+     * 카드 목록으로 새 스냅샷을 생성 (입력 순서와 무관하게 cardId 기준으로 정렬됨)
+     */
+    public static CatalogSnapshot of(long version, List<CatalogCard> cards) {
+        CatalogCard[] sorted = cards.toArray(new CatalogCard[0]);
+        Arrays.sort(sorted, Comparator.comparing(CatalogCard::getCardId));
+        return new CatalogSnapshot(version, sorted);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * [추가] 버전만 바꾼 스냅샷을 반환 (인덱스를 다시 만들지 않음)
+     */
+    public CatalogSnapshot withVersion(long newVersion) {
+        return new CatalogSnapshot(newVersion, this);
+    }
+
+    public int size() {
+        return cards.length;
+    }
+
+    /**
+     * 검색 조건에 맞는 카드를 cardId 오름차순으로 반환
+     */
+    public List<CatalogCard> search(CardSearchCondition condition) {
+        BitSet matched = filter(condition);
+        List<CatalogCard> result = new ArrayList<>(matched.cardinality());
+        for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+            result.add(cards[i]);
+        }
+        return result;
+    }
+
+    /**
+     * [추가] 검색 조건에 맞는 카드를 cardId 오름차순으로 하나씩 전달 (결과 리스트를 만들지 않음)
+     */
+    public void forEachMatch(CardSearchCondition condition, Consumer<CatalogCard> action) {
+        BitSet matched = filter(condition);
+        for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+            action.accept(cards[i]);
+        }
+    }
+
+    /**
+     * [추가] 검색 조건의 필터 옵션별 결과 건수 (이름이 일치하는 카드를 한 번만 순회)
+     */
+    public CardFacetsDTO facets(CardSearchCondition condition) {
+        CardFacetCounter counter = new CardFacetCounter(condition);
+        if (StringUtils.hasText(condition.getCardName())) {
+            BitSet named = nameIndex.match(condition.getCardName());
+            for (int i = named.nextSetBit(0); i >= 0; i = named.nextSetBit(i + 1)) {
+                counter.add(cards[i]);
+            }
+        } else {
+            for (CatalogCard card : cards) {
+                counter.add(card);
+            }
+        }
+        return counter.toDTO();
+    }
+
+    /**
+     * [추가] 키셋(keyset) 페이지 검색
+     * cardId가 afterCardId보다 큰 카드 중 조건에 맞는 카드를 cardId 오름차순으로 최대 limit개 반환
+     * (전체 결과 건수를 세지 않으므로, 다음 페이지 존재 여부는 limit + 1개를 요청해서 판단)
+     *
+     * @param afterCardId (이전 페이지의 마지막 cardId, 첫 페이지는 null)
+     */
+    public List<CatalogCard> searchAfter(CardSearchCondition condition, Long afterCardId, int limit) {
+        BitSet matched = filter(condition);
+
+        List<CatalogCard> result = new ArrayList<>(Math.min(limit, cards.length));
+        int from = afterCardId == null ? 0 : positionAfter(afterCardId);
+        for (int i = matched.nextSetBit(from); i >= 0 && result.size() < limit; i = matched.nextSetBit(i + 1)) {
+            result.add(cards[i]);
+        }
+        return result;
+    }
+
+    /**
+     * 검색 조건에 맞는 카드 위치(position)의 비트셋을 계산
+     * (반환된 비트셋은 호출자 소유의 복사본이므로 자유롭게 수정해도 됨)
+     */
+    BitSet filter(CardSearchCondition condition) {
+        BitSet result = candidates(condition);
+
+        // 카드 이름(부분 일치) 필터는 n-gram 색인으로 구한 후보와 교집합
+        if (StringUtils.hasText(condition.getCardName()) && !result.isEmpty()) {
+            result.and(nameIndex.match(condition.getCardName()));
+        }
+        return result;
+    }
+
+    /**
+     * 이름을 제외한 필터(pack, rarity, type, attribute)를 포스팅 리스트 교집합으로 계산
+     */
+    private BitSet candidates(CardSearchCondition condition) {
+        // 1. 조건별 포스팅 리스트 수집 (값이 없는 필터는 건너뜀)
+        List<BitSet> postings = new ArrayList<>(4);
+        if (condition.getPackId() != null) {
+            postings.add(byPack.get(condition.getPackId()));
+        }
+        if (StringUtils.hasText(condition.getRarityId())) {
+            postings.add(byRarity.get(condition.getRarityId()));
+        }
+        if (StringUtils.hasText(condition.getCardType())) {
+            postings.add(byType.get(condition.getCardType()));
+        }
+        if (StringUtils.hasText(condition.getCardAttribute())) {
+            postings.add(byAttribute.get(condition.getCardAttribute()));
+        }
+
+        // 2. 존재하지 않는 값(예: 없는 packId)이 하나라도 있으면 결과는 공집합
+        if (postings.contains(null)) {
+            return new BitSet();
+        }
+
+        // 3. 가장 작은 포스팅부터 교집합 (중간 결과를 최대한 작게 유지)
+        if (postings.isEmpty()) {
+            BitSet all = new BitSet(cards.length);
+            all.set(0, cards.length);
+            return all;
+        }
+        postings.sort(Comparator.comparingInt(BitSet::cardinality));
+        BitSet result = (BitSet) postings.get(0).clone();
+        for (int i = 1; i < postings.size() && !result.isEmpty(); i++) {
+            result.and(postings.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * cardId보다 큰 첫 번째 카드의 위치
+     */
+    private int positionAfter(long cardId) {
+        int position = Arrays.binarySearch(cardIds, cardId);
+        return position >= 0 ? position + 1 : -position - 1;
+    }
+
+    /**
+     * [추가] 팩별 카드 수 (packId 오름차순, 팩이 없는 카드는 제외)
+     */
+    public Map<Long, Integer> countByPack() {
+        Map<Long, Integer> counts = new TreeMap<>();
+        byPack.forEach((packId, positions) -> counts.put(packId, positions.cardinality()));
+        return counts;
+    }
+
+    /**
+     * [추가] 팩 이름 (카탈로그에 해당 팩의 카드가 없으면 null)
+     */
+    public String packName(long packId) {
+        BitSet positions = byPack.get(packId);
+        return positions == null || positions.isEmpty() ? null : cards[positions.nextSetBit(0)].getPackName();
+    }
+
+    /**
+     * cardId로 카드를 조회 (없으면 null)
+     */
+    public CatalogCard findByCardId(long cardId) {
+        int position = Arrays.binarySearch(cardIds, cardId);
+        return position >= 0 ? cards[position] : null;
+    }
+
+    private static long fingerprint(CatalogCard[] cards) {
+        long hash = 1;
+        for (CatalogCard card : cards) {
+            hash = hash * 1_000_003L + Objects.hash(
+                    card.getCardId(), card.getCardName(), card.getCardImageUrl(), card.getCardNumberInPack(),
+                    card.getCardType(), card.getCardAttribute1(), card.getCardAttribute2(),
+                    card.getPackId(), card.getPackName(), card.getRarityId());
+        }
+        return hash;
+    }
+
+    private static <K> Map<K, BitSet> buildPostings(CatalogCard[] cards, Function<CatalogCard, K> keyExtractor) {
+        Map<K, BitSet> postings = new HashMap<>();
+        for (int i = 0; i < cards.length; i++) {
+            K key = keyExtractor.apply(cards[i]);
+            if (key != null) {
+                postings.computeIfAbsent(key, k -> new BitSet(cards.length)).set(i);
+            }
+        }
+        return Collections.unmodifiableMap(postings);
+    }
+
+    private static Map<String, BitSet> buildAttributePostings(CatalogCard[] cards) {
+        Map<String, BitSet> postings = new HashMap<>();
+        for (int i = 0; i < cards.length; i++) {
+            // 기존 쿼리와 동일하게 속성1 OR 속성2 중 하나만 일치해도 검색되도록 두 값 모두 등록
+            if (cards[i].getCardAttribute1() != null) {
+                postings.computeIfAbsent(cards[i].getCardAttribute1(), k -> new BitSet(cards.length)).set(i);
+            }
+            if (cards[i].getCardAttribute2() != null) {
+                postings.computeIfAbsent(cards[i].getCardAttribute2(), k -> new BitSet(cards.length)).set(i);
+            }
+        }
+        return Collections.unmodifiableMap(postings);
+    }
+}
@@ -0,0 +1,29 @@
+package com.pokekor.pokekor.catalog;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카드 카탈로그(Card/Pack/Rarity)의 버전 번호
+ *
+ * Card/Pack/Rarity 쓰기가 커밋될 때마다 1씩 증가하며, 카탈로그 응답의 ETag로 사용한다.
+ * 시작 값을 기동 시각(epoch millis)으로 잡아서, 서버를 재시작해도 이전 프로세스가 발급한 ETag와 겹치지 않게 한다.
+ * (재시작 후 첫 요청은 한 번 200으로 다시 받게 되지만, 바뀐 카탈로그를 304로 잘못 응답하는 일은 없음)
+ */
+@Component
+public class CatalogVersion {
+
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * 버전을 올리고 새 버전을 반환
+     */
+    public long bump() {
+        return version.incrementAndGet();
+    }
+}
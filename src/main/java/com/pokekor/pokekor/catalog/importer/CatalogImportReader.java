@@ -0,0 +1,33 @@
+package com.pokekor.pokekor.catalog.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * 카탈로그 덤프를 한 행씩 읽는 리더 (파일 전체를 메모리에 올리지 않음)
+ */
+interface CatalogImportReader extends Closeable {
+
+    /**
+     * 다음 행 (더 이상 없으면 null)
+     */
+    CatalogImportRow next() throws IOException;
+
+    /**
+     * 확장자(.csv / .json)에 맞는 리더를 연다
+     */
+    static CatalogImportReader open(Path path, ObjectMapper objectMapper) throws IOException {
+        String fileName = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (fileName.endsWith(".csv")) {
+            return new CsvCatalogImportReader(path, objectMapper);
+        }
+        if (fileName.endsWith(".json")) {
+            return new JsonCatalogImportReader(path, objectMapper);
+        }
+        throw new IllegalArgumentException("지원하지 않는 카탈로그 덤프 형식입니다 (.csv 또는 .json): " + path);
+    }
+}
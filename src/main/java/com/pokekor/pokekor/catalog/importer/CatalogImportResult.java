@@ -0,0 +1,32 @@
+package com.pokekor.pokekor.catalog.importer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 카탈로그 가져오기 결과
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class CatalogImportResult {
+
+    private final long rowsRead;
+    private final long rowsRejected;    // 필수 값 누락, 덤프 안의 중복 카드 등
+
+    private final long packsInserted;
+    private final long packsUpdated;
+    private final long raritiesUpserted;
+
+    private final long cardsInserted;
+    private final long cardsUpdated;
+    private final long cardsUnchanged;  // 해시가 같아서 건드리지 않은 카드
+
+    private final long elapsedMillis;
+    private final long rowsPerSecond;
+
+    public boolean isCatalogChanged() {
+        return packsInserted + packsUpdated + raritiesUpserted + cardsInserted + cardsUpdated > 0;
+    }
+}
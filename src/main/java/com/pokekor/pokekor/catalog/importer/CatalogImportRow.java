@@ -0,0 +1,38 @@
+package com.pokekor.pokekor.catalog.importer;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * 카탈로그 덤프(CSV/JSON)의 한 행 = 카드 한 장
+ *
+ * CSV는 첫 줄의 헤더 이름, JSON은 객체의 키 이름이 아래 필드 이름과 같아야 한다.
+ * 팩은 packNameKo, 카드는 (팩, cardNumberInPack)으로 기존 데이터와 대응시킨다.
+ * (팩 정보는 같은 팩의 행마다 반복되며, 덤프에서 처음 나온 행의 값을 사용)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class CatalogImportRow {
+
+    // 팩 (필수: packNameKo)
+    private String packNameKo;
+    private LocalDate releaseDate;
+    private String packImageUrl;
+    private String series;
+
+    // 레어도 (rarityName이 없으면 새 레어도의 이름은 rarityId로 저장)
+    private String rarityId;
+    private String rarityName;
+
+    // 카드 (필수: cardNumberInPack, cardName)
+    private String cardNumberInPack;
+    private String cardName;
+    private String cardImageUrl;
+    private String cardType;
+    private String cardAttribute1;
+    private String cardAttribute2;
+}
@@ -0,0 +1,31 @@
+package com.pokekor.pokekor.catalog.importer;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * 기동 시 카탈로그 덤프 가져오기
+ * pokekor.catalog.import.path가 지정된 경우에만 등록된다.
+ * 예: java -jar pokekor.jar --pokekor.catalog.import.path=/data/new-pack.csv
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "pokekor.catalog.import.path")
+public class CatalogImportRunner implements ApplicationRunner {
+
+    private final CatalogImporter catalogImporter;
+
+    @Value("${pokekor.catalog.import.path}")
+    private String importPath;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        catalogImporter.importFile(Path.of(importPath));
+    }
+}
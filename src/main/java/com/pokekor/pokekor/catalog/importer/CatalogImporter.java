@@ -0,0 +1,408 @@
+package com.pokekor.pokekor.catalog.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pokekor.pokekor.catalog.CatalogChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.LongFunction;
+
+/**
+ * 카탈로그 덤프(CSV/JSON)를 읽어 Pack/Rarity/Card를 일괄 반영하는 가져오기 파이프라인
+ *
+ * - 덤프는 한 행씩 읽어 batchSize 행마다 짧은 트랜잭션 하나로 반영 (긴 트랜잭션을 잡지 않음)
+ * - 엔티티 save() 대신 JDBC 배치 INSERT/UPDATE를 사용
+ * - 카드 내용은 해시로 비교해서, 다시 가져와도 바뀐 카드만 UPDATE (기존 카드 해시는 팩마다 한 번만 조회)
+ * - 덤프에 없는 기존 카드는 삭제하지 않음 (팩 일부만 담은 덤프도 가져올 수 있도록)
+ * - 모든 배치가 끝난 뒤 CatalogChangedEvent를 한 번만 발행해서 카탈로그 버전을 한 번 올림
+ *   (JDBC로 직접 쓰므로 엔티티 리스너의 행 단위 이벤트는 발생하지 않음)
+ *
+ * 중간 배치에서 실패하면 그 배치만 롤백되고 가져오기가 중단된다.
+ * [수정] 이때도 앞에서 커밋된 변경이 있으면 CatalogChangedEvent를 발행한 뒤 예외를 다시 던진다
+ * (커밋된 카드가 인덱스/캐시에 반영되지 않은 채 남지 않도록).
+ * 이미 커밋된 배치는 해시가 같으므로, 같은 덤프를 다시 가져오면 나머지부터 이어서 반영된다.
+ */
+@Slf4j
+@Component
+public class CatalogImporter {
+
+    private static final String UPSERT_RARITY_SQL =
+            "INSERT INTO t_rarity (rarity_id, rarity_name) VALUES (?, ?) " +
+            "ON CONFLICT (rarity_id) DO UPDATE SET rarity_name = EXCLUDED.rarity_name";
+    private static final String INSERT_PACK_SQL =
+            "INSERT INTO t_pack (pack_name_ko, release_date, pack_image_url, series) VALUES (?, ?, ?, ?)";
+    private static final String UPDATE_PACK_SQL =
+            "UPDATE t_pack SET release_date = ?, pack_image_url = ?, series = ? WHERE pack_id = ?";
+    private static final String SELECT_PACK_CARDS_SQL =
+            "SELECT card_id, card_number_in_pack, card_name, card_image_url, card_type, " +
+            "card_attribute1, card_attribute2, rarity_id FROM t_card WHERE pack_id = ?";
+    private static final String INSERT_CARD_SQL =
+            "INSERT INTO t_card (card_name, card_image_url, card_number_in_pack, card_type, " +
+            "card_attribute1, card_attribute2, rarity_id, pack_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_CARD_SQL =
+            "UPDATE t_card SET card_name = ?, card_image_url = ?, card_number_in_pack = ?, card_type = ?, " +
+            "card_attribute1 = ?, card_attribute2 = ?, rarity_id = ? WHERE card_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    public CatalogImporter(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${pokekor.catalog.import.batch-size:500}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 덤프 파일(.csv 또는 .json)을 가져온다
+     */
+    public CatalogImportResult importFile(Path path) {
+        long startedAt = System.nanoTime();
+        log.info("카탈로그 가져오기 시작: {}", path);
+
+        ImportState state = new ImportState();
+        loadPacks(state);
+        loadRarities(state);
+
+        List<CatalogImportRow> batch = new ArrayList<>(batchSize);
+        try {
+            readAndApply(path, state, batch, startedAt);
+        } finally {
+            // [수정] 카탈로그 버전은 가져오기 전체에 대해 한 번만 올림 (인덱스 재빌드도 한 번)
+            // 중간에 실패해도 이미 커밋된 배치가 있으면 발행 (예외는 그대로 전파됨)
+            if (state.changesCommitted) {
+                eventPublisher.publishEvent(new CatalogChangedEvent("CatalogImport"));
+            }
+        }
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        CatalogImportResult result = new CatalogImportResult(
+                state.rowsRead, state.rowsRejected,
+                state.packsInserted, state.packsUpdated, state.raritiesUpserted,
+                state.cardsInserted, state.cardsUpdated, state.cardsUnchanged,
+                elapsedMillis, rowsPerSecond(state.rowsRead, startedAt)
+        );
+        log.info("카탈로그 가져오기 완료: {}", result);
+        return result;
+    }
+
+    private void readAndApply(Path path, ImportState state, List<CatalogImportRow> batch, long startedAt) {
+        try (CatalogImportReader reader = CatalogImportReader.open(path, objectMapper)) {
+            CatalogImportRow row;
+            while ((row = reader.next()) != null) {
+                state.rowsRead++;
+                if (isValid(row, state)) {
+                    batch.add(row);
+                }
+                if (batch.size() >= batchSize) {
+                    applyBatch(batch, state);
+                    batch.clear();
+                    log.info("카탈로그 가져오기 진행: rows={}, {} rows/s", state.rowsRead, rowsPerSecond(state.rowsRead, startedAt));
+                }
+            }
+            if (!batch.isEmpty()) {
+                applyBatch(batch, state);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("카탈로그 덤프를 읽을 수 없습니다: " + path, e);
+        }
+    }
+
+    /**
+     * 필수 값 확인 + 덤프 안에서 같은 카드(팩 이름 + 카드 번호)가 두 번 나오지 않는지 확인
+     */
+    private boolean isValid(CatalogImportRow row, ImportState state) {
+        if (!StringUtils.hasText(row.getPackNameKo())
+                || !StringUtils.hasText(row.getCardNumberInPack())
+                || !StringUtils.hasText(row.getCardName())) {
+            log.warn("카탈로그 가져오기: {}번째 행 건너뜀 (packNameKo, cardNumberInPack, cardName은 필수)", state.rowsRead);
+            state.rowsRejected++;
+            return false;
+        }
+        if (!state.seenCards.add(row.getPackNameKo() + '\u0000' + row.getCardNumberInPack())) {
+            log.warn("카탈로그 가져오기: {}번째 행 건너뜀 (덤프 안에서 중복된 카드: {} {})",
+                    state.rowsRead, row.getPackNameKo(), row.getCardNumberInPack());
+            state.rowsRejected++;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 한 배치를 하나의 트랜잭션으로 반영 (레어도 -> 팩 -> 카드 순서, FK 때문)
+     */
+    private void applyBatch(List<CatalogImportRow> batch, ImportState state) {
+        long changesBefore = state.changes();
+        transactionTemplate.executeWithoutResult(status -> {
+            upsertRarities(batch, state);
+            Map<String, Long> packIds = resolvePacks(batch, state);
+            writeCards(batch, packIds, state);
+        });
+        // [추가] 커밋까지 끝난 배치만 반영 (롤백된 배치의 집계는 세지 않음)
+        if (state.changes() > changesBefore) {
+            state.changesCommitted = true;
+        }
+    }
+
+    private void upsertRarities(List<CatalogImportRow> batch, ImportState state) {
+        Map<String, String> changed = new LinkedHashMap<>();
+        for (CatalogImportRow row : batch) {
+            String rarityId = row.getRarityId();
+            if (!StringUtils.hasText(rarityId)) {
+                continue;
+            }
+            String knownName = state.rarityNames.get(rarityId);
+            if (knownName == null) {
+                changed.put(rarityId, row.getRarityName() != null ? row.getRarityName() : rarityId);
+            } else if (row.getRarityName() != null && !row.getRarityName().equals(knownName)) {
+                changed.put(rarityId, row.getRarityName());
+            }
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = new ArrayList<>(changed.size());
+        changed.forEach((rarityId, rarityName) -> args.add(new Object[]{rarityId, rarityName}));
+        jdbcTemplate.batchUpdate(UPSERT_RARITY_SQL, args);
+
+        state.rarityNames.putAll(changed);
+        state.raritiesUpserted += changed.size();
+    }
+
+    /**
+     * 배치에 나온 팩의 ID를 구함 (새 팩은 INSERT, 이번 가져오기에서 처음 본 기존 팩은 정보가 바뀌었으면 UPDATE)
+     */
+    private Map<String, Long> resolvePacks(List<CatalogImportRow> batch, ImportState state) {
+        Map<String, Long> packIds = new HashMap<>();
+        for (CatalogImportRow row : batch) {
+            String packName = row.getPackNameKo();
+            if (packIds.containsKey(packName)) {
+                continue;
+            }
+            PackState pack = state.packs.get(packName);
+            if (pack == null) {
+                pack = insertPack(row);
+                state.packs.put(packName, pack);
+                state.packsInserted++;
+            } else if (state.touchedPacks.add(packName) && pack.differsFrom(row)) {
+                jdbcTemplate.update(UPDATE_PACK_SQL, toDate(row.getReleaseDate()), row.getPackImageUrl(), row.getSeries(), pack.packId);
+                pack = new PackState(pack.packId, row.getReleaseDate(), row.getPackImageUrl(), row.getSeries());
+                state.packs.put(packName, pack);
+                state.packsUpdated++;
+            }
+            state.touchedPacks.add(packName);
+            packIds.put(packName, pack.packId);
+        }
+        return packIds;
+    }
+
+    private PackState insertPack(CatalogImportRow row) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_PACK_SQL, new String[]{"pack_id"});
+            ps.setString(1, row.getPackNameKo());
+            ps.setDate(2, toDate(row.getReleaseDate()));
+            ps.setString(3, row.getPackImageUrl());
+            ps.setString(4, row.getSeries());
+            return ps;
+        }, keyHolder);
+        long packId = Objects.requireNonNull(keyHolder.getKey()).longValue();
+        return new PackState(packId, row.getReleaseDate(), row.getPackImageUrl(), row.getSeries());
+    }
+
+    /**
+     * 카드를 기존 해시와 비교해서 새 카드는 배치 INSERT, 바뀐 카드는 배치 UPDATE
+     */
+    private void writeCards(List<CatalogImportRow> batch, Map<String, Long> packIds, ImportState state) {
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+
+        for (CatalogImportRow row : batch) {
+            long packId = packIds.get(row.getPackNameKo());
+            Map<String, CardState> existingCards = state.cardsOfPack(packId, this::loadCards);
+            String rarityId = StringUtils.hasText(row.getRarityId()) ? row.getRarityId() : null;
+
+            long hash = contentHash(row.getCardName(), row.getCardImageUrl(), row.getCardType(),
+                    row.getCardAttribute1(), row.getCardAttribute2(), rarityId);
+            CardState existing = existingCards.get(row.getCardNumberInPack());
+
+            if (existing == null) {
+                inserts.add(new Object[]{row.getCardName(), row.getCardImageUrl(), row.getCardNumberInPack(), row.getCardType(),
+                        row.getCardAttribute1(), row.getCardAttribute2(), rarityId, packId});
+                state.cardsInserted++;
+            } else if (existing.hash != hash) {
+                updates.add(new Object[]{row.getCardName(), row.getCardImageUrl(), row.getCardNumberInPack(), row.getCardType(),
+                        row.getCardAttribute1(), row.getCardAttribute2(), rarityId, existing.cardId});
+                state.cardsUpdated++;
+            } else {
+                state.cardsUnchanged++;
+            }
+        }
+
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_CARD_SQL, inserts);
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_CARD_SQL, updates);
+        }
+    }
+
+    private void loadPacks(ImportState state) {
+        jdbcTemplate.query("SELECT pack_id, pack_name_ko, release_date, pack_image_url, series FROM t_pack", rs -> {
+            Date releaseDate = rs.getDate("release_date");
+            state.packs.put(rs.getString("pack_name_ko"), new PackState(
+                    rs.getLong("pack_id"),
+                    releaseDate != null ? releaseDate.toLocalDate() : null,
+                    rs.getString("pack_image_url"),
+                    rs.getString("series")
+            ));
+        });
+    }
+
+    private void loadRarities(ImportState state) {
+        jdbcTemplate.query("SELECT rarity_id, rarity_name FROM t_rarity",
+                (RowCallbackHandler) rs -> state.rarityNames.put(rs.getString("rarity_id"), rs.getString("rarity_name")));
+    }
+
+    /**
+     * 기존 팩의 카드를 카드 번호 -> (cardId, 해시)로 조회 (팩마다 가져오기 전체에서 한 번)
+     */
+    private Map<String, CardState> loadCards(long packId) {
+        Map<String, CardState> cards = new HashMap<>();
+        jdbcTemplate.query(SELECT_PACK_CARDS_SQL, rs -> {
+            cards.put(rs.getString("card_number_in_pack"), new CardState(
+                    rs.getLong("card_id"),
+                    contentHash(rs.getString("card_name"), rs.getString("card_image_url"), rs.getString("card_type"),
+                            rs.getString("card_attribute1"), rs.getString("card_attribute2"), rs.getString("rarity_id"))
+            ));
+        }, packId);
+        return cards;
+    }
+
+    /**
+     * 카드 내용(카드 번호와 팩 제외)의 64비트 해시 (SHA-256 앞 8바이트)
+     */
+    static long contentHash(String... values) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String value : values) {
+                if (value == null) {
+                    digest.update((byte) 0);
+                } else {
+                    digest.update((byte) 1);
+                    digest.update(value.getBytes(StandardCharsets.UTF_8));
+                }
+                digest.update((byte) 0x1F); // 필드 구분자
+            }
+            return ByteBuffer.wrap(digest.digest()).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // SHA-256은 모든 JVM에서 지원
+        }
+    }
+
+    private static Date toDate(LocalDate date) {
+        return date != null ? Date.valueOf(date) : null;
+    }
+
+    private static long rowsPerSecond(long rows, long startedAt) {
+        long elapsedNanos = Math.max(1, System.nanoTime() - startedAt);
+        return rows * 1_000_000_000L / elapsedNanos;
+    }
+
+    /**
+     * 가져오기 한 번 동안 유지하는 상태 (기존 팩/레어도/카드 해시 캐시와 집계)
+     */
+    private static final class ImportState {
+        final Map<String, PackState> packs = new HashMap<>();           // 팩 이름 -> 팩
+        final Map<String, String> rarityNames = new HashMap<>();        // rarityId -> 이름
+        final Map<Long, Map<String, CardState>> cardsByPack = new HashMap<>();
+        final Set<String> touchedPacks = new HashSet<>();
+        final Set<String> seenCards = new HashSet<>();
+
+        long rowsRead;
+        long rowsRejected;
+        long packsInserted;
+        long packsUpdated;
+        long raritiesUpserted;
+        long cardsInserted;
+        long cardsUpdated;
+        long cardsUnchanged;
+        boolean changesCommitted; // [추가] 커밋된 배치에 변경이 하나라도 있었는지
+
+        long changes() {
+            return packsInserted + packsUpdated + raritiesUpserted + cardsInserted + cardsUpdated;
+        }
+
+        Map<String, CardState> cardsOfPack(long packId, LongFunction<Map<String, CardState>> loader) {
+            return cardsByPack.computeIfAbsent(packId, loader::apply);
+        }
+    }
+
+    private static final class PackState {
+        final long packId;
+        final LocalDate releaseDate;
+        final String packImageUrl;
+        final String series;
+
+        PackState(long packId, LocalDate releaseDate, String packImageUrl, String series) {
+            this.packId = packId;
+            this.releaseDate = releaseDate;
+            this.packImageUrl = packImageUrl;
+            this.series = series;
+        }
+
+        boolean differsFrom(CatalogImportRow row) {
+            return !Objects.equals(releaseDate, row.getReleaseDate())
+                    || !Objects.equals(packImageUrl, row.getPackImageUrl())
+                    || !Objects.equals(series, row.getSeries());
+        }
+    }
+
+    private static final class CardState {
+        final long cardId;
+        final long hash; // contentHash
+
+        CardState(long cardId, long hash) {
+            this.cardId = cardId;
+            this.hash = hash;
+        }
+    }
+}
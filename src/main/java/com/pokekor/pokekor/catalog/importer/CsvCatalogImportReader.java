@@ -0,0 +1,107 @@
+package com.pokekor.pokekor.catalog.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CSV 카탈로그 덤프 리더 (UTF-8, 첫 줄은 헤더)
+ *
+ * 큰따옴표로 감싼 필드 안의 쉼표, 줄바꿈, 두 번 쓴 큰따옴표("")를 지원한다 (RFC 4180).
+ * 빈 필드는 null로 읽는다.
+ */
+class CsvCatalogImportReader implements CatalogImportReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final List<String> header;
+
+    CsvCatalogImportReader(Path path, ObjectMapper objectMapper) throws IOException {
+        this.reader = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+        this.objectMapper = objectMapper;
+
+        List<String> firstRecord = readRecord();
+        if (firstRecord == null) {
+            throw new IllegalArgumentException("CSV 헤더가 없습니다: " + path);
+        }
+        // 엑셀 등에서 저장한 UTF-8 BOM 제거
+        firstRecord.set(0, firstRecord.get(0).replace("\uFEFF", ""));
+        this.header = firstRecord;
+    }
+
+    @Override
+    public CatalogImportRow next() throws IOException {
+        List<String> record;
+        do {
+            record = readRecord();
+            if (record == null) {
+                return null;
+            }
+        } while (record.size() == 1 && record.get(0).isEmpty()); // 빈 줄은 건너뜀
+
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < header.size() && i < record.size(); i++) {
+            String value = record.get(i).trim();
+            values.put(header.get(i).trim(), value.isEmpty() ? null : value);
+        }
+        return objectMapper.convertValue(values, CatalogImportRow.class);
+    }
+
+    /**
+     * 레코드 하나(따옴표 안의 줄바꿈 포함)를 필드 목록으로 읽음 (파일 끝이면 null)
+     */
+    private List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean read = false;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            read = true;
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"'); // "" -> "
+                    } else {
+                        quoted = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+        if (!read) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,44 @@
+package com.pokekor.pokekor.catalog.importer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * JSON 카탈로그 덤프 리더 (최상위가 행 객체의 배열)
+ * 배열 전체를 파싱하지 않고, 스트리밍 파서로 원소를 하나씩 읽는다.
+ */
+class JsonCatalogImportReader implements CatalogImportReader {
+
+    private final JsonParser parser;
+    private final ObjectReader rowReader;
+
+    JsonCatalogImportReader(Path path, ObjectMapper objectMapper) throws IOException {
+        this.parser = objectMapper.getFactory().createParser(Files.newInputStream(path));
+        this.rowReader = objectMapper.readerFor(CatalogImportRow.class);
+
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            parser.close();
+            throw new IllegalArgumentException("JSON 카탈로그 덤프는 배열이어야 합니다: " + path);
+        }
+    }
+
+    @Override
+    public CatalogImportRow next() throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null || token == JsonToken.END_ARRAY) {
+            return null;
+        }
+        return rowReader.readValue(parser);
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
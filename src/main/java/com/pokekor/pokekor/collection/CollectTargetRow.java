@@ -0,0 +1,19 @@
+package com.pokekor.pokekor.collection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 카드 수집 INSERT가 행을 만들지 않았을 때 이유를 가리기 위한 조회 결과 (JPQL 생성자 프로젝션)
+ * 카테고리 소유자와 카드 존재 여부를 쿼리 한 번으로 읽음
+ */
+@Getter
+@AllArgsConstructor
+public class CollectTargetRow {
+    private Long ownerId;   // 카테고리 소유자 (user_id)
+    private Long cardCount; // 카드가 있으면 1, 없으면 0
+
+    public boolean isCardExists() {
+        return cardCount != null && cardCount > 0;
+    }
+}
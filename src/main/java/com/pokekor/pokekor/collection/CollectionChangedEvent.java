@@ -0,0 +1,50 @@
+package com.pokekor.pokekor.collection;
+
+import com.pokekor.pokekor.dto.CollectionInfoDTO;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자의 컬렉션(카테고리/수집 카드)이 변경되었음을 알리는 이벤트
+ * (커밋 이후 CollectionOverlayCache가 받아서 캐시된 오버레이를 증분 갱신함)
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CollectionChangedEvent {
+
+    public enum Type {
+        CARD_ADDED,
+        CARD_REMOVED,
+        CATEGORY_UPDATED,
+        CATEGORY_DELETED,
+        CARDS_BULK_CHANGED // [추가] 여러 카드가 한 번에 바뀜 (증분 갱신 대신 캐시를 비움)
+    }
+
+    private final Type type;
+    private final Long userId; // [수정] username -> userId (오버레이 캐시 키)
+    private final Long categoryId;
+    private final Long cardId;              // CARD_ADDED, CARD_REMOVED 에서만 사용
+    private final CollectionInfoDTO info;   // CARD_ADDED, CATEGORY_UPDATED 에서만 사용 (카테고리 이름, 색상)
+                                            // ([추가] CARD_ADDED는 null일 수 있음 - 카테고리 정보를 읽지 않고 추가한 경우)
+
+    public static CollectionChangedEvent cardAdded(Long userId, Long categoryId, Long cardId, CollectionInfoDTO info) {
+        return new CollectionChangedEvent(Type.CARD_ADDED, userId, categoryId, cardId, info);
+    }
+
+    public static CollectionChangedEvent cardRemoved(Long userId, Long categoryId, Long cardId) {
+        return new CollectionChangedEvent(Type.CARD_REMOVED, userId, categoryId, cardId, null);
+    }
+
+    public static CollectionChangedEvent categoryUpdated(Long userId, Long categoryId, CollectionInfoDTO info) {
+        return new CollectionChangedEvent(Type.CATEGORY_UPDATED, userId, categoryId, null, info);
+    }
+
+    public static CollectionChangedEvent cardsBulkChanged(Long userId, Long categoryId) {
+        return new CollectionChangedEvent(Type.CARDS_BULK_CHANGED, userId, categoryId, null, null);
+    }
+
+    public static CollectionChangedEvent categoryDeleted(Long userId, Long categoryId) {
+        return new CollectionChangedEvent(Type.CATEGORY_DELETED, userId, categoryId, null, null);
+    }
+}
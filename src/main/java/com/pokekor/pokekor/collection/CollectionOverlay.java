@@ -0,0 +1,233 @@
+package com.pokekor.pokekor.collection;
+
+import com.pokekor.pokekor.dto.CollectionInfoDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 한 사용자의 "카드별 수집 카테고리" 정보를 압축해서 담은 불변(immutable) 오버레이
+ *
+ * - cardIds: 수집한 카드 ID (오름차순, long 배열이므로 박싱 없음)
+ * - categoryRefs: cardIds와 같은 위치에 해당 카드를 담고 있는 카테고리 ID 배열
+ * - categories: 카테고리 ID -> 카드에 표시할 정보(이름, 색상). 카테고리 수만큼만 존재
+ *
+ * 변경은 기존 객체를 고치지 않고 새 오버레이를 만들어 반환한다 (copy-on-write).
+ * 오버레이마다 프로세스 안에서 유일한 revision을 가지므로, 내용이 바뀌었는지를 revision 비교만으로 알 수 있다.
+ */
+public final class CollectionOverlay {
+
+    private static final long[] NO_REFS = new long[0];
+    private static final AtomicLong REVISIONS = new AtomicLong();
+
+    private final long[] cardIds;
+    private final long[][] categoryRefs;
+    private final Map<Long, CollectionInfoDTO> categories;
+    private final long loadedAt; // 최초 로드 시각 (System.nanoTime, 증분 갱신해도 유지)
+    private final long revision; // 오버레이(내용)마다 새로 발급되는 번호
+
+    private CollectionOverlay(long[] cardIds, long[][] categoryRefs, Map<Long, CollectionInfoDTO> categories, long loadedAt) {
+        this.cardIds = cardIds;
+        this.categoryRefs = categoryRefs;
+        this.categories = categories;
+        this.loadedAt = loadedAt;
+        this.revision = REVISIONS.incrementAndGet();
+    }
+
+    public static CollectionOverlay empty() {
+        return new CollectionOverlay(new long[0], new long[0][], Collections.emptyMap(), System.nanoTime());
+    }
+
+    /**
+     * (cardId, categoryId, 카테고리 정보) 행 목록으로 오버레이를 생성
+     */
+    public static CollectionOverlay build(List<CollectionOverlayRow> rows) {
+        Map<Long, CollectionInfoDTO> categories = new HashMap<>();
+        Map<Long, List<Long>> refsByCard = new HashMap<>();
+        for (CollectionOverlayRow row : rows) {
+            categories.computeIfAbsent(row.getCategoryId(),
+                    id -> new CollectionInfoDTO(row.getCategoryName(), row.getThemeColor()));
+            refsByCard.computeIfAbsent(row.getCardId(), id -> new ArrayList<>(2)).add(row.getCategoryId());
+        }
+
+        long[] cardIds = refsByCard.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        long[][] categoryRefs = new long[cardIds.length][];
+        for (int i = 0; i < cardIds.length; i++) {
+            categoryRefs[i] = refsByCard.get(cardIds[i]).stream().mapToLong(Long::longValue).toArray();
+        }
+        return new CollectionOverlay(cardIds, categoryRefs, Collections.unmodifiableMap(categories), System.nanoTime());
+    }
+
+    public long getLoadedAt() {
+        return loadedAt;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * 수집한 카드 종류 수
+     */
+    public int size() {
+        return cardIds.length;
+    }
+
+    /**
+     * 이 카드를 수집한 카테고리 정보 목록 (수집하지 않았으면 빈 리스트)
+     */
+    public List<CollectionInfoDTO> collectionsOf(long cardId) {
+        int position = Arrays.binarySearch(cardIds, cardId);
+        if (position < 0) {
+            return Collections.emptyList();
+        }
+        long[] refs = categoryRefs[position];
+        List<CollectionInfoDTO> result = new ArrayList<>(refs.length);
+        for (long categoryId : refs) {
+            result.add(categories.get(categoryId));
+        }
+        return result;
+    }
+
+    /**
+     * [추가] 오버레이에 이 카테고리 정보(이름, 색상)가 있는지 (카드가 한 장 이상 수집된 카테고리)
+     */
+    public boolean hasCategory(long categoryId) {
+        return categories.containsKey(categoryId);
+    }
+
+    /**
+     * 카테고리에 카드를 추가한 새 오버레이
+     */
+    public CollectionOverlay withCard(long cardId, long categoryId, CollectionInfoDTO info) {
+        Map<Long, CollectionInfoDTO> newCategories = categories;
+        if (!categories.containsKey(categoryId)) {
+            newCategories = copyOf(categories);
+            newCategories.put(categoryId, info);
+            newCategories = Collections.unmodifiableMap(newCategories);
+        }
+
+        int position = Arrays.binarySearch(cardIds, cardId);
+        if (position >= 0) {
+            long[] refs = categoryRefs[position];
+            for (long ref : refs) {
+                if (ref == categoryId) {
+                    return this; // 이미 반영됨
+                }
+            }
+            long[][] newRefs = categoryRefs.clone();
+            newRefs[position] = Arrays.copyOf(refs, refs.length + 1);
+            newRefs[position][refs.length] = categoryId;
+            return new CollectionOverlay(cardIds, newRefs, newCategories, loadedAt);
+        }
+
+        int insertAt = -position - 1;
+        long[] newCardIds = new long[cardIds.length + 1];
+        long[][] newRefs = new long[cardIds.length + 1][];
+        System.arraycopy(cardIds, 0, newCardIds, 0, insertAt);
+        System.arraycopy(categoryRefs, 0, newRefs, 0, insertAt);
+        newCardIds[insertAt] = cardId;
+        newRefs[insertAt] = new long[]{categoryId};
+        System.arraycopy(cardIds, insertAt, newCardIds, insertAt + 1, cardIds.length - insertAt);
+        System.arraycopy(categoryRefs, insertAt, newRefs, insertAt + 1, cardIds.length - insertAt);
+        return new CollectionOverlay(newCardIds, newRefs, newCategories, loadedAt);
+    }
+
+    /**
+     * 카테고리에서 카드를 제거한 새 오버레이
+     */
+    public CollectionOverlay withoutCard(long cardId, long categoryId) {
+        int position = Arrays.binarySearch(cardIds, cardId);
+        if (position < 0) {
+            return this;
+        }
+        long[] refs = remove(categoryRefs[position], categoryId);
+        if (refs == categoryRefs[position]) {
+            return this; // 해당 카테고리에 없던 카드
+        }
+        if (refs.length > 0) {
+            long[][] newRefs = categoryRefs.clone();
+            newRefs[position] = refs;
+            return new CollectionOverlay(cardIds, newRefs, categories, loadedAt);
+        }
+
+        // 어느 카테고리에도 남지 않은 카드는 목록에서 제거
+        long[] newCardIds = new long[cardIds.length - 1];
+        long[][] newRefs = new long[cardIds.length - 1][];
+        System.arraycopy(cardIds, 0, newCardIds, 0, position);
+        System.arraycopy(categoryRefs, 0, newRefs, 0, position);
+        System.arraycopy(cardIds, position + 1, newCardIds, position, cardIds.length - position - 1);
+        System.arraycopy(categoryRefs, position + 1, newRefs, position, cardIds.length - position - 1);
+        return new CollectionOverlay(newCardIds, newRefs, categories, loadedAt);
+    }
+
+    /**
+     * 카테고리 정보(이름, 색상)를 바꾼 새 오버레이
+     * (카드별 참조는 카테고리 ID이므로 카테고리 맵 한 곳만 바꾸면 모든 카드에 반영됨)
+     */
+    public CollectionOverlay withCategory(long categoryId, CollectionInfoDTO info) {
+        if (!categories.containsKey(categoryId)) {
+            return this; // 오버레이에 카드가 없는 카테고리
+        }
+        Map<Long, CollectionInfoDTO> newCategories = copyOf(categories);
+        newCategories.put(categoryId, info);
+        return new CollectionOverlay(cardIds, categoryRefs, Collections.unmodifiableMap(newCategories), loadedAt);
+    }
+
+    /**
+     * 카테고리(와 그 안의 모든 카드 참조)를 제거한 새 오버레이
+     */
+    public CollectionOverlay withoutCategory(long categoryId) {
+        if (!categories.containsKey(categoryId)) {
+            return this;
+        }
+        Map<Long, CollectionInfoDTO> newCategories = copyOf(categories);
+        newCategories.remove(categoryId);
+
+        long[] keptCardIds = new long[cardIds.length];
+        long[][] keptRefs = new long[cardIds.length][];
+        int kept = 0;
+        for (int i = 0; i < cardIds.length; i++) {
+            long[] refs = remove(categoryRefs[i], categoryId);
+            if (refs.length > 0) {
+                keptCardIds[kept] = cardIds[i];
+                keptRefs[kept] = refs;
+                kept++;
+            }
+        }
+        return new CollectionOverlay(
+                Arrays.copyOf(keptCardIds, kept),
+                Arrays.copyOf(keptRefs, kept),
+                Collections.unmodifiableMap(newCategories),
+                loadedAt
+        );
+    }
+
+    /**
+     * refs에서 categoryId를 뺀 배열 (없으면 refs 그대로 반환)
+     */
+    private static long[] remove(long[] refs, long categoryId) {
+        for (int i = 0; i < refs.length; i++) {
+            if (refs[i] == categoryId) {
+                if (refs.length == 1) {
+                    return NO_REFS;
+                }
+                long[] result = new long[refs.length - 1];
+                System.arraycopy(refs, 0, result, 0, i);
+                System.arraycopy(refs, i + 1, result, i, refs.length - i - 1);
+                return result;
+            }
+        }
+        return refs;
+    }
+
+    private static Map<Long, CollectionInfoDTO> copyOf(Map<Long, CollectionInfoDTO> categories) {
+        return new LinkedHashMap<>(categories);
+    }
+}
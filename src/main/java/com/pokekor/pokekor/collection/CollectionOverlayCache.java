@@ -0,0 +1,128 @@
+package com.pokekor.pokekor.collection;
+
+import com.pokekor.pokekor.repository.CollectedCardRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * 사용자별 CollectionOverlay 캐시 (크기 제한 LRU, 키는 userId)
+ *
+ * 카드 검색마다 사용자의 전체 수집 목록을 다시 읽지 않도록, 오버레이를 한 번 로드한 뒤
+ * 카드 추가/제거, 카테고리 수정/삭제가 커밋될 때마다 증분으로 갱신한다.
+ * 혹시 모를 불일치(동시 요청 순서 역전 등)가 오래 남지 않도록 일정 시간(ttl)이 지나면 다시 로드한다.
+ */
+@Component
+public class CollectionOverlayCache {
+
+    private final CollectedCardRepository collectedCardRepository;
+    private final long ttlNanos;
+
+    // access-order LinkedHashMap: 가장 오래 사용하지 않은 사용자부터 제거 (접근은 모두 lock으로 보호)
+    private final Map<Long, CollectionOverlay> entries;
+    private final Object lock = new Object();
+
+    // 로드 중인 사용자 -> 로드 토큰 (로드 도중 변경 이벤트가 오면 토큰을 지워서, 오래된 결과가 캐시되지 않게 함)
+    private final Map<Long, Object> loading = new ConcurrentHashMap<>();
+
+    public CollectionOverlayCache(
+            CollectedCardRepository collectedCardRepository,
+            @Value("${pokekor.collection-overlay.max-users:10000}") int maxUsers,
+            @Value("${pokekor.collection-overlay.ttl:PT10M}") Duration ttl
+    ) {
+        this.collectedCardRepository = collectedCardRepository;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CollectionOverlay> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    /**
+     * 사용자의 오버레이를 반환 (캐시에 없거나 ttl이 지났으면 DB에서 로드)
+     */
+    public CollectionOverlay get(Long userId) {
+        synchronized (lock) {
+            CollectionOverlay cached = entries.get(userId);
+            if (cached != null && System.nanoTime() - cached.getLoadedAt() < ttlNanos) {
+                return cached;
+            }
+        }
+
+        Object token = new Object();
+        loading.put(userId, token);
+        CollectionOverlay loaded = CollectionOverlay.build(collectedCardRepository.findOverlayRowsByUserId(userId));
+
+        synchronized (lock) {
+            if (loading.remove(userId, token)) {
+                entries.put(userId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * [추가] 캐시에 있고 ttl이 지나지 않은 오버레이만 반환 (없으면 로드하지 않고 null)
+     */
+    public CollectionOverlay getIfPresent(Long userId) {
+        synchronized (lock) {
+            CollectionOverlay cached = entries.get(userId);
+            return cached != null && System.nanoTime() - cached.getLoadedAt() < ttlNanos ? cached : null;
+        }
+    }
+
+    /**
+     * 컬렉션 변경 트랜잭션이 커밋된 후, 캐시된 오버레이에 변경분만 반영
+     */
+    @TransactionalEventListener
+    public void onCollectionChanged(CollectionChangedEvent event) {
+        switch (event.getType()) {
+            // [수정] 카테고리 정보(info) 없이 추가되었고 오버레이에도 없는 카테고리면, 표시할 정보가 없으므로 다시 로드
+            case CARD_ADDED -> update(event.getUserId(),
+                    overlay -> event.getInfo() == null && !overlay.hasCategory(event.getCategoryId())
+                            ? null
+                            : overlay.withCard(event.getCardId(), event.getCategoryId(), event.getInfo()));
+            case CARD_REMOVED -> update(event.getUserId(),
+                    overlay -> overlay.withoutCard(event.getCardId(), event.getCategoryId()));
+            case CATEGORY_UPDATED -> update(event.getUserId(),
+                    overlay -> overlay.withCategory(event.getCategoryId(), event.getInfo()));
+            case CATEGORY_DELETED -> update(event.getUserId(),
+                    overlay -> overlay.withoutCategory(event.getCategoryId()));
+            // 카드 수백 장을 한 장씩 copy-on-write로 반영하는 것보다 다음 요청에서 한 번 다시 로드하는 편이 쌈
+            case CARDS_BULK_CHANGED -> evict(event.getUserId());
+        }
+    }
+
+    public void evict(Long userId) {
+        synchronized (lock) {
+            loading.remove(userId);
+            entries.remove(userId);
+        }
+    }
+
+    /**
+     * 캐시된 오버레이에 변경 적용 ([추가] change가 null을 반환하면 캐시에서 제거)
+     */
+    private void update(Long userId, UnaryOperator<CollectionOverlay> change) {
+        synchronized (lock) {
+            loading.remove(userId); // 진행 중인 로드 결과는 이 변경 이전 데이터일 수 있으므로 캐시하지 않음
+            CollectionOverlay current = entries.get(userId);
+            if (current != null) {
+                CollectionOverlay changed = change.apply(current);
+                if (changed != null) {
+                    entries.put(userId, changed);
+                } else {
+                    entries.remove(userId);
+                }
+            }
+        }
+    }
+}
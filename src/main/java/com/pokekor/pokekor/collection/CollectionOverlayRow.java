@@ -0,0 +1,16 @@
+package com.pokekor.pokekor.collection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 수집 오버레이 빌드용 조회 결과 한 행 (JPQL 생성자 프로젝션, 엔티티를 만들지 않음)
+ */
+@Getter
+@AllArgsConstructor
+public class CollectionOverlayRow {
+    private Long cardId;
+    private Long categoryId;
+    private String categoryName;
+    private String themeColor;
+}
@@ -0,0 +1,16 @@
+package com.pokekor.pokekor.collection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 팩별 수집 현황 집계 쿼리의 한 행 (JPQL 생성자 프로젝션)
+ * (같은 카드를 같은 유형의 여러 카테고리에 담았어도 한 장으로 셈)
+ */
+@Getter
+@AllArgsConstructor
+public class PackCollectionCountRow {
+    private Long packId;
+    private String categoryType; // "OWNED" 또는 "WISHLIST"
+    private Long cardCount;
+}
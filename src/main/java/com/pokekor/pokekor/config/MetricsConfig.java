@@ -0,0 +1,49 @@
+package com.pokekor.pokekor.config;
+
+import com.pokekor.pokekor.metrics.HandlerTagObservationConvention;
+import com.pokekor.pokekor.metrics.QueryCountingDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+import org.springframework.lang.NonNull;
+
+import javax.sql.DataSource;
+
+/**
+ * 메트릭 설정 (/actuator/prometheus, 관리 포트에서만 노출)
+ *
+ * - http.server.requests: 컨트롤러 메서드(handler) 태그 + 백분위 히스토그램 (application.yml)
+ * - pokekor.http.server.queries: 요청당 SQL 문장 수 (@QueryBudget 초과 시 pokekor.query-budget.mode에 따라 log | fail)
+ * - hibernate.*: Hibernate 통계 (쿼리 실행, 엔티티 로드/페치 등, generate_statistics=true)
+ * - hibernate.second.level.cache.requests{region, result=hit|miss}: [추가] 팩/레어도 2차 캐시와 쿼리 캐시 리전별 적중률
+ * - hikaricp.connections.*: 커넥션 풀 (acquire = 커넥션을 얻기까지 기다린 시간)
+ * - pokekor.auth.jwt: JWT 인증 필터 처리 시간
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public ServerRequestObservationConvention handlerTagObservationConvention() {
+        return new HandlerTagObservationConvention();
+    }
+
+    /**
+     * [수정] 요청당 SQL 문장 수는 Hibernate StatementInspector 대신 DataSource(JDBC 커넥션)에서 셈
+     * (JdbcTemplate 배치 INSERT처럼 Hibernate를 거치지 않는 문장도 @QueryBudget에 포함)
+     */
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor(Environment environment) {
+        boolean failOverBudget = "fail".equals(environment.getProperty("pokekor.query-budget.mode", "log"));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof QueryCountingDataSource)) {
+                    return new QueryCountingDataSource(dataSource, failOverBudget);
+                }
+                return bean;
+            }
+        };
+    }
+}
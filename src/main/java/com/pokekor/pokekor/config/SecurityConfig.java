@@ -2,8 +2,11 @@ package com.pokekor.pokekor.config;
 
 import com.pokekor.pokekor.auth.CustomUserDetailService;
 import com.pokekor.pokekor.auth.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -14,6 +17,7 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
@@ -63,6 +67,12 @@ public class SecurityConfig {
 
                 // API 경로별 접근 권한 설정
                 .authorizeHttpRequests(authorize -> authorize
+                        // [추가] 스트리밍 응답(StreamingResponseBody)이 끝날 때의 ASYNC 디스패치는
+                        // 최초 요청에서 이미 인증을 마쳤으므로 다시 검사하지 않음
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        // [추가] actuator 엔드포인트는 별도 관리 포트(management.server.port)에서만 열리므로 인증 없이 허용
+                        // ([수정] 관리 포트는 management.server.address(기본 127.0.0.1)에서만 수신)
+                        .requestMatchers(EndpointRequest.toAnyEndpoint()).permitAll()
                         // [수정됨] React 정적 파일 및 인증 API 경로 허용
                         .requestMatchers(
                                 "/",
@@ -77,6 +87,12 @@ public class SecurityConfig {
                         .anyRequest().authenticated()
                 )
 
+                // [추가] 인증되지 않은 요청(토큰 없음, 만료, 로그아웃으로 무효화)은 403이 아닌 401로 응답
+                // (403은 인증된 사용자가 다른 사용자의 리소스에 접근한 경우에만 사용)
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
+                )
+
                 // [추가됨] 세션 관리 정책을 STATELESS로 설정
                 // (JWT를 사용하므로 서버가 세션을 저장할 필요가 없음)
                 .sessionManagement(session -> session
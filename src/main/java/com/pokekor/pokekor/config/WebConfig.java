@@ -1,9 +1,11 @@
 package com.pokekor.pokekor.config;
 
 
+import com.pokekor.pokekor.metrics.QueryBudgetInterceptor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.resource.PathResourceResolver;
@@ -13,6 +15,14 @@ import java.io.IOException;
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    /**
+     * [추가] 컨트롤러 메서드의 @QueryBudget(요청당 SQL 문장 수 상한)을 요청에 적용
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new QueryBudgetInterceptor()).addPathPatterns("/api/**");
+    }
+
     /**
      * React Router의 SPA(Single Page Application) 라우팅을 지원하기 위한 설정.
      * API 경로(/api/**)가 아닌 모든 요청이 404가 될 경우,
@@ -1,15 +1,25 @@
 package com.pokekor.pokekor.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pokekor.pokekor.auth.AuthUser;
 import com.pokekor.pokekor.dto.CardDTO;
+import com.pokekor.pokekor.dto.CardFacetsDTO;
+import com.pokekor.pokekor.dto.CardPageDTO;
+import com.pokekor.pokekor.dto.CardSearchCondition;
 import com.pokekor.pokekor.service.CardService;
 import lombok.RequiredArgsConstructor;
+import com.pokekor.pokekor.metrics.QueryBudget;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -19,6 +29,14 @@ import java.util.List;
 public class CardController {
 
     private final CardService cardService;
+    private final ObjectMapper objectMapper;
+
+    // [추가] 페이지 검색 시 기본/최대 페이지 크기
+    @Value("${pokekor.cards.default-page-size:50}")
+    private int defaultPageSize;
+    @Value("${pokekor.cards.max-page-size:200}")
+    private int maxPageSize;
+
     /**
      * [수정됨] 카드 검색 API (다중 필터링 지원)
      * GET /api/cards
@@ -27,16 +45,21 @@ public class CardController {
      * GET /api/cards?rarity=SR
      * GET /api/cards?packId=123&name=리자몽&rarity=SR
      *
-     * @param userDetails (로그인 사용자 정보)
+     * @param authUser (로그인 사용자 정보)
      * @param packId (필터링할 팩 ID, 선택 사항)
      * @param cardName (검색할 카드 이름, 선택 사항)
      * @param rarityId (필터링할 레어도 ID, 선택 사항)
      * @param cardType (검색할 카드 유형, 선택 사항) // [추가]
      * @param cardAttribute (검색할 카드 속성, 선택 사항) // [추가]
+     *
+     * [추가] 카탈로그 버전(+ 사용자 수집 정보 revision)을 ETag로 응답하며,
+     * If-None-Match가 일치하면 검색 없이 304 반환
      */
     @GetMapping
+    @QueryBudget(1) // 수집 오버레이 로드 (캐시에 있으면 0)
     public ResponseEntity<List<CardDTO>> searchCards(
-            @AuthenticationPrincipal UserDetails userDetails,
+            WebRequest webRequest,
+            @AuthenticationPrincipal AuthUser authUser,
             @RequestParam(required = false) Long packId,
             @RequestParam(required = false, name = "name") String cardName, // (이전 수정사항 반영)
             @RequestParam(required = false) String rarityId,
@@ -45,12 +68,121 @@ public class CardController {
             // [추가] 'attribute' 파라미터를 cardAttribute 변수에 매핑
             @RequestParam(required = false, name = "attribute") String cardAttribute
     ) {
-        // 1. username 추출
-        String username = (userDetails != null) ? userDetails.getUsername() : null;
+        // 1. [수정] 사용자 ID 추출 (토큰에 담긴 값, DB 조회 없음)
+        Long userId = (authUser != null) ? authUser.getUserId() : null;
+
+        // [추가] 조건부 요청 확인 (검색 조건은 URL에 포함되므로 URL별 캐시와 ETag만 비교하면 됨)
+        // [수정] 수집 오버레이가 캐시에 없으면 ETag를 알 수 없으므로(null) 확인하지 않고 바로 검색
+        String etag = cardService.getCardsETag(userId);
+        if (etag != null) {
+            ResponseEntity<List<CardDTO>> notModified = ConditionalResponses.notModified(webRequest, etag, ConditionalResponses.PER_USER);
+            if (notModified != null) {
+                return notModified;
+            }
+        }
 
         // 2. [수정] 서비스에 모든 파라미터 전달 (cardAttribute가 1개로 전달됨)
-        List<CardDTO> cards = cardService.searchCards(username, packId, cardName, rarityId, cardType, cardAttribute);
+        // [수정] 응답 ETag는 검색에 실제로 사용한 스냅샷/오버레이로 만든 값
+        CardService.CardSearchResult result = cardService.searchCards(userId, packId, cardName, rarityId, cardType, cardAttribute);
+
+        return ResponseEntity.ok()
+                .eTag(result.getEtag())
+                .cacheControl(ConditionalResponses.PER_USER)
+                .varyBy(HttpHeaders.AUTHORIZATION) // 로그인 사용자마다 수집 정보가 다름
+                .body(result.getCards());
+    }
+
+    /**
+     * [추가] 카드 검색 API (스트리밍 응답)
+     * GET /api/cards?stream=true
+     * GET /api/cards?stream=true&packId=123&rarityId=SR
+     *
+     * 응답 형식은 GET /api/cards와 같은 JSON 배열이지만, 결과를 List로 모으지 않고 카드를 한 장씩 바로 씀
+     * (전체 카탈로그처럼 결과가 큰 검색에서 서버 메모리 사용량이 결과 크기에 비례해서 늘지 않음)
+     */
+    @GetMapping(params = "stream=true")
+    @QueryBudget(1) // 수집 오버레이 로드 (캐시에 있으면 0)
+    public ResponseEntity<StreamingResponseBody> streamCards(
+            @AuthenticationPrincipal AuthUser authUser,
+            @RequestParam(required = false) Long packId,
+            @RequestParam(required = false, name = "name") String cardName,
+            @RequestParam(required = false) String rarityId,
+            @RequestParam(required = false, name = "type") String cardType,
+            @RequestParam(required = false, name = "attribute") String cardAttribute
+    ) {
+        Long userId = (authUser != null) ? authUser.getUserId() : null;
+        CardSearchCondition condition = new CardSearchCondition(packId, cardName, rarityId, cardType, cardAttribute);
+
+        // [수정] 오버레이 로드와 DB 커서는 스트리밍 스레드에서 실행되므로 요청의 쿼리 수에 포함되도록 감쌈
+        return JsonStreaming.ok(JsonStreaming.counted(out -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+                generator.writeStartArray();
+                cardService.streamCards(userId, condition, JsonStreaming.writer(generator));
+                generator.writeEndArray();
+            }
+        }));
+    }
+
+    /**
+     * [추가] 필터 옵션별 결과 건수 API
+     * GET /api/cards/facets
+     * GET /api/cards/facets?packId=123&rarityId=SR&name=피카츄
+     *
+     * 필터 파라미터는 GET /api/cards와 같으며, 각 레어도/유형/속성/팩으로 바꿨을 때 나올 카드 수를 한 번에 반환
+     * (카탈로그 버전을 ETag로 응답하며, If-None-Match가 일치하면 계산 없이 304 반환)
+     */
+    @GetMapping("/facets")
+    @QueryBudget(0) // 인메모리 카탈로그 인덱스만 사용
+    public ResponseEntity<CardFacetsDTO> getFacets(
+            WebRequest webRequest,
+            @RequestParam(required = false) Long packId,
+            @RequestParam(required = false, name = "name") String cardName,
+            @RequestParam(required = false) String rarityId,
+            @RequestParam(required = false, name = "type") String cardType,
+            @RequestParam(required = false, name = "attribute") String cardAttribute
+    ) {
+        String etag = cardService.getFacetsETag();
+        ResponseEntity<CardFacetsDTO> notModified = ConditionalResponses.notModified(webRequest, etag, ConditionalResponses.CATALOG);
+        if (notModified != null) {
+            return notModified;
+        }
+
+        CardSearchCondition condition = new CardSearchCondition(packId, cardName, rarityId, cardType, cardAttribute);
+        CardFacetsDTO facets = cardService.getFacets(condition);
+
+        return ResponseEntity.ok().eTag(etag).cacheControl(ConditionalResponses.CATALOG).body(facets);
+    }
+
+    /**
+     * [추가] 카드 검색 API (키셋 페이지네이션)
+     * GET /api/cards/page?size=50
+     * GET /api/cards/page?cursor=1234&size=50&packId=123&rarityId=SR
+     *
+     * 전체 결과 대신 cardId 오름차순으로 한 페이지씩 반환 (전체 건수는 계산하지 않음)
+     *
+     * @param cursor (이전 응답의 nextCursor, 첫 페이지는 생략)
+     * @param size (페이지 크기, 선택 사항. pokekor.cards.max-page-size를 넘을 수 없음)
+     */
+    @GetMapping("/page")
+    @QueryBudget(1) // 수집 오버레이 로드 (캐시에 있으면 0)
+    public ResponseEntity<CardPageDTO> searchCardPage(
+            @AuthenticationPrincipal AuthUser authUser,
+            @RequestParam(required = false) Long packId,
+            @RequestParam(required = false, name = "name") String cardName,
+            @RequestParam(required = false) String rarityId,
+            @RequestParam(required = false, name = "type") String cardType,
+            @RequestParam(required = false, name = "attribute") String cardAttribute,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        Long userId = (authUser != null) ? authUser.getUserId() : null;
+
+        // 페이지 크기는 1 ~ maxPageSize 범위로 제한
+        int pageSize = Math.max(1, Math.min(size != null ? size : defaultPageSize, maxPageSize));
+
+        CardSearchCondition condition = new CardSearchCondition(packId, cardName, rarityId, cardType, cardAttribute);
+        CardPageDTO page = cardService.searchCardPage(userId, condition, cursor, pageSize);
 
-        return ResponseEntity.ok(cards);
+        return ResponseEntity.ok(page);
     }
 }
\ No newline at end of file
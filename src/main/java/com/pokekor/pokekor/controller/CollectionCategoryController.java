@@ -1,20 +1,39 @@
 package com.pokekor.pokekor.controller;
 
-import com.pokekor.pokekor.domain.CollectedCard;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pokekor.pokekor.auth.AuthUser;
+import com.pokekor.pokekor.dto.CardBulkCollectRequestDTO;
+import com.pokekor.pokekor.dto.CardBulkCollectResultDTO;
 import com.pokekor.pokekor.dto.CardCollectRequestDTO;
 import com.pokekor.pokekor.dto.CategoryCreateRequestDTO;
 import com.pokekor.pokekor.dto.CollectionCategoryDTO;
 import com.pokekor.pokekor.dto.CollectionCategoryDetailDTO;
+import com.pokekor.pokekor.dto.CollectionCategoryPageDTO;
+import com.pokekor.pokekor.dto.PackCollectionStatsDTO;
 import com.pokekor.pokekor.service.CollectedCardService;
+import com.pokekor.pokekor.service.CollectedCardService.CollectResult;
 import com.pokekor.pokekor.service.CollectionCategoryService;
+import com.pokekor.pokekor.service.CollectionExportService;
+import com.pokekor.pokekor.service.CollectionStatsService;
 import lombok.RequiredArgsConstructor;
+import com.pokekor.pokekor.metrics.QueryBudget;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -25,6 +44,18 @@ public class CollectionCategoryController {
 
     private final CollectionCategoryService collectionCategoryService;
     private final CollectedCardService collectedCardService;
+    private final CollectionStatsService collectionStatsService; // [추가]
+    private final CollectionExportService collectionExportService; // [추가]
+
+    // [추가] 일괄 추가/제거 요청 한 번에 보낼 수 있는 최대 카드 수
+    @Value("${pokekor.collection.bulk-max-cards:1000}")
+    private int bulkMaxCards;
+    // [추가] 카테고리 상세 페이지 크기 (기본값, 최대값)
+    @Value("${pokekor.collection.default-page-size:60}")
+    private int defaultPageSize;
+    @Value("${pokekor.collection.max-page-size:200}")
+    private int maxPageSize;
+    private final ObjectMapper objectMapper;
 
     /**
      * 내 컬렉션 카테고리 목록 조회
@@ -32,27 +63,102 @@ public class CollectionCategoryController {
      * (SecurityConfig의 .anyRequest().authenticated()에 의해 보호됨)
      */
     @GetMapping
+    @QueryBudget(1) // 카테고리 수와 무관하게 한 번
     public ResponseEntity<List<CollectionCategoryDTO>> getMyCategories(
-            @AuthenticationPrincipal UserDetails userDetails
+            @AuthenticationPrincipal AuthUser authUser
     ) {
         // @AuthenticationPrincipal을 통해 현재 로그인한 사용자의 정보를 가져옴
-        String username = userDetails.getUsername();
-        List<CollectionCategoryDTO> categories = collectionCategoryService.getCategoriesForUser(username);
+        Long userId = authUser.getUserId();
+        List<CollectionCategoryDTO> categories = collectionCategoryService.getCategoriesForUser(userId);
         return ResponseEntity.ok(categories);
     }
 
+    /**
+     * [추가] 팩별 수집 현황 조회 (OWNED / WISHLIST 각각의 수집 수와 팩 전체 카드 수)
+     * GET /api/my-collections/stats/packs
+     */
+    @GetMapping("/stats/packs")
+    @QueryBudget(1)
+    public ResponseEntity<List<PackCollectionStatsDTO>> getPackStats(
+            @AuthenticationPrincipal AuthUser authUser
+    ) {
+        List<PackCollectionStatsDTO> stats = collectionStatsService.getPackStats(authUser.getUserId());
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * [추가] 내 컬렉션 전체 내보내기 (모든 카테고리와 수집 카드, 팩/레어도 포함)
+     * GET /api/my-collections/export?format=csv    (기본값, 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM 포함)
+     * GET /api/my-collections/export?format=ndjson (한 줄에 JSON 객체 하나)
+     *
+     * 쿼리 한 번의 DB 커서에서 읽는 대로 응답에 쓰므로, 카드 수와 관계없이 서버 메모리 사용량이 일정함
+     */
+    @GetMapping("/export")
+    @QueryBudget(1) // [수정] 내보내기 쿼리 한 번 (스트리밍 스레드에서 실행하지만 JsonStreaming.counted로 함께 셈)
+    public ResponseEntity<StreamingResponseBody> exportCollections(
+            @AuthenticationPrincipal AuthUser authUser,
+            @RequestParam(defaultValue = "csv") String format
+    ) {
+        Long userId = authUser.getUserId();
+
+        if ("ndjson".equalsIgnoreCase(format)) {
+            StreamingResponseBody body = out -> {
+                try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+                    generator.setRootValueSeparator(null); // 행 구분은 줄바꿈으로 직접 씀
+                    collectionExportService.exportCollections(userId, row -> {
+                        try {
+                            generator.writeObject(row);
+                            generator.writeRaw('\n');
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                }
+            };
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"pokekor-collections.ndjson\"")
+                    .body(JsonStreaming.counted(body));
+        }
+
+        if (!"csv".equalsIgnoreCase(format)) {
+            return JsonStreaming.error(HttpStatus.BAD_REQUEST, "지원하지 않는 형식입니다 (csv 또는 ndjson): " + format);
+        }
+
+        StreamingResponseBody body = out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write('\uFEFF');
+            writer.write(CollectionExportCsv.HEADER);
+            writer.write("\r\n");
+            collectionExportService.exportCollections(userId, row -> {
+                try {
+                    CollectionExportCsv.writeRow(writer, row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"pokekor-collections.csv\"")
+                .body(JsonStreaming.counted(body));
+    }
+
     /**
      * [추가됨] 특정 카테고리 상세 조회 (수집된 카드 목록 포함)
      * GET /api/my-collections/{categoryId}
+     * ([추가] 카드 전체를 한 번에 읽으므로, 큰 카테고리는 GET /{categoryId}/cards 페이지 조회를 사용)
      */
     @GetMapping("/{categoryId}")
+    @QueryBudget(2) // 카테고리 + 수집 카드 한 번 (404/403 구분 시 +1)
     public ResponseEntity<?> getCategoryDetails(
             @PathVariable Long categoryId,
-            @AuthenticationPrincipal UserDetails userDetails
+            @AuthenticationPrincipal AuthUser authUser
     ) {
         try {
-            String username = userDetails.getUsername();
-            CollectionCategoryDetailDTO categoryDetails = collectionCategoryService.getCategoryDetails(categoryId, username);
+            Long userId = authUser.getUserId();
+            CollectionCategoryDetailDTO categoryDetails = collectionCategoryService.getCategoryDetails(categoryId, userId);
             return ResponseEntity.ok(categoryDetails);
 
         } catch (IllegalArgumentException e) {
@@ -64,17 +170,99 @@ public class CollectionCategoryController {
         }
     }
 
+    /**
+     * [추가] 특정 카테고리 상세 조회 (수집 카드 키셋 페이지네이션)
+     * GET /api/my-collections/{categoryId}/cards?size=60
+     * GET /api/my-collections/{categoryId}/cards?cursor=1234&size=60&packId=123&rarityId=SR
+     *
+     * 카테고리 정보와 함께 수집 카드를 cardId 오름차순으로 한 페이지씩 반환 (전체 건수는 계산하지 않음)
+     * 큰 카테고리도 전체 카드를 메모리에 올리지 않고 한 페이지만 읽음
+     *
+     * @param cursor (이전 응답의 nextCursor, 첫 페이지는 생략)
+     * @param size (페이지 크기, 선택 사항. pokekor.collection.max-page-size를 넘을 수 없음)
+     * @param packId (팩 필터, 선택 사항)
+     * @param rarityId (레어도 필터, 선택 사항)
+     */
+    @GetMapping("/{categoryId}/cards")
+    @QueryBudget(2) // 카테고리 + 카드 한 페이지 (404/403이면 카테고리 확인 2번으로 끝남)
+    public ResponseEntity<?> getCategoryPage(
+            @PathVariable Long categoryId,
+            @AuthenticationPrincipal AuthUser authUser,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) Long packId,
+            @RequestParam(required = false) String rarityId
+    ) {
+        // 페이지 크기는 1 ~ maxPageSize 범위로 제한
+        int pageSize = Math.max(1, Math.min(size != null ? size : defaultPageSize, maxPageSize));
+
+        try {
+            Long userId = authUser.getUserId();
+            CollectionCategoryPageDTO page = collectionCategoryService.getCategoryPage(
+                    categoryId, userId, cursor, pageSize, packId, rarityId);
+            return ResponseEntity.ok(page);
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (AccessDeniedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("서버 오류: " + e.getMessage());
+        }
+    }
+
+    /**
+     * [추가] 특정 카테고리 상세 조회 (스트리밍 응답)
+     * GET /api/my-collections/{categoryId}?stream=true
+     *
+     * 응답 형식은 상세 조회와 같지만, collectedCards를 List로 모으지 않고 DB 커서에서 읽는 대로 한 장씩 씀
+     * (권한 확인은 응답을 쓰기 전에 끝내므로 404/403은 기존과 동일하게 반환됨)
+     */
+    @GetMapping(value = "/{categoryId}", params = "stream=true")
+    @QueryBudget(2) // [수정] 권한 확인 + 스트리밍 스레드의 카드 커서 (404/403이면 권한 확인 2번으로 끝남)
+    public ResponseEntity<StreamingResponseBody> streamCategoryDetails(
+            @PathVariable Long categoryId,
+            @AuthenticationPrincipal AuthUser authUser
+    ) {
+        try {
+            CollectionCategoryDTO category = collectionCategoryService.getCategory(categoryId, authUser.getUserId());
+
+            StreamingResponseBody body = out -> {
+                try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+                    generator.writeStartObject();
+                    generator.writeNumberField("categoryId", category.getCategoryId());
+                    generator.writeStringField("categoryName", category.getCategoryName());
+                    generator.writeStringField("themeColor", category.getThemeColor());
+                    generator.writeStringField("categoryType", category.getCategoryType());
+                    generator.writeArrayFieldStart("collectedCards");
+                    collectionCategoryService.streamCategoryCards(categoryId, JsonStreaming.writer(generator));
+                    generator.writeEndArray();
+                    generator.writeEndObject();
+                }
+            };
+            return JsonStreaming.ok(JsonStreaming.counted(body));
+
+        } catch (IllegalArgumentException e) {
+            return JsonStreaming.error(HttpStatus.NOT_FOUND, e.getMessage());
+        } catch (AccessDeniedException e) {
+            return JsonStreaming.error(HttpStatus.FORBIDDEN, e.getMessage());
+        } catch (Exception e) {
+            return JsonStreaming.error(HttpStatus.INTERNAL_SERVER_ERROR, "서버 오류: " + e.getMessage());
+        }
+    }
+
     /**
      * 새 컬렉션 카테고리 생성
      * POST /api/my-collections
      */
     @PostMapping
+    @QueryBudget(1)
     public ResponseEntity<CollectionCategoryDTO> createCategory(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal AuthUser authUser,
             @RequestBody CategoryCreateRequestDTO requestDTO
     ) {
-        String username = userDetails.getUsername();
-        CollectionCategoryDTO createdCategory = collectionCategoryService.createCategory(username, requestDTO);
+        Long userId = authUser.getUserId();
+        CollectionCategoryDTO createdCategory = collectionCategoryService.createCategory(userId, requestDTO);
         return ResponseEntity.status(HttpStatus.CREATED).body(createdCategory);
     }
 
@@ -83,14 +271,15 @@ public class CollectionCategoryController {
      * PUT /api/my-collections/{categoryId}
      */
     @PutMapping("/{categoryId}")
+    @QueryBudget(2) // 조회 + UPDATE (404/403 구분 시 조회 +1)
     public ResponseEntity<?> updateCategory(
             @PathVariable Long categoryId,
             @RequestBody CategoryCreateRequestDTO requestDTO, // [수정] 생성 DTO 재사용
-            @AuthenticationPrincipal UserDetails userDetails
+            @AuthenticationPrincipal AuthUser authUser
     ) {
         try {
-            String username = userDetails.getUsername();
-            CollectionCategoryDTO updatedCategory = collectionCategoryService.updateCategory(categoryId, requestDTO, username);
+            Long userId = authUser.getUserId();
+            CollectionCategoryDTO updatedCategory = collectionCategoryService.updateCategory(categoryId, requestDTO, userId);
             return ResponseEntity.ok(updatedCategory); // 성공 시 200 OK와 수정된 DTO 반환
 
         } catch (IllegalArgumentException e) {
@@ -107,13 +296,14 @@ public class CollectionCategoryController {
      * DELETE /api/my-collections/{categoryId}
      */
     @DeleteMapping("/{categoryId}")
+    @QueryBudget(3) // 조회 + 수집 카드 DELETE + 카테고리 DELETE
     public ResponseEntity<?> deleteCategory(
             @PathVariable Long categoryId,
-            @AuthenticationPrincipal UserDetails userDetails
+            @AuthenticationPrincipal AuthUser authUser
     ) {
         try {
-            String username = userDetails.getUsername();
-            collectionCategoryService.deleteCategory(categoryId, username);
+            Long userId = authUser.getUserId();
+            collectionCategoryService.deleteCategory(categoryId, userId);
 
             // 성공 시 200 OK와 메시지 반환
             return ResponseEntity.ok(Map.of("message", "카테고리가 성공적으로 삭제되었습니다."));
@@ -133,26 +323,30 @@ public class CollectionCategoryController {
      *
      * @param categoryId (URL 경로 변수)
      * @param requestDTO (Request Body, 예: { "cardId": 123 })
-     * @param userDetails (로그인한 사용자 정보)
-     * @return
+     * @param authUser (로그인한 사용자 정보)
+     * @return [수정] 201 (새로 수집) 또는 200 (이미 수집된 카드), body의 result(ADDED / ALREADY_PRESENT)로 구분
      */
     @PostMapping("/{categoryId}/cards")
+    @QueryBudget(2) // [수정] INSERT 한 문장 (추가되지 않았을 때만 이유 확인 +1)
     public ResponseEntity<?> addCardToCategory(
             @PathVariable Long categoryId,
             @RequestBody CardCollectRequestDTO requestDTO,
-            @AuthenticationPrincipal UserDetails userDetails
+            @AuthenticationPrincipal AuthUser authUser
     ) {
         try {
-            String username = userDetails.getUsername();
-            CollectedCard savedCard = collectedCardService.addCardToCategory(
+            Long userId = authUser.getUserId();
+            CollectResult result = collectedCardService.addCardToCategory(
                     categoryId,
                     requestDTO.getCardId(),
-                    username
+                    userId
             );
 
-            // 성공 시 201 Created 응답 (간단한 메시지만 반환)
+            // [수정] 새로 수집되면 201 Created, 이미 수집된 카드면 200 OK (같은 요청을 여러 번 보내도 결과가 같음)
+            if (result == CollectResult.ALREADY_PRESENT) {
+                return ResponseEntity.ok(Map.of("message", "이미 해당 카테고리에 수집된 카드입니다.", "result", result));
+            }
             return ResponseEntity.status(HttpStatus.CREATED)
-                    .body(Map.of("message", "카드가 성공적으로 수집되었습니다."));
+                    .body(Map.of("message", "카드가 성공적으로 수집되었습니다.", "result", result));
 
         } catch (IllegalArgumentException e) {
             // 존재하지 않는 카드 또는 카테고리 ID
@@ -160,28 +354,66 @@ public class CollectionCategoryController {
         } catch (AccessDeniedException e) {
             // 다른 사용자의 카테고리에 접근 시도
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
-        } catch (IllegalStateException e) {
-            // 이미 수집된 카드 (중복)
-            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         } catch (Exception e) {
             // 기타 서버 오류
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("서버 오류가 발생했습니다: " + e.getMessage());
         }
     }
 
+    /**
+     * [추가] 특정 카테고리에 여러 카드를 한 번에 추가/제거
+     * POST /api/my-collections/{categoryId}/cards/bulk
+     *
+     * @param requestDTO (Request Body, 예: { "addCardIds": [1, 2, 3], "removeCardIds": [10] })
+     * @return 카드별 처리 결과 (이미 수집된 카드, 없는 카드는 실패가 아니라 결과에 따로 표시)
+     */
+    @PostMapping("/{categoryId}/cards/bulk")
+    @QueryBudget(5) // [수정] 카드 수와 무관 (권한 확인, 기존 수집 확인, 배치 DELETE, 카드 확인, 배치 INSERT)
+    public ResponseEntity<?> bulkUpdateCards(
+            @PathVariable Long categoryId,
+            @RequestBody CardBulkCollectRequestDTO requestDTO,
+            @AuthenticationPrincipal AuthUser authUser
+    ) {
+        int requested = sizeOf(requestDTO.getAddCardIds()) + sizeOf(requestDTO.getRemoveCardIds());
+        if (requested > bulkMaxCards) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body("한 번에 처리할 수 있는 카드는 최대 " + bulkMaxCards + "장입니다.");
+        }
+
+        try {
+            Long userId = authUser.getUserId();
+            CardBulkCollectResultDTO result = collectedCardService.bulkUpdateCards(categoryId, requestDTO, userId);
+            return ResponseEntity.ok(result);
+
+        } catch (IllegalArgumentException e) {
+            // 존재하지 않는 카테고리 ID
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (AccessDeniedException e) {
+            // 다른 사용자의 카테고리에 접근 시도
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("서버 오류: " + e.getMessage());
+        }
+    }
+
+    private static int sizeOf(List<Long> ids) {
+        return ids == null ? 0 : ids.size();
+    }
+
     /**
      * [추가됨] 특정 카테고리에서 카드 제거 (수집 해제)
      * DELETE /api/my-collections/{categoryId}/cards/{cardId}
      */
     @DeleteMapping("/{categoryId}/cards/{cardId}")
+    @QueryBudget(2)
     public ResponseEntity<?> removeCardFromCategory(
             @PathVariable Long categoryId,
             @PathVariable Long cardId,
-            @AuthenticationPrincipal UserDetails userDetails
+            @AuthenticationPrincipal AuthUser authUser
     ) {
         try {
-            String username = userDetails.getUsername();
-            collectedCardService.removeCardFromCategory(categoryId, cardId, username);
+            Long userId = authUser.getUserId();
+            collectedCardService.removeCardFromCategory(categoryId, cardId, userId);
 
             // 성공 시 200 OK (또는 204 No Content) 와 메시지 반환
             return ResponseEntity.ok(Map.of("message", "카드가 컬렉션에서 제거되었습니다."));
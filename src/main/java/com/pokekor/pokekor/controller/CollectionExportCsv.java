@@ -0,0 +1,58 @@
+package com.pokekor.pokekor.controller;
+
+import com.pokekor.pokekor.dto.CollectionExportRow;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * [추가] 컬렉션 내보내기 CSV 형식 (RFC 4180)
+ * 쉼표, 큰따옴표, 줄바꿈이 들어간 값만 큰따옴표로 감싸고, null은 빈 칸으로 씀
+ * [추가] =, +, -, @, 탭, CR로 시작하는 값은 스프레드시트가 수식으로 실행하지 않도록 앞에 '를 붙임 (CSV 수식 주입 방지)
+ */
+final class CollectionExportCsv {
+
+    static final String HEADER = "categoryId,categoryName,categoryType,themeColor," +
+            "cardId,cardName,cardNumberInPack,cardType,cardAttribute1,cardAttribute2," +
+            "packId,packNameKo,rarityId,rarityName";
+
+    private CollectionExportCsv() {
+    }
+
+    static void writeRow(Writer writer, CollectionExportRow row) throws IOException {
+        Object[] values = {
+                row.getCategoryId(), row.getCategoryName(), row.getCategoryType(), row.getThemeColor(),
+                row.getCardId(), row.getCardName(), row.getCardNumberInPack(), row.getCardType(),
+                row.getCardAttribute1(), row.getCardAttribute2(),
+                row.getPackId(), row.getPackNameKo(), row.getRarityId(), row.getRarityName()
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeValue(writer, values[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    private static void writeValue(Writer writer, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (value instanceof String && !text.isEmpty() && isFormulaStart(text.charAt(0))) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static boolean isFormulaStart(char c) {
+        return c == '=' || c == '+' || c == '-' || c == '@' || c == '\t' || c == '\r';
+    }
+}
@@ -0,0 +1,33 @@
+package com.pokekor.pokekor.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * [추가] ETag 조건부 요청(If-None-Match) 공통 처리
+ *
+ * 카탈로그 응답은 거의 바뀌지 않으므로, 브라우저가 캐시한 응답의 ETag가 현재와 같으면
+ * 조회와 직렬화를 모두 건너뛰고 304 Not Modified를 반환한다.
+ */
+final class ConditionalResponses {
+
+    // 공용 카탈로그: 캐시는 하되 매번 ETag로 재검증
+    static final CacheControl CATALOG = CacheControl.noCache();
+    // 사용자별 수집 정보가 섞인 응답: 공유 캐시(프록시)에는 저장하지 않음
+    static final CacheControl PER_USER = CacheControl.noCache().cachePrivate();
+
+    private ConditionalResponses() {
+    }
+
+    /**
+     * If-None-Match가 etag와 일치하면 304 응답을, 아니면 null을 반환
+     */
+    static <T> ResponseEntity<T> notModified(WebRequest request, String etag, CacheControl cacheControl) {
+        if (!request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+    }
+}
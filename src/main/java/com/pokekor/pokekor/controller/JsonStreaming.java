@@ -0,0 +1,69 @@
+package com.pokekor.pokekor.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.pokekor.pokekor.metrics.RequestQueryCounter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * [추가] 스트리밍 JSON 응답(?stream=true) 공통 처리
+ *
+ * 결과 전체를 List로 모아 한 번에 직렬화하지 않고, JsonGenerator로 한 건씩 바로 응답에 쓴다.
+ * (메모리에는 직렬화 버퍼와 현재 쓰는 한 건만 남음)
+ */
+final class JsonStreaming {
+
+    private JsonStreaming() {
+    }
+
+    static ResponseEntity<StreamingResponseBody> ok(StreamingResponseBody body) {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * [추가] 스트리밍 스레드에서 실행하는 조회도 현재 요청의 쿼리 수(@QueryBudget)에 포함되도록 body를 감쌈
+     * (요청 스레드에서 호출해야 함)
+     */
+    static StreamingResponseBody counted(StreamingResponseBody body) {
+        Supplier<RequestQueryCounter.Scope> attach = RequestQueryCounter.capture();
+        if (attach == null) {
+            return body;
+        }
+        return out -> {
+            try (RequestQueryCounter.Scope ignored = attach.get()) {
+                body.writeTo(out);
+            }
+        };
+    }
+
+    /**
+     * 스트리밍 엔드포인트의 오류 응답 (반환 타입이 ResponseEntity<StreamingResponseBody>로 고정되므로 메시지도 스트림으로 씀)
+     */
+    static ResponseEntity<StreamingResponseBody> error(HttpStatus status, String message) {
+        byte[] bytes = String.valueOf(message).getBytes(StandardCharsets.UTF_8);
+        return ResponseEntity.status(status)
+                .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+                .body(out -> out.write(bytes));
+    }
+
+    /**
+     * 값을 한 건씩 generator에 쓰는 Consumer (IOException은 UncheckedIOException으로 감싸서 던짐)
+     */
+    static <T> Consumer<T> writer(JsonGenerator generator) {
+        return value -> {
+            try {
+                generator.writeObject(value);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+}
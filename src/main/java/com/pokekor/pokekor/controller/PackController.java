@@ -3,10 +3,12 @@ package com.pokekor.pokekor.controller;
 import com.pokekor.pokekor.dto.PackDTO;
 import com.pokekor.pokekor.service.PackService;
 import lombok.RequiredArgsConstructor;
+import com.pokekor.pokekor.metrics.QueryBudget;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -20,10 +22,19 @@ public class PackController {
     /**
      * 전체 팩 목록 조회 API
      * GET /api/packs
+     *
+     * [수정] 카탈로그 버전을 ETag로 응답하며, If-None-Match가 일치하면 조회 없이 304 반환
      */
     @GetMapping
-    public ResponseEntity<List<PackDTO>> getAllPacks() {
+    @QueryBudget(1)
+    public ResponseEntity<List<PackDTO>> getAllPacks(WebRequest webRequest) {
+        String etag = packService.getPacksETag();
+        ResponseEntity<List<PackDTO>> notModified = ConditionalResponses.notModified(webRequest, etag, ConditionalResponses.CATALOG);
+        if (notModified != null) {
+            return notModified;
+        }
+
         List<PackDTO> packs = packService.getAllPacks();
-        return ResponseEntity.ok(packs);
+        return ResponseEntity.ok().eTag(etag).cacheControl(ConditionalResponses.CATALOG).body(packs);
     }
 }
\ No newline at end of file
@@ -3,10 +3,12 @@ package com.pokekor.pokekor.controller;
 import com.pokekor.pokekor.dto.RarityDTO;
 import com.pokekor.pokekor.service.RarityService;
 import lombok.RequiredArgsConstructor;
+import com.pokekor.pokekor.metrics.QueryBudget;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -20,10 +22,19 @@ public class RarityController {
     /**
      * 전체 레어도 목록 조회 API
      * GET /api/rarities
+     *
+     * [수정] 카탈로그 버전을 ETag로 응답하며, If-None-Match가 일치하면 조회 없이 304 반환
      */
     @GetMapping
-    public ResponseEntity<List<RarityDTO>> getAllRarities() {
+    @QueryBudget(1)
+    public ResponseEntity<List<RarityDTO>> getAllRarities(WebRequest webRequest) {
+        String etag = rarityService.getRaritiesETag();
+        ResponseEntity<List<RarityDTO>> notModified = ConditionalResponses.notModified(webRequest, etag, ConditionalResponses.CATALOG);
+        if (notModified != null) {
+            return notModified;
+        }
+
         List<RarityDTO> rarities = rarityService.getAllRarities();
-        return ResponseEntity.ok(rarities);
+        return ResponseEntity.ok().eTag(etag).cacheControl(ConditionalResponses.CATALOG).body(rarities);
     }
 }
\ No newline at end of file
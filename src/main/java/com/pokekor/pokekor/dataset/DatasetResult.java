@@ -0,0 +1,30 @@
+package com.pokekor.pokekor.dataset;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 합성 데이터셋 생성 결과 (테이블별 생성 행 수와 생성된 ID 범위)
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class DatasetResult {
+
+    private final long raritiesInserted;
+    private final long packsInserted;
+    private final long cardsInserted;
+    private final long usersInserted;
+    private final long categoriesInserted;
+    private final long collectedCardsInserted;
+
+    private final long firstCardId;
+    private final long lastCardId;
+    private final long firstUserId;
+    private final long lastUserId;
+
+    private final boolean copyUsed;     // PostgreSQL COPY 사용 여부 (false면 JDBC 배치 INSERT)
+    private final long elapsedMillis;
+    private final long rowsPerSecond;
+}
@@ -0,0 +1,40 @@
+package com.pokekor.pokekor.dataset;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 합성 데이터셋의 규모와 분포 설정
+ *
+ * 기본값은 운영 규모 검증용 (카드 약 10만 장 / 팩 500개 / 사용자 10만 명).
+ * 같은 seed와 설정이면 비밀번호 해시를 제외한 모든 행이 항상 똑같이 만들어진다.
+ */
+@Getter
+@Setter
+@ToString(exclude = "password")
+public class DatasetSpec {
+
+    private long seed = 20240101L;
+
+    // 카탈로그
+    private int packs = 500;
+    private int cards = 100_000;
+
+    // 사용자와 컬렉션
+    private int users = 100_000;
+    private String usernamePrefix = "synth";
+    private String password = "password1234"; // 모든 합성 사용자가 같은 비밀번호 (해시는 한 번만 계산)
+    private int maxCategoriesPerUser = 4;
+
+    // 수집 카드 수 분포: 대부분 소량, 꼬리가 긴 파레토 분포 + 맨 앞 heavyUsers명은 heavyUserMinCards장 이상
+    private double emptyCollectionRatio = 0.1;
+    private int minCollectionSize = 5;
+    private double collectionSizeAlpha = 1.16; // 작을수록 꼬리가 두꺼움 (1.16 ≈ 상위 20%가 80%를 수집)
+    private int maxRegularCollectionSize = 10_000;
+    private int heavyUsers = 5;
+    private int heavyUserMinCards = 20_000;
+
+    // COPY를 쓸 수 없는 DB(H2 등)에서 JDBC 배치 한 번에 보낼 행 수
+    private int batchSize = 1000;
+}
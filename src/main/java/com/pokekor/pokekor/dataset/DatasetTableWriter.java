@@ -0,0 +1,166 @@
+package com.pokekor.pokekor.dataset;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+
+/**
+ * 한 테이블에 행을 순서대로 밀어 넣는 writer
+ *
+ * - PostgreSQL: COPY ... FROM STDIN (FORMAT csv)로 행을 스트리밍 (문장/파라미터 바인딩 비용 없음)
+ * - 그 외(H2 등): 같은 컬럼 순서의 INSERT를 batchSize 행마다 executeBatch
+ *
+ * 한 커넥션에서 COPY는 동시에 하나만 열 수 있으므로, 테이블별 writer를 하나씩 열고 닫아야 한다.
+ */
+abstract class DatasetTableWriter implements AutoCloseable {
+
+    protected long rows;
+
+    static boolean supportsCopy(Connection connection) throws SQLException {
+        return connection.isWrapperFor(PGConnection.class);
+    }
+
+    static DatasetTableWriter open(Connection connection, String table, String[] columns, int batchSize)
+            throws SQLException {
+        return supportsCopy(connection)
+                ? new CopyWriter(connection, table, columns)
+                : new BatchInsertWriter(connection, table, columns, batchSize);
+    }
+
+    /**
+     * 한 행 쓰기 (values는 생성 시 넘긴 컬럼 순서와 같아야 함)
+     */
+    abstract void write(Object... values) throws SQLException;
+
+    long rows() {
+        return rows;
+    }
+
+    @Override
+    public abstract void close() throws SQLException;
+
+    /**
+     * COPY FROM STDIN (CSV) writer
+     * 행을 버퍼에 CSV로 모았다가 일정 크기마다 서버로 보낸다.
+     */
+    private static final class CopyWriter extends DatasetTableWriter {
+
+        private static final int FLUSH_CHARS = 64 * 1024;
+
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(FLUSH_CHARS + 1024);
+        private boolean finished;
+
+        CopyWriter(Connection connection, String table, String[] columns) throws SQLException {
+            String sql = "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN (FORMAT csv)";
+            this.copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+        }
+
+        @Override
+        void write(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                appendCsv(values[i]);
+            }
+            buffer.append('\n');
+            rows++;
+            if (buffer.length() >= FLUSH_CHARS) {
+                flush();
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            try {
+                flush();
+                copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy(); // endCopy 전에 실패한 경우 커넥션을 COPY 상태로 남기지 않음
+                }
+            }
+        }
+
+        private void flush() throws SQLException {
+            if (buffer.length() > 0) {
+                byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+                copyIn.writeToCopy(bytes, 0, bytes.length);
+                buffer.setLength(0);
+            }
+        }
+
+        /**
+         * CSV 형식에서 따옴표 없는 빈 값은 NULL, 따옴표로 감싼 값은 문자열 (빈 문자열 포함)
+         */
+        private void appendCsv(Object value) {
+            if (value == null) {
+                return;
+            }
+            if (value instanceof Number) {
+                buffer.append(value);
+                return;
+            }
+            String text = value.toString();
+            buffer.append('"');
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '"') {
+                    buffer.append('"');
+                }
+                buffer.append(c);
+            }
+            buffer.append('"');
+        }
+    }
+
+    /**
+     * JDBC 배치 INSERT writer
+     */
+    private static final class BatchInsertWriter extends DatasetTableWriter {
+
+        private final PreparedStatement statement;
+        private final int batchSize;
+        private int pending;
+
+        BatchInsertWriter(Connection connection, String table, String[] columns, int batchSize) throws SQLException {
+            String placeholders = String.join(", ", Collections.nCopies(columns.length, "?"));
+            this.statement = connection.prepareStatement(
+                    "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES (" + placeholders + ")");
+            this.batchSize = Math.max(1, batchSize);
+        }
+
+        @Override
+        void write(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                statement.setObject(i + 1, values[i]);
+            }
+            statement.addBatch();
+            rows++;
+            if (++pending >= batchSize) {
+                statement.executeBatch();
+                pending = 0;
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try (statement) {
+                if (pending > 0) {
+                    statement.executeBatch();
+                    pending = 0;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,522 @@
+package com.pokekor.pokekor.dataset;
+
+import com.pokekor.pokekor.catalog.CatalogChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * 규모 테스트용 합성 데이터셋 생성기
+ *
+ * T_RARITY / T_PACK / T_CARD / T_USER / T_COLLECTION_CATEGORY / T_COLLECTED_CARD에
+ * 운영 규모의 데이터를 직접 넣는다 (PostgreSQL은 COPY, 그 외 DB는 JDBC 배치 INSERT).
+ *
+ * - 카탈로그: 팩마다 카드 번호 순서대로 C → U → R → RR → AR → SR → SAR → UR 비율을 따르고, 카드 이름은 한글
+ * - 사용자: 카테고리 1 ~ maxCategoriesPerUser개 (OWNED / WISHLIST), 수집 카드 수는 꼬리가 긴 파레토 분포
+ *   (맨 앞 heavyUsers명은 heavyUserMinCards장 이상을 수집한 헤비 유저)
+ * - 같은 seed와 설정이면 항상 같은 행이 만들어짐 (사용자별 난수는 seed와 사용자 번호로만 결정되므로
+ *   사용자 수를 늘려도 앞쪽 사용자의 데이터는 바뀌지 않음)
+ * - 모든 ID는 기존 최대 ID 다음부터 직접 지정하고, 생성 후 IDENTITY 시퀀스를 그 뒤로 옮김
+ * - 전체를 한 트랜잭션으로 넣으므로 중간에 실패하면 아무것도 남지 않음
+ *
+ * 엔티티를 거치지 않으므로 카탈로그 변경 이벤트는 생성이 끝난 뒤 한 번만 발행한다.
+ */
+@Slf4j
+@Component
+public class SyntheticDatasetGenerator {
+
+    public static final List<String> RARITY_IDS = List.of("C", "U", "R", "RR", "AR", "SR", "SAR", "UR");
+    public static final List<String> CARD_TYPES = List.of("포켓몬", "트레이너스", "에너지");
+    public static final List<String> ATTRIBUTES =
+            List.of("풀", "불꽃", "물", "번개", "초", "격투", "악", "강철", "드래곤", "무색");
+    public static final List<String> POKEMON_NAMES = List.of(
+            "피카츄", "라이츄", "리자몽", "리자드", "파이리", "이상해씨", "이상해꽃", "꼬부기", "거북왕", "뮤츠",
+            "뮤", "잠만보", "망나뇽", "미뇽", "루카리오", "가디안", "갸라도스", "팬텀", "이브이", "님피아",
+            "블래키", "에브이", "마기라스", "레쿠쟈", "가이오가", "그란돈", "디아루가", "펄기아", "기라티나", "아르세우스",
+            "한카리아스", "엠페르트", "글레이시아", "리피아", "코라이돈", "미라이돈", "나오하", "뜨아거", "꾸왁스", "마스카나",
+            "라우드본", "웨이니발", "토게피", "푸린", "고라파덕", "나옹", "메타몽", "잉어킹", "썬더", "파이어"
+    );
+
+    private static final String[] RARITY_NAMES =
+            {"커먼", "언커먼", "레어", "더블 레어", "아트 레어", "슈퍼 레어", "스페셜 아트 레어", "울트라 레어"};
+    // 팩 안에서 레어도별 카드 비율 (카드 번호 앞쪽부터 RARITY_IDS 순서로 배정)
+    private static final double[] RARITY_WEIGHTS = {0.35, 0.22, 0.09, 0.10, 0.11, 0.08, 0.04, 0.01};
+    // 레어도별 포켓몬 카드 비율 (나머지는 트레이너스, 일부 에너지)
+    private static final double[] POKEMON_RATIOS = {0.72, 0.70, 0.85, 1.0, 1.0, 0.70, 0.80, 0.40};
+    // 레어도별 이름에 ex가 붙는 비율 (포켓몬 카드만)
+    private static final double[] EX_RATIOS = {0, 0, 0, 1.0, 0, 0.6, 1.0, 1.0};
+
+    private static final String[] TRAINER_NAMES = {
+            "박사의 연구", "몬스터볼", "하이퍼볼", "네스트볼", "포켓몬 통신", "이상한 사탕", "보스의 지령", "지우개",
+            "배틀 VIP 패스", "학습장치", "선택 머리띠", "기력의 띠", "페퍼", "네모", "모란", "키바나", "단델", "마리"
+    };
+    private static final String[] PACK_WORDS_A = {
+            "스칼렛", "바이올렛", "흑염의", "고대의", "미래의", "찬란한", "빛나는", "변환의", "초전", "나이트"
+    };
+    private static final String[] PACK_WORDS_B = {
+            "지배자", "포효", "섬광", "가면", "브레이커", "원더러", "스타", "크라운", "포스", "드래곤"
+    };
+    private static final String[] SERIES = {"SV", "S", "SM", "XY", "BW"}; // 최신 시리즈부터
+    private static final String[] THEME_COLORS =
+            {"#FF6B6B", "#FFD93D", "#6BCB77", "#4D96FF", "#9B5DE5", "#F15BB5", "#00BBF9", "#F4A261"};
+
+    // 합성 포켓몬 이름용 자모 (읽을 수 있는 음절만 나오도록 일부만 사용)
+    private static final int[] INITIALS = {0, 2, 3, 5, 6, 7, 9, 11, 12, 14, 15, 16, 17, 18};
+    private static final int[] MEDIALS = {0, 1, 4, 8, 13, 18, 20};
+    private static final int[] FINALS = {4, 8, 16, 21};
+
+    private static final String[] RARITY_COLUMNS = {"rarity_id", "rarity_name"};
+    private static final String[] PACK_COLUMNS = {"pack_id", "pack_name_ko", "release_date", "pack_image_url", "series"};
+    private static final String[] CARD_COLUMNS = {"card_id", "card_name", "card_image_url", "card_number_in_pack",
+            "card_type", "card_attribute1", "card_attribute2", "rarity_id", "pack_id"};
+    private static final String[] USER_COLUMNS = {"user_id", "username", "password", "email"};
+    private static final String[] CATEGORY_COLUMNS =
+            {"category_id", "category_name", "theme_color", "category_type", "user_id"};
+    private static final String[] COLLECTED_CARD_COLUMNS = {"category_id", "card_id"};
+
+    private static final int PROGRESS_LOG_ROWS = 500_000;
+
+    private final DataSource dataSource;
+    private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public SyntheticDatasetGenerator(DataSource dataSource, PasswordEncoder passwordEncoder,
+                                     ApplicationEventPublisher eventPublisher) {
+        this.dataSource = dataSource;
+        this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 설정대로 데이터셋을 생성한다
+     *
+     * @throws IllegalStateException 같은 usernamePrefix의 사용자가 이미 있거나 DB 쓰기에 실패한 경우
+     */
+    public DatasetResult generate(DatasetSpec spec) {
+        long startedAt = System.nanoTime();
+        log.info("합성 데이터셋 생성 시작: {}", spec);
+
+        // 모든 사용자가 같은 비밀번호이므로 BCrypt는 한 번만 계산
+        String passwordHash = passwordEncoder.encode(spec.getPassword());
+
+        DatasetResult result;
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                result = generate(connection, spec, passwordHash, startedAt);
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("합성 데이터셋 생성에 실패했습니다.", e);
+        }
+
+        if (result.getCardsInserted() + result.getPacksInserted() + result.getRaritiesInserted() > 0) {
+            eventPublisher.publishEvent(new CatalogChangedEvent("SyntheticDataset"));
+        }
+        log.info("합성 데이터셋 생성 완료: {}", result);
+        return result;
+    }
+
+    private DatasetResult generate(Connection connection, DatasetSpec spec, String passwordHash, long startedAt)
+            throws SQLException {
+        if (spec.getUsers() > 0 && usernameExists(connection, username(spec, 0))) {
+            throw new IllegalStateException(
+                    "이미 생성된 합성 사용자가 있습니다. 다른 usernamePrefix를 지정하세요: " + spec.getUsernamePrefix());
+        }
+
+        long packBase = maxId(connection, "t_pack", "pack_id");
+        long cardBase = maxId(connection, "t_card", "card_id");
+        long userBase = maxId(connection, "t_user", "user_id");
+        long categoryBase = maxId(connection, "t_collection_category", "category_id");
+
+        long rarities = writeRarities(connection, spec);
+        long packs = writePacks(connection, spec, packBase);
+        long cards = writeCards(connection, spec, packBase, cardBase);
+        long users = writeUsers(connection, spec, userBase, passwordHash);
+        long categories = writeCategories(connection, spec, userBase, categoryBase);
+        long collected = writeCollectedCards(connection, spec, categoryBase, cardBase, cards);
+        connection.commit();
+
+        // 직접 지정한 ID 뒤에서 IDENTITY가 이어지도록 (H2의 ALTER TABLE은 DDL이므로 커밋 후에 실행)
+        restartIdentity(connection, "t_pack", "pack_id", packBase + packs);
+        restartIdentity(connection, "t_card", "card_id", cardBase + cards);
+        restartIdentity(connection, "t_user", "user_id", userBase + users);
+        restartIdentity(connection, "t_collection_category", "category_id", categoryBase + categories);
+        connection.commit();
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        long totalRows = rarities + packs + cards + users + categories + collected;
+        return new DatasetResult(
+                rarities, packs, cards, users, categories, collected,
+                cards > 0 ? cardBase + 1 : 0, cardBase + cards,
+                users > 0 ? userBase + 1 : 0, userBase + users,
+                DatasetTableWriter.supportsCopy(connection),
+                elapsedMillis, totalRows * 1000 / Math.max(1, elapsedMillis)
+        );
+    }
+
+    // ===== 카탈로그 =====
+
+    /**
+     * 없는 레어도만 추가 (기존 레어도의 이름은 건드리지 않음)
+     */
+    private long writeRarities(Connection connection, DatasetSpec spec) throws SQLException {
+        Set<String> existing = new HashSet<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT rarity_id FROM t_rarity")) {
+            while (rs.next()) {
+                existing.add(rs.getString(1));
+            }
+        }
+        try (DatasetTableWriter writer = DatasetTableWriter.open(connection, "t_rarity", RARITY_COLUMNS, spec.getBatchSize())) {
+            for (int i = 0; i < RARITY_IDS.size(); i++) {
+                if (!existing.contains(RARITY_IDS.get(i))) {
+                    writer.write(RARITY_IDS.get(i), RARITY_NAMES[i]);
+                }
+            }
+            return writer.rows();
+        }
+    }
+
+    private long writePacks(Connection connection, DatasetSpec spec, long packBase) throws SQLException {
+        SplittableRandom random = new SplittableRandom(spec.getSeed());
+        LocalDate firstRelease = LocalDate.of(2011, 1, 14);
+        int packsPerSeries = Math.max(1, (spec.getPacks() + SERIES.length - 1) / SERIES.length);
+
+        try (DatasetTableWriter writer = DatasetTableWriter.open(connection, "t_pack", PACK_COLUMNS, spec.getBatchSize())) {
+            for (int i = 0; i < spec.getPacks(); i++) {
+                long packId = packBase + i + 1;
+                // 오래된 팩(앞 번호)일수록 오래된 시리즈
+                String series = SERIES[Math.max(0, SERIES.length - 1 - i / packsPerSeries)];
+                String name = PACK_WORDS_A[random.nextInt(PACK_WORDS_A.length)] + " "
+                        + PACK_WORDS_B[random.nextInt(PACK_WORDS_B.length)] + " " + (i + 1); // 팩 이름은 유일해야 함
+                writer.write(packId, name, firstRelease.plusDays(7L * i + random.nextInt(7)),
+                        "https://example.com/packs/" + packId + ".png", series);
+            }
+            return writer.rows();
+        }
+    }
+
+    private long writeCards(Connection connection, DatasetSpec spec, long packBase, long cardBase) throws SQLException {
+        SplittableRandom random = new SplittableRandom(spec.getSeed() + 1);
+        int[] packSizes = packSizes(random, spec.getPacks(), spec.getCards());
+
+        try (DatasetTableWriter writer = DatasetTableWriter.open(connection, "t_card", CARD_COLUMNS, spec.getBatchSize())) {
+            long cardId = cardBase;
+            for (int pack = 0; pack < packSizes.length; pack++) {
+                int size = packSizes[pack];
+                for (int number = 0; number < size; number++) {
+                    int rarity = rarityAt(number, size);
+                    writeCard(writer, random, ++cardId, packBase + pack + 1, number + 1, rarity);
+                    logProgress("t_card", writer.rows());
+                }
+            }
+            return writer.rows();
+        }
+    }
+
+    private void writeCard(DatasetTableWriter writer, SplittableRandom random, long cardId, long packId,
+                           int number, int rarity) throws SQLException {
+        String name;
+        String type;
+        String attribute1 = null;
+        String attribute2 = null;
+
+        if (random.nextDouble() < POKEMON_RATIOS[rarity]) {
+            type = CARD_TYPES.get(0);
+            name = random.nextInt(10) < 7
+                    ? POKEMON_NAMES.get(random.nextInt(POKEMON_NAMES.size()))
+                    : syntheticName(random);
+            if (random.nextDouble() < EX_RATIOS[rarity]) {
+                name += " ex";
+            }
+            attribute1 = ATTRIBUTES.get(random.nextInt(ATTRIBUTES.size()));
+            if (random.nextInt(20) == 0) {
+                attribute2 = ATTRIBUTES.get(random.nextInt(ATTRIBUTES.size()));
+                if (attribute2.equals(attribute1)) {
+                    attribute2 = null;
+                }
+            }
+        } else if (random.nextInt(10) == 0) {
+            type = CARD_TYPES.get(2);
+            attribute1 = ATTRIBUTES.get(random.nextInt(ATTRIBUTES.size() - 1)); // 무색 기본 에너지는 없음
+            name = "기본 " + attribute1 + " 에너지";
+        } else {
+            type = CARD_TYPES.get(1);
+            name = TRAINER_NAMES[random.nextInt(TRAINER_NAMES.length)];
+        }
+
+        writer.write(cardId, name, "https://example.com/cards/" + cardId + ".png", String.format("%03d", number),
+                type, attribute1, attribute2, RARITY_IDS.get(rarity), packId);
+    }
+
+    /**
+     * 팩별 카드 수 (평균 cards / packs, ±40% 범위로 흩어지며 합계는 정확히 cards)
+     */
+    private static int[] packSizes(SplittableRandom random, int packs, int cards) {
+        int[] sizes = new int[Math.max(0, packs)];
+        if (packs <= 0) {
+            return sizes;
+        }
+        double[] weights = new double[packs];
+        double total = 0;
+        for (int i = 0; i < packs; i++) {
+            weights[i] = 0.6 + random.nextDouble() * 0.8;
+            total += weights[i];
+        }
+        int assigned = 0;
+        for (int i = 0; i < packs; i++) {
+            sizes[i] = (int) (cards * weights[i] / total);
+            assigned += sizes[i];
+        }
+        for (int i = 0; assigned < cards; i = (i + 1) % packs) {
+            sizes[i]++;
+            assigned++;
+        }
+        return sizes;
+    }
+
+    /**
+     * 팩 안의 카드 번호(0부터)에 해당하는 레어도 위치
+     */
+    private static int rarityAt(int number, int packSize) {
+        double position = (number + 0.5) / packSize;
+        double cumulative = 0;
+        for (int i = 0; i < RARITY_WEIGHTS.length; i++) {
+            cumulative += RARITY_WEIGHTS[i];
+            if (position < cumulative) {
+                return i;
+            }
+        }
+        return RARITY_WEIGHTS.length - 1;
+    }
+
+    /**
+     * 2~3음절 한글 이름 (완성형 음절 = 0xAC00 + (초성 * 21 + 중성) * 28 + 종성)
+     */
+    private static String syntheticName(SplittableRandom random) {
+        int syllables = 2 + random.nextInt(2);
+        StringBuilder name = new StringBuilder(syllables);
+        for (int i = 0; i < syllables; i++) {
+            int initial = INITIALS[random.nextInt(INITIALS.length)];
+            int medial = MEDIALS[random.nextInt(MEDIALS.length)];
+            int fin = random.nextInt(10) < 7 ? 0 : FINALS[random.nextInt(FINALS.length)];
+            name.append((char) (0xAC00 + (initial * 21 + medial) * 28 + fin));
+        }
+        return name.toString();
+    }
+
+    // ===== 사용자와 컬렉션 =====
+
+    private long writeUsers(Connection connection, DatasetSpec spec, long userBase, String passwordHash)
+            throws SQLException {
+        try (DatasetTableWriter writer = DatasetTableWriter.open(connection, "t_user", USER_COLUMNS, spec.getBatchSize())) {
+            for (int i = 0; i < spec.getUsers(); i++) {
+                String username = username(spec, i);
+                writer.write(userBase + i + 1, username, passwordHash, username + "@example.com");
+                logProgress("t_user", writer.rows());
+            }
+            return writer.rows();
+        }
+    }
+
+    private long writeCategories(Connection connection, DatasetSpec spec, long userBase, long categoryBase)
+            throws SQLException {
+        try (DatasetTableWriter writer =
+                     DatasetTableWriter.open(connection, "t_collection_category", CATEGORY_COLUMNS, spec.getBatchSize())) {
+            long categoryId = categoryBase;
+            for (int i = 0; i < spec.getUsers(); i++) {
+                UserPlan plan = UserPlan.of(spec, i);
+                for (int c = 0; c < plan.names.length; c++) {
+                    writer.write(++categoryId, plan.names[c], plan.colors[c],
+                            plan.wishlist[c] ? "WISHLIST" : "OWNED", userBase + i + 1);
+                    logProgress("t_collection_category", writer.rows());
+                }
+            }
+            return writer.rows();
+        }
+    }
+
+    /**
+     * 카테고리 ID는 writeCategories와 같은 순서로 다시 계산 (사용자별 계획은 seed로 재현됨)
+     */
+    private long writeCollectedCards(Connection connection, DatasetSpec spec, long categoryBase, long cardBase,
+                                     long cardCount) throws SQLException {
+        int cards = (int) cardCount;
+        BitSet chosen = new BitSet(cards);
+
+        try (DatasetTableWriter writer =
+                     DatasetTableWriter.open(connection, "t_collected_card", COLLECTED_CARD_COLUMNS, spec.getBatchSize())) {
+            long firstCategoryId = categoryBase + 1;
+            for (int i = 0; i < spec.getUsers(); i++) {
+                UserPlan plan = UserPlan.of(spec, i);
+                int size = Math.min(plan.collectionSize, cards);
+                sampleDistinct(plan.random, cards, size, chosen);
+
+                for (int card = chosen.nextSetBit(0); card >= 0; card = chosen.nextSetBit(card + 1)) {
+                    chosen.clear(card);
+                    writer.write(firstCategoryId + plan.categoryFor(), cardBase + card + 1);
+                    logProgress("t_collected_card", writer.rows());
+                }
+                firstCategoryId += plan.names.length;
+            }
+            return writer.rows();
+        }
+    }
+
+    /**
+     * 0 ~ n-1 중 서로 다른 k개를 골라 chosen에 표시 (Floyd 알고리즘, O(k))
+     */
+    private static void sampleDistinct(SplittableRandom random, int n, int k, BitSet chosen) {
+        for (int j = n - k; j < n; j++) {
+            int t = random.nextInt(j + 1);
+            chosen.set(chosen.get(t) ? j : t);
+        }
+    }
+
+    private static String username(DatasetSpec spec, int userIndex) {
+        return spec.getUsernamePrefix() + String.format("%06d", userIndex + 1);
+    }
+
+    /**
+     * 한 사용자의 카테고리 구성과 수집 카드 수
+     * 사용자별 난수(seed, 사용자 번호)로만 만들어지므로 여러 번 다시 계산해도 항상 같다.
+     * random은 계획을 만든 뒤의 상태 그대로 넘겨서, 이어지는 카드 선택도 재현되게 한다.
+     */
+    private static final class UserPlan {
+
+        private final SplittableRandom random;
+        private final String[] names;
+        private final String[] colors;
+        private final boolean[] wishlist;
+        private final int[] owned;
+        private final int[] wished;
+        private final int collectionSize;
+
+        private UserPlan(SplittableRandom random, String[] names, String[] colors, boolean[] wishlist, int collectionSize) {
+            this.random = random;
+            this.names = names;
+            this.colors = colors;
+            this.wishlist = wishlist;
+            this.collectionSize = collectionSize;
+
+            int wishCount = 0;
+            for (boolean w : wishlist) {
+                wishCount += w ? 1 : 0;
+            }
+            this.owned = new int[wishlist.length - wishCount];
+            this.wished = new int[wishCount];
+            for (int c = 0, o = 0, w = 0; c < wishlist.length; c++) {
+                if (wishlist[c]) {
+                    wished[w++] = c;
+                } else {
+                    owned[o++] = c;
+                }
+            }
+        }
+
+        static UserPlan of(DatasetSpec spec, int userIndex) {
+            SplittableRandom random = new SplittableRandom(spec.getSeed() * 0x9E3779B97F4A7C15L + userIndex);
+
+            int count = 1 + random.nextInt(Math.max(1, spec.getMaxCategoriesPerUser()));
+            String[] names = new String[count];
+            String[] colors = new String[count];
+            boolean[] wishlist = new boolean[count];
+            int decks = 0;
+            int wishlists = 0;
+            for (int c = 0; c < count; c++) {
+                // 첫 카테고리는 항상 보유(OWNED), 나머지는 1/3 확률로 위시리스트
+                wishlist[c] = c > 0 && random.nextInt(3) == 0;
+                if (wishlist[c]) {
+                    names[c] = ++wishlists == 1 ? "위시리스트" : "위시리스트 " + wishlists;
+                } else {
+                    names[c] = c == 0 ? "보유 카드" : "덱 " + ++decks;
+                }
+                colors[c] = THEME_COLORS[random.nextInt(THEME_COLORS.length)];
+            }
+            return new UserPlan(random, names, colors, wishlist, collectionSize(spec, userIndex, random));
+        }
+
+        private static int collectionSize(DatasetSpec spec, int userIndex, SplittableRandom random) {
+            if (userIndex < spec.getHeavyUsers()) {
+                return spec.getHeavyUserMinCards() + random.nextInt(Math.max(1, spec.getHeavyUserMinCards() / 4));
+            }
+            if (random.nextDouble() < spec.getEmptyCollectionRatio()) {
+                return 0;
+            }
+            // 파레토 분포: minCollectionSize / U^(1/alpha)
+            double size = spec.getMinCollectionSize() / Math.pow(1 - random.nextDouble(), 1 / spec.getCollectionSizeAlpha());
+            return (int) Math.min(spec.getMaxRegularCollectionSize(), size);
+        }
+
+        /**
+         * 다음 카드를 담을 카테고리 위치 (위시리스트가 있으면 15%는 위시리스트로)
+         */
+        int categoryFor() {
+            if (wished.length > 0 && random.nextInt(100) < 15) {
+                return wished[random.nextInt(wished.length)];
+            }
+            return owned[random.nextInt(owned.length)];
+        }
+    }
+
+    // ===== JDBC 보조 =====
+
+    private static boolean usernameExists(Connection connection, String username) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT 1 FROM t_user WHERE username = ?")) {
+            statement.setString(1, username);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    private static long maxId(Connection connection, String table, String column) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(" + column + "), 0) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    /**
+     * IDENTITY 컬럼이 lastId 다음 값부터 발급되도록 조정
+     */
+    private static void restartIdentity(Connection connection, String table, String column, long lastId)
+            throws SQLException {
+        if (lastId <= 0) {
+            return;
+        }
+        String sql = DatasetTableWriter.supportsCopy(connection)
+                ? "SELECT setval(pg_get_serial_sequence('" + table + "', '" + column + "'), " + lastId + ")"
+                : "ALTER TABLE " + table + " ALTER COLUMN " + column + " RESTART WITH " + (lastId + 1);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static void logProgress(String table, long rows) {
+        if (rows > 0 && rows % PROGRESS_LOG_ROWS == 0) {
+            log.info("합성 데이터셋 진행: {} {} rows", table, rows);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.pokekor.pokekor.dataset;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 합성 데이터셋 생성
+ * pokekor.dataset.generate=true인 경우에만 등록된다 (규모 테스트용 DB에서만 사용).
+ * 예: java -jar pokekor.jar --pokekor.dataset.generate=true --pokekor.dataset.users=1000
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "pokekor.dataset.generate", havingValue = "true")
+public class SyntheticDatasetRunner implements ApplicationRunner {
+
+    private final SyntheticDatasetGenerator generator;
+
+    @Value("${pokekor.dataset.seed:20240101}")
+    private long seed;
+
+    @Value("${pokekor.dataset.packs:500}")
+    private int packs;
+
+    @Value("${pokekor.dataset.cards:100000}")
+    private int cards;
+
+    @Value("${pokekor.dataset.users:100000}")
+    private int users;
+
+    @Value("${pokekor.dataset.heavy-users:5}")
+    private int heavyUsers;
+
+    @Value("${pokekor.dataset.username-prefix:synth}")
+    private String usernamePrefix;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        DatasetSpec spec = new DatasetSpec();
+        spec.setSeed(seed);
+        spec.setPacks(packs);
+        spec.setCards(cards);
+        spec.setUsers(users);
+        spec.setHeavyUsers(heavyUsers);
+        spec.setUsernamePrefix(usernamePrefix);
+        generator.generate(spec);
+    }
+}
@@ -1,11 +1,13 @@
 package com.pokekor.pokekor.domain;
 
+import com.pokekor.pokekor.catalog.CatalogEntityListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@EntityListeners(CatalogEntityListener.class) // 카탈로그 변경 시 인메모리 인덱스 재빌드
 @Table(name = "T_CARD")
 @Getter
 @Setter
@@ -1,14 +1,20 @@
 package com.pokekor.pokekor.domain;
 
+import com.pokekor.pokekor.catalog.CatalogCacheRegions;
+import com.pokekor.pokekor.catalog.CatalogEntityListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(CatalogEntityListener.class) // 카탈로그 변경 시 인메모리 인덱스 재빌드
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CatalogCacheRegions.RARITY) // [추가] 2차 캐시 (거의 바뀌지 않는 참조 데이터)
 @Table(name = "T_RARITY")
 @Getter
 @Setter
@@ -0,0 +1,22 @@
+package com.pokekor.pokekor.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 카테고리에 여러 카드를 한 번에 추가/제거하는 요청
+ * 예: { "addCardIds": [1, 2, 3], "removeCardIds": [10] }
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class CardBulkCollectRequestDTO {
+    // 카테고리에 추가할 카드 ID 목록
+    private List<Long> addCardIds = new ArrayList<>();
+    // 카테고리에서 제거할 카드 ID 목록 (추가보다 먼저 처리됨)
+    private List<Long> removeCardIds = new ArrayList<>();
+}
@@ -0,0 +1,21 @@
+package com.pokekor.pokekor.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 카드 일괄 추가/제거 결과
+ * (일부 카드가 처리되지 않아도 요청 전체를 실패시키지 않고, 카드별 결과를 나눠서 반환)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardBulkCollectResultDTO {
+    private List<Long> added;             // 새로 추가된 카드
+    private List<Long> alreadyCollected;  // 이미 카테고리에 있어서 건너뛴 카드
+    private List<Long> removed;           // 제거된 카드
+    private List<Long> notFound;          // 존재하지 않는 카드(추가) 또는 카테고리에 없던 카드(제거)
+}
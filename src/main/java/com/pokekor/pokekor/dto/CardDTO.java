@@ -1,5 +1,6 @@
 package com.pokekor.pokekor.dto;
 
+import com.pokekor.pokekor.catalog.CatalogCard;
 import com.pokekor.pokekor.domain.Card;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -31,6 +32,16 @@ public class CardDTO {
      * @param collectedCardInfoMap (Key: cardId, Value: 이 카드를 수집한 카테고리 정보(이름, 색상) 목록)
      */
     public CardDTO(Card card, Map<Long, List<CollectionInfoDTO>> collectedCardInfoMap) {
+        this(card, collectedCardInfoMap.getOrDefault(card.getCardId(), Collections.emptyList()));
+    }
+
+    /**
+     * [추가] Card 엔티티와 이 카드의 수집 정보 목록으로 생성
+     *
+     * @param card (JPA로 조회한 Card 엔티티)
+     * @param collections (이 카드를 수집한 카테고리 정보 목록)
+     */
+    public CardDTO(Card card, List<CollectionInfoDTO> collections) {
         this.cardId = card.getCardId();
         this.cardName = card.getCardName();
         this.cardImageUrl = card.getCardImageUrl();
@@ -49,12 +60,7 @@ public class CardDTO {
         }
 
 
-        // [수정]
-        // collectedCardInfoMap에서 이 카드의 ID에 해당하는 '정보 목록'을 가져와 설정
-        this.collections = collectedCardInfoMap.getOrDefault(
-                this.cardId,
-                Collections.emptyList()
-        );
+        this.collections = collections;
     }
 
     /**
@@ -65,4 +71,23 @@ public class CardDTO {
     public CardDTO(Card card) {
         this(card, Collections.emptyMap());
     }
+
+    /**
+     * [추가] 카탈로그 인덱스(CatalogCard)를 CardDTO로 변환하는 생성자
+     *
+     * @param card (카탈로그 스냅샷의 카드)
+     * @param collections (이 카드를 수집한 카테고리 정보 목록)
+     */
+    public CardDTO(CatalogCard card, List<CollectionInfoDTO> collections) {
+        this.cardId = card.getCardId();
+        this.cardName = card.getCardName();
+        this.cardImageUrl = card.getCardImageUrl();
+        this.cardNumberInPack = card.getCardNumberInPack();
+        this.cardType = card.getCardType();
+        this.cardAttribute1 = card.getCardAttribute1();
+        this.cardAttribute2 = card.getCardAttribute2();
+        this.packName = card.getPackName();
+        this.rarityId = card.getRarityId();
+        this.collections = collections;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.pokekor.pokekor.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 카드 검색 필터 옵션별 결과 건수 (GET /api/cards/facets)
+ *
+ * 각 항목의 건수는 "현재 필터 중 그 항목 자신의 필터만 빼고 적용했을 때" 그 값으로 바꾸면 나오는 카드 수
+ * (예: rarityId=SR로 필터 중이어도 rarities에는 RR, UR 등 다른 레어도로 바꿨을 때의 건수가 함께 나옴)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardFacetsDTO {
+
+    // 현재 필터를 모두 적용한 결과 건수
+    private long total;
+
+    private Map<Long, Long> packs;        // packId -> 건수
+    private Map<String, Long> rarities;   // rarityId -> 건수
+    private Map<String, Long> types;      // cardType -> 건수
+    private Map<String, Long> attributes; // 속성(cardAttribute1 또는 2) -> 건수
+}
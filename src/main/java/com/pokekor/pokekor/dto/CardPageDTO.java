@@ -0,0 +1,24 @@
+package com.pokekor.pokekor.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 키셋(cursor) 방식 카드 검색 페이지 응답
+ * (전체 건수(count)는 계산하지 않음)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardPageDTO {
+
+    private List<CardDTO> cards;
+
+    // 다음 페이지 요청 시 cursor 파라미터로 넘길 값 (이 페이지의 마지막 cardId, 다음 페이지가 없으면 null)
+    private Long nextCursor;
+
+    private boolean hasNext;
+}
@@ -0,0 +1,18 @@
+package com.pokekor.pokekor.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 카드 검색 필터 조건 (GET /api/cards의 쿼리 파라미터 묶음)
+ * 모든 필드는 선택 사항이며, null 또는 빈 문자열이면 해당 필터를 적용하지 않음
+ */
+@Getter
+@AllArgsConstructor
+public class CardSearchCondition {
+    private Long packId;
+    private String cardName;
+    private String rarityId;
+    private String cardType;
+    private String cardAttribute; // cardAttribute1 또는 cardAttribute2 중 하나와 일치
+}
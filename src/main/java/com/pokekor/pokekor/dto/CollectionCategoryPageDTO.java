@@ -0,0 +1,31 @@
+package com.pokekor.pokekor.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 카테고리 상세 페이지 응답 (카테고리 정보 + 수집 카드 한 페이지)
+ * 필드 이름은 CollectionCategoryDetailDTO와 같고, 키셋(cursor) 정보만 추가됨
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CollectionCategoryPageDTO {
+
+    // 카테고리 자체의 정보
+    private Long categoryId;
+    private String categoryName;
+    private String themeColor;
+    private String categoryType;
+
+    // 이 페이지의 수집 카드 (cardId 오름차순)
+    private List<CardDTO> collectedCards;
+
+    // 다음 페이지 요청 시 cursor 파라미터로 넘길 값 (이 페이지의 마지막 cardId, 다음 페이지가 없으면 null)
+    private Long nextCursor;
+
+    private boolean hasNext;
+}
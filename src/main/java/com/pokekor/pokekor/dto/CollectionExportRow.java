@@ -0,0 +1,35 @@
+package com.pokekor.pokekor.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 컬렉션 내보내기(GET /api/my-collections/export)의 한 행 = 카테고리에 담긴 카드 한 장
+ * (JPQL 생성자 프로젝션. 카드가 없는 카테고리는 카드 관련 필드가 모두 null인 한 행으로 나옴)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CollectionExportRow {
+
+    // 카테고리
+    private Long categoryId;
+    private String categoryName;
+    private String categoryType;
+    private String themeColor;
+
+    // 카드
+    private Long cardId;
+    private String cardName;
+    private String cardNumberInPack;
+    private String cardType;
+    private String cardAttribute1;
+    private String cardAttribute2;
+
+    // 팩, 레어도
+    private Long packId;
+    private String packNameKo;
+    private String rarityId;
+    private String rarityName;
+}
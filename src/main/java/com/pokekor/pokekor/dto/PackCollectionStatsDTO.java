@@ -0,0 +1,26 @@
+package com.pokekor.pokekor.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 팩별 수집 현황 (GET /api/my-collections/stats/packs)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PackCollectionStatsDTO {
+
+    private Long packId;
+    private String packNameKo;
+
+    // 팩에 들어 있는 전체 카드 수
+    private long totalCards;
+
+    // OWNED 카테고리에 수집한 카드 수 (여러 카테고리에 담은 같은 카드는 한 장)
+    private long ownedCards;
+
+    // WISHLIST 카테고리에 담은 카드 수 (여러 카테고리에 담은 같은 카드는 한 장)
+    private long wishlistCards;
+}
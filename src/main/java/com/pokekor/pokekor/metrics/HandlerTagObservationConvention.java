@@ -0,0 +1,18 @@
+package com.pokekor.pokekor.metrics;
+
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+
+/**
+ * http.server.requests 메트릭에 컨트롤러 메서드 태그(handler)를 추가
+ * (uri 태그만으로는 같은 경로의 다른 메서드나 스트리밍 여부를 구분하기 어려움)
+ */
+public class HandlerTagObservationConvention extends DefaultServerRequestObservationConvention {
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        return super.getLowCardinalityKeyValues(context)
+                .and(HandlerTags.KEY, HandlerTags.handler(context.getCarrier()));
+    }
+}
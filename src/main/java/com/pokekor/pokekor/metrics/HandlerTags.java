@@ -0,0 +1,29 @@
+package com.pokekor.pokekor.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청을 처리한 컨트롤러 메서드 이름 태그 (예: CardController#getCardsPage)
+ */
+public final class HandlerTags {
+
+    public static final String KEY = "handler";
+    public static final String NONE = "none"; // 정적 파일, 인증 실패 등 컨트롤러까지 가지 않은 요청
+
+    private HandlerTags() {
+    }
+
+    public static String handler(HttpServletRequest request) {
+        if (request != null
+                && request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod method) {
+            return handler(method);
+        }
+        return NONE;
+    }
+
+    public static String handler(HandlerMethod method) {
+        return method.getBeanType().getSimpleName() + "#" + method.getMethod().getName();
+    }
+}
@@ -0,0 +1,28 @@
+package com.pokekor.pokekor.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메서드(요청 하나)가 실행할 수 있는 SQL 문장 수의 상한
+ *
+ * 요청 스레드에서 Hibernate가 준비한 문장 수(RequestQueryCounter)가 이 값을 넘으면
+ * pokekor.query-budget.mode에 따라 경고 로그만 남기거나(log) 요청을 실패시킨다(fail, 테스트용).
+ * 클래스에 붙이면 그 클래스의 모든 핸들러 메서드의 기본값이 된다 (메서드에 붙인 값이 우선).
+ *
+ * 비동기 응답(CompletableFuture, StreamingResponseBody)은 요청 스레드에서 실행한 문장만 센다.
+ * ([수정] RequestQueryCounter.capture()로 카운터를 넘긴 작업(JsonStreaming.counted 등)의 문장은 포함)
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface QueryBudget {
+
+    /**
+     * 허용하는 최대 SQL 문장 수
+     */
+    int value();
+}
@@ -0,0 +1,11 @@
+package com.pokekor.pokekor.metrics;
+
+/**
+ * 요청이 @QueryBudget을 넘는 SQL을 실행하려 할 때 (pokekor.query-budget.mode=fail)
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(String handler, int budget, String sql) {
+        super(handler + " 쿼리 예산 초과 (예산 " + budget + "개): " + sql);
+    }
+}
@@ -0,0 +1,30 @@
+package com.pokekor.pokekor.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 핸들러 메서드의 @QueryBudget을 현재 요청의 RequestQueryCounter에 설정
+ * (핸들러가 정해진 뒤에 실행되므로, 그 전의 필터(JWT 인증 등)가 실행한 문장은 예산에 포함되지 않음)
+ */
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        if (handler instanceof HandlerMethod method) {
+            QueryBudget budget = AnnotatedElementUtils.findMergedAnnotation(method.getMethod(), QueryBudget.class);
+            if (budget == null) {
+                budget = AnnotatedElementUtils.findMergedAnnotation(method.getBeanType(), QueryBudget.class);
+            }
+            if (budget != null) {
+                RequestQueryCounter.limit(budget.value(), HandlerTags.handler(method));
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,110 @@
+package com.pokekor.pokekor.metrics;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 커넥션이 SQL 문장을 준비/실행할 때마다 현재 요청의 RequestQueryCounter를 올리는 DataSource
+ *
+ * Hibernate뿐 아니라 JdbcTemplate(일괄 INSERT 등)로 실행하는 문장도 세기 위해 JDBC 커넥션 단계에서 센다.
+ * - prepareStatement/prepareCall: 준비할 때 1 (JDBC 배치는 행 수와 관계없이 한 문장)
+ * - createStatement: execute*를 호출할 때마다 1
+ *
+ * failOverBudget이면 @QueryBudget을 넘는 문장은 실행하지 않고 QueryBudgetExceededException을 던진다.
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+    private final boolean failOverBudget;
+
+    public QueryCountingDataSource(DataSource targetDataSource, boolean failOverBudget) {
+        super(targetDataSource);
+        this.failOverBudget = failOverBudget;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countingConnection(super.getConnection(username, password));
+    }
+
+    private Connection countingConnection(Connection target) {
+        return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+                new Class<?>[]{ConnectionProxy.class}, new ConnectionHandler(target));
+    }
+
+    private void count(Object sql) {
+        RequestQueryCounter counter = RequestQueryCounter.increment();
+        if (failOverBudget && counter != null && counter.isOverBudget()) {
+            throw new QueryBudgetExceededException(counter.handler(), counter.budget(), String.valueOf(sql));
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "getTargetConnection":
+                    return target;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "prepareStatement":
+                case "prepareCall":
+                    count(args[0]);
+                    return QueryCountingDataSource.invoke(target, method, args);
+                case "createStatement":
+                    Statement statement = (Statement) QueryCountingDataSource.invoke(target, method, args);
+                    return Proxy.newProxyInstance(Statement.class.getClassLoader(),
+                            new Class<?>[]{Statement.class}, new StatementHandler(statement));
+                default:
+                    return QueryCountingDataSource.invoke(target, method, args);
+            }
+        }
+    }
+
+    private class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+
+        StatementHandler(Statement target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().startsWith("execute")) {
+                count(args != null && args.length > 0 ? args[0] : "batch");
+            }
+            return QueryCountingDataSource.invoke(target, method, args);
+        }
+    }
+}
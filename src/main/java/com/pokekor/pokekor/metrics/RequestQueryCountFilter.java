@@ -0,0 +1,108 @@
+package com.pokekor.pokekor.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 실행한 SQL 문장 수를 pokekor.http.server.queries 분포로 기록 (태그: handler)
+ * N+1 쿼리처럼 요청당 쿼리 수가 늘어나는 변경을 p99로 바로 확인할 수 있다.
+ *
+ * [추가] @QueryBudget을 넘은 요청은 경고 로그를 남기고 pokekor.http.server.queries.over.budget을 올린다.
+ * 문장 수는 요청 속성(RequestQueryCounter.COUNT_ATTRIBUTE)에도 남긴다.
+ * [추가] 비동기 응답(StreamingResponseBody 등)은 응답이 끝났을 때 기록한다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class RequestQueryCountFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    public RequestQueryCountFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        try (RequestQueryCounter.Scope scope = RequestQueryCounter.start()) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                RequestQueryCounter counter = scope.counter();
+                if (request.isAsyncStarted()) {
+                    // [추가] 비동기 응답은 응답이 끝났을 때 기록 (스트리밍 스레드에서 capture()로 센 문장 포함)
+                    request.setAttribute(RequestQueryCounter.COUNT_ATTRIBUTE, counter.count());
+                    request.getAsyncContext().addListener(new RecordOnComplete(request, counter));
+                } else {
+                    record(request, counter);
+                }
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestQueryCounter counter) {
+        String handler = HandlerTags.handler(request);
+        int count = counter.count();
+        request.setAttribute(RequestQueryCounter.COUNT_ATTRIBUTE, count);
+        DistributionSummary.builder("pokekor.http.server.queries")
+                .description("요청 하나가 실행한 SQL 문장 수")
+                .tag(HandlerTags.KEY, handler)
+                .register(meterRegistry)
+                .record(count);
+
+        if (counter.isOverBudget()) {
+            log.warn("쿼리 예산 초과: {} {} {} -> SQL {}개 (예산 {}개)",
+                    handler, request.getMethod(), request.getRequestURI(), counter.budgetedCount(), counter.budget());
+            meterRegistry.counter("pokekor.http.server.queries.over.budget", HandlerTags.KEY, handler).increment();
+        }
+    }
+
+    /**
+     * [추가] 비동기 응답이 끝나면(오류/타임아웃 후에도 호출됨) 문장 수를 기록
+     */
+    private class RecordOnComplete implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final RequestQueryCounter counter;
+
+        RecordOnComplete(HttpServletRequest request, RequestQueryCounter counter) {
+            this.request = request;
+            this.counter = counter;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record(request, counter);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.pokekor.pokekor.metrics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 요청 하나가 실행한 SQL 문장 수
+ *
+ * RequestQueryCountFilter가 요청마다 카운터를 현재 스레드에 붙이고,
+ * [수정] QueryCountingDataSource가 JDBC 커넥션이 SQL을 준비/실행할 때마다 1씩 올린다 (Hibernate, JdbcTemplate 모두).
+ * 같은 요청의 조회를 다른 스레드에서 실행할 때(QueryFanOut)는 wrap()으로 카운터를 넘겨서 함께 센다.
+ * [추가] 스트리밍 응답처럼 요청 스레드가 끝난 뒤에 실행하는 조회는 capture()로 카운터를 넘기며,
+ * 이때 문장 수는 비동기 응답이 끝났을 때 기록된다.
+ *
+ * [추가] 핸들러에 @QueryBudget이 있으면 QueryBudgetInterceptor가 예산(budget)을 설정하고,
+ * 예산을 넘었는지는 isOverBudget()으로 확인한다. 예산은 핸들러가 정해진 뒤에 실행한 문장에만 적용된다
+ * (그 전의 필터, 예: database 인증 모드의 사용자 조회는 전체 문장 수에는 포함되지만 예산에는 포함되지 않음).
+ *
+ * 요청과 관계없는 스레드에서 실행하는 SQL(카탈로그 가져오기, 주기적 갱신 등)은 세지 않는다.
+ */
+public final class RequestQueryCounter {
+
+    /**
+     * 요청이 끝난 뒤 문장 수를 담아 두는 요청 속성 이름 (테스트에서 MvcResult로 확인)
+     */
+    public static final String COUNT_ATTRIBUTE = RequestQueryCounter.class.getName() + ".COUNT";
+
+    private static final int NO_BUDGET = -1;
+    private static final ThreadLocal<RequestQueryCounter> CURRENT = new ThreadLocal<>();
+
+    private final AtomicInteger statements = new AtomicInteger();
+    private volatile int budget = NO_BUDGET;
+    private volatile int baseline; // 예산을 설정한 시점까지 실행한 문장 수
+    private volatile String handler;
+
+    private RequestQueryCounter() {
+    }
+
+    /**
+     * 현재 스레드에서 새 카운터로 세기 시작 (close하면 이전 상태로 돌아감)
+     */
+    public static Scope start() {
+        RequestQueryCounter counter = new RequestQueryCounter();
+        RequestQueryCounter previous = CURRENT.get();
+        CURRENT.set(counter);
+        return new Scope(counter, previous);
+    }
+
+    /**
+     * 현재 스레드의 카운터에 1을 더하고 카운터를 반환 (세는 중이 아니면 null)
+     */
+    static RequestQueryCounter increment() {
+        RequestQueryCounter counter = CURRENT.get();
+        if (counter != null) {
+            counter.statements.incrementAndGet();
+        }
+        return counter;
+    }
+
+    /**
+     * [추가] 현재 요청의 쿼리 예산 설정 (세는 중이 아니면 무시)
+     */
+    static void limit(int budget, String handler) {
+        RequestQueryCounter counter = CURRENT.get();
+        if (counter != null) {
+            counter.handler = handler;
+            counter.baseline = counter.statements.get();
+            counter.budget = budget;
+        }
+    }
+
+    /**
+     * 현재 스레드의 카운터를 다른 스레드에서도 쓰도록 작업을 감쌈 (세는 중이 아니면 그대로 반환)
+     */
+    public static <T> Supplier<T> wrap(Supplier<T> task) {
+        Supplier<Scope> attach = capture();
+        if (attach == null) {
+            return task;
+        }
+        return () -> {
+            try (Scope ignored = attach.get()) {
+                return task.get();
+            }
+        };
+    }
+
+    /**
+     * [추가] 현재 스레드의 카운터를 나중에 다른 스레드에 붙이는 함수 (세는 중이 아니면 null)
+     * 반환한 함수를 호출한 스레드는 Scope를 close할 때까지 같은 카운터로 센다.
+     * (StreamingResponseBody처럼 작업이 Supplier가 아니거나 checked 예외를 던질 때 사용)
+     */
+    public static Supplier<Scope> capture() {
+        RequestQueryCounter counter = CURRENT.get();
+        if (counter == null) {
+            return null;
+        }
+        return () -> {
+            RequestQueryCounter previous = CURRENT.get();
+            CURRENT.set(counter);
+            return new Scope(counter, previous);
+        };
+    }
+
+    int count() {
+        return statements.get();
+    }
+
+    int budget() {
+        return budget;
+    }
+
+    String handler() {
+        return handler;
+    }
+
+    /**
+     * 예산을 설정한 뒤에 실행한 문장 수
+     */
+    int budgetedCount() {
+        return statements.get() - baseline;
+    }
+
+    boolean isOverBudget() {
+        int limit = budget;
+        return limit != NO_BUDGET && budgetedCount() > limit;
+    }
+
+    private static void restore(RequestQueryCounter previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final RequestQueryCounter counter;
+        private final RequestQueryCounter previous;
+
+        private Scope(RequestQueryCounter counter, RequestQueryCounter previous) {
+            this.counter = counter;
+            this.previous = previous;
+        }
+
+        public int count() {
+            return counter.count();
+        }
+
+        RequestQueryCounter counter() {
+            return counter;
+        }
+
+        @Override
+        public void close() {
+            restore(previous);
+        }
+    }
+}
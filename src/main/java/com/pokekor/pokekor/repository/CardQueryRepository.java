@@ -0,0 +1,34 @@
+package com.pokekor.pokekor.repository;
+
+import com.pokekor.pokekor.catalog.CatalogCard;
+import com.pokekor.pokekor.dto.CardFacetsDTO;
+import com.pokekor.pokekor.dto.CardSearchCondition;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * CardRepository의 커스텀 조회 기능 (구현: CardQueryRepositoryImpl)
+ */
+public interface CardQueryRepository {
+
+    /**
+     * 검색 조건에 맞는 카드를 CatalogCard 프로젝션으로 조회 (cardId 오름차순)
+     *
+     * @param afterCardId (키셋 페이지네이션용, 이 cardId보다 큰 카드만 조회. null이면 처음부터)
+     * @param limit (최대 조회 건수, null이면 전체)
+     */
+    List<CatalogCard> searchCatalogCards(CardSearchCondition condition, Long afterCardId, Integer limit);
+
+    /**
+     * [추가] 검색 조건에 맞는 카드를 DB 커서로 한 행씩 읽는 스트림 (cardId 오름차순)
+     * (반드시 트랜잭션 안에서 사용하고, 사용 후 close 해야 함)
+     */
+    Stream<CatalogCard> streamCatalogCards(CardSearchCondition condition);
+
+    /**
+     * [추가] 검색 조건의 필터 옵션별 결과 건수
+     * (pack, rarity, type, 속성 조합별 카드 수를 GROUP BY 쿼리 한 번으로 읽어서 집계)
+     */
+    CardFacetsDTO countFacets(CardSearchCondition condition);
+}
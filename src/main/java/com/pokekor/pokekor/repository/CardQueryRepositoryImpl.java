@@ -0,0 +1,121 @@
+package com.pokekor.pokekor.repository;
+
+import com.pokekor.pokekor.catalog.CardFacetCounter;
+import com.pokekor.pokekor.catalog.CatalogCard;
+import com.pokekor.pokekor.domain.Card;
+import com.pokekor.pokekor.domain.Pack;
+import com.pokekor.pokekor.domain.Rarity;
+import com.pokekor.pokekor.dto.CardFacetsDTO;
+import com.pokekor.pokekor.dto.CardSearchCondition;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 카드 검색 프로젝션 쿼리 구현
+ *
+ * Card 엔티티 + JOIN FETCH된 Pack/Rarity를 영속성 컨텍스트에 올리는 대신,
+ * CardDTO에 필요한 컬럼만 SELECT 해서 CatalogCard 생성자로 바로 만든다.
+ * (관리 대상 엔티티가 아니므로 스냅샷 복사, 변경 감지, 1차 캐시 증가가 없고,
+ *  컬렉션 JOIN이 없으므로 DISTINCT도 필요 없음)
+ */
+@Transactional(readOnly = true)
+public class CardQueryRepositoryImpl implements CardQueryRepository {
+
+    // 스트리밍 조회 시 DB 커서에서 한 번에 가져올 행 수
+    static final int STREAM_FETCH_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<CatalogCard> searchCatalogCards(CardSearchCondition condition, Long afterCardId, Integer limit) {
+        TypedQuery<CatalogCard> query = createSearchQuery(condition, afterCardId);
+        if (limit != null) {
+            query.setMaxResults(limit);
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    public Stream<CatalogCard> streamCatalogCards(CardSearchCondition condition) {
+        return createSearchQuery(condition, null)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE) // 드라이버가 결과 전체를 한 번에 받지 않도록
+                .getResultStream();
+    }
+
+    @Override
+    public CardFacetsDTO countFacets(CardSearchCondition condition) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+
+        Root<Card> card = query.from(Card.class);
+        Join<Card, Pack> pack = card.join("pack", JoinType.LEFT);
+        Join<Card, Rarity> rarity = card.join("rarity", JoinType.LEFT);
+
+        Path<Long> packId = pack.get("packId");
+        Path<String> rarityId = rarity.get("rarityId");
+        Path<String> cardType = card.get("cardType");
+        Path<String> attribute1 = card.get("cardAttribute1");
+        Path<String> attribute2 = card.get("cardAttribute2");
+
+        // 항목별 건수는 다른 필터를 뺀 결과가 필요하므로, WHERE에는 이름 조건만 넣고 나머지는 집계하면서 판단
+        CardSearchCondition nameOnly = new CardSearchCondition(null, condition.getCardName(), null, null, null);
+        query.multiselect(packId, rarityId, cardType, attribute1, attribute2, cb.count(card))
+                .where(CardSpecification.predicates(nameOnly, card, pack, rarity, cb).toArray(new Predicate[0]))
+                .groupBy(packId, rarityId, cardType, attribute1, attribute2);
+
+        CardFacetCounter counter = new CardFacetCounter(condition);
+        for (Tuple row : entityManager.createQuery(query).getResultList()) {
+            counter.add(row.get(0, Long.class), row.get(1, String.class), row.get(2, String.class),
+                    row.get(3, String.class), row.get(4, String.class), row.get(5, Long.class));
+        }
+        return counter.toDTO();
+    }
+
+    private TypedQuery<CatalogCard> createSearchQuery(CardSearchCondition condition, Long afterCardId) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CatalogCard> query = cb.createQuery(CatalogCard.class);
+
+        Root<Card> card = query.from(Card.class);
+        Join<Card, Pack> pack = card.join("pack", JoinType.LEFT);
+        Join<Card, Rarity> rarity = card.join("rarity", JoinType.LEFT);
+
+        // 1. SELECT: CardDTO에 필요한 컬럼만 (생성자 프로젝션)
+        query.select(cb.construct(CatalogCard.class,
+                card.get("cardId"),
+                card.get("cardName"),
+                card.get("cardImageUrl"),
+                card.get("cardNumberInPack"),
+                card.get("cardType"),
+                card.get("cardAttribute1"),
+                card.get("cardAttribute2"),
+                pack.get("packId"),
+                pack.get("packNameKo"),
+                rarity.get("rarityId")
+        ));
+
+        // 2. WHERE: 검색 조건 + 키셋 조건
+        List<Predicate> predicates = CardSpecification.predicates(condition, card, pack, rarity, cb);
+        if (afterCardId != null) {
+            predicates.add(cb.greaterThan(card.get("cardId"), afterCardId));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+        query.orderBy(cb.asc(card.get("cardId")));
+
+        return entityManager.createQuery(query);
+    }
+}
@@ -1,19 +1,21 @@
 package com.pokekor.pokekor.repository;
 
+import com.pokekor.pokekor.catalog.CatalogCard;
 import com.pokekor.pokekor.domain.Card;
-import com.pokekor.pokekor.domain.Rarity;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 @Repository
 // [수정] JpaSpecificationExecutor 인터페이스 추가
-public interface CardRepository extends JpaRepository<Card, Long>, JpaSpecificationExecutor<Card> {
+// [수정] 프로젝션 검색용 커스텀 인터페이스(CardQueryRepository) 추가
+public interface CardRepository extends JpaRepository<Card, Long>, JpaSpecificationExecutor<Card>, CardQueryRepository {
 
     // (기존 메서드들은 그대로 둠)
     List<Card> findByPackPackId(Long packId);
@@ -25,6 +27,22 @@ public interface CardRepository extends JpaRepository<Card, Long>, JpaSpecificat
     @Query("SELECT c FROM Card c LEFT JOIN FETCH c.pack p LEFT JOIN FETCH c.rarity r WHERE p.packId = :packId")
     List<Card> findAllWithDetailsByPackId(@Param("packId") Long packId);
 
+    /**
+     * [추가] 카탈로그 전체를 CatalogCard 프로젝션으로 조회 (카탈로그 인덱스 빌드용)
+     * (엔티티를 만들지 않으므로 영속성 컨텍스트에 카드 수만큼의 엔티티/스냅샷이 쌓이지 않음)
+     */
+    @Query("SELECT new com.pokekor.pokekor.catalog.CatalogCard(" +
+            "c.cardId, c.cardName, c.cardImageUrl, c.cardNumberInPack, c.cardType, c.cardAttribute1, c.cardAttribute2, " +
+            "p.packId, p.packNameKo, r.rarityId) " +
+            "FROM Card c LEFT JOIN c.pack p LEFT JOIN c.rarity r")
+    List<CatalogCard> findAllCatalogCards();
+
+    /**
+     * [추가] 주어진 카드 ID 중 실제로 존재하는 카드 ID (일괄 추가 시 한 번의 IN 쿼리로 확인)
+     */
+    @Query("SELECT c.cardId FROM Card c WHERE c.cardId IN :cardIds")
+    Set<Long> findExistingCardIds(@Param("cardIds") Collection<Long> cardIds);
+
     /**
      * [추가] Specification을 사용한 N+1 방지 JOIN FETCH 쿼리
      * (Specification 쿼리는 count 쿼리와 data 쿼리를 분리 실행하므로,
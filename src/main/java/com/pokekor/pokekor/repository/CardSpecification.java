@@ -3,75 +3,62 @@ package com.pokekor.pokekor.repository;
 import com.pokekor.pokekor.domain.Card;
 import com.pokekor.pokekor.domain.Pack;
 import com.pokekor.pokekor.domain.Rarity;
-import jakarta.persistence.criteria.Join; // [수정] Join import
-import jakarta.persistence.criteria.JoinType;
+import com.pokekor.pokekor.dto.CardSearchCondition;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Predicate;
-import org.springframework.data.jpa.domain.Specification;
+import jakarta.persistence.criteria.Root;
 import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
 import java.util.List;
 
 /**
- * 카드 검색을 위한 동적 쿼리 (Specification) 생성 유틸리티
+ * 카드 검색을 위한 동적 쿼리 조건 생성 유틸리티
+ *
+ * [수정] 엔티티를 조회하던 Specification(fetch join + distinct) 대신,
+ * 프로젝션 쿼리(CardQueryRepositoryImpl)에서 사용할 WHERE 조건만 만든다.
+ * (pack, rarity는 호출하는 쪽에서 SELECT 절에 쓰기 위해 만든 LEFT JOIN을 그대로 넘겨받아 사용)
  */
 public class CardSpecification {
 
-    // [수정] cardAttribute 파라미터를 1개로 변경
-    public static Specification<Card> search(String cardName, Long packId, String rarityId, String cardType, String cardAttribute) {
+    public static List<Predicate> predicates(CardSearchCondition condition,
+                                             Root<Card> root,
+                                             Join<Card, Pack> pack,
+                                             Join<Card, Rarity> rarity,
+                                             CriteriaBuilder cb) {
+        List<Predicate> predicates = new ArrayList<>();
 
-        return (root, query, cb) -> {
+        // 1. 카드 이름 (cardName) 필터
+        if (StringUtils.hasText(condition.getCardName())) {
+            predicates.add(cb.like(root.get("cardName"), "%" + condition.getCardName() + "%"));
+        }
 
-            // 1. 쿼리 타입 확인 (N+1 방지)
-            if (query.getResultType() != Long.class && query.getResultType() != long.class) {
-                // Data query (SELECT c): N+1 방지를 위해 SELECT 절에 fetch join 추가
-                root.fetch("pack", JoinType.LEFT);
-                root.fetch("rarity", JoinType.LEFT);
-                query.distinct(true);
-            }
+        // 2. 팩 ID (packId) 필터
+        if (condition.getPackId() != null) {
+            predicates.add(cb.equal(pack.get("packId"), condition.getPackId()));
+        }
 
-            // 2. Predicate (WHERE 조건) 리스트 생성
-            // (이 로직은 Data 쿼리와 Count 쿼리 모두에 적용됩니다.)
-            List<Predicate> predicates = new ArrayList<>();
+        // 3. 레어도 ID (rarityId) 필터
+        if (StringUtils.hasText(condition.getRarityId())) {
+            predicates.add(cb.equal(rarity.get("rarityId"), condition.getRarityId()));
+        }
 
-            // 2-1. 카드 이름 (cardName) 필터
-            if (StringUtils.hasText(cardName)) {
-                predicates.add(cb.like(root.get("cardName"), "%" + cardName + "%"));
-            }
+        // 4. 카드 유형 (cardType) 필터
+        if (StringUtils.hasText(condition.getCardType())) {
+            predicates.add(cb.equal(root.get("cardType"), condition.getCardType()));
+        }
 
-            // 2-2. 팩 ID (packId) 필터
-            if (packId != null) {
-                // [수정] WHERE 조건절을 위한 join을 별도로 생성 (fetch와 무관)
-                Join<Card, Pack> packJoin = root.join("pack", JoinType.LEFT);
-                predicates.add(cb.equal(packJoin.get("packId"), packId));
-            }
+        // 5. 카드 속성 (cardAttribute) 필터
+        if (StringUtils.hasText(condition.getCardAttribute())) {
+            // cardAttribute 변수(예: 'FIRE') 하나로
+            // cardAttribute1 컬럼과 cardAttribute2 컬럼을 모두 OR 조건으로 검색
+            predicates.add(cb.or(
+                    cb.equal(root.get("cardAttribute1"), condition.getCardAttribute()),
+                    cb.equal(root.get("cardAttribute2"), condition.getCardAttribute())
+            ));
+        }
 
-            // 2-3. 레어도 ID (rarityId) 필터
-            if (StringUtils.hasText(rarityId)) {
-                // [수정] WHERE 조건절을 위한 join을 별도로 생성 (fetch와 무관)
-                Join<Card, Rarity> rarityJoin = root.join("rarity", JoinType.LEFT);
-                predicates.add(cb.equal(rarityJoin.get("rarityId"), rarityId));
-            }
-
-            // [추가] 2-4. 카드 유형 (cardType) 필터
-            if (StringUtils.hasText(cardType)) {
-                predicates.add(cb.equal(root.get("cardType"), cardType));
-            }
-
-            // [수정] 2-5. 카드 속성 (cardAttribute) 필터
-            if (StringUtils.hasText(cardAttribute)) {
-                // cardAttribute 변수(예: 'FIRE') 하나로
-                // cardAttribute1 컬럼과 cardAttribute2 컬럼을 모두 OR 조건으로 검색
-                Predicate attrPredicate = cb.or(
-                        cb.equal(root.get("cardAttribute1"), cardAttribute),
-                        cb.equal(root.get("cardAttribute2"), cardAttribute)
-                );
-                predicates.add(attrPredicate);
-            }
-
-
-            // 3. 모든 조건을 AND로 결합하여 반환
-            return cb.and(predicates.toArray(new Predicate[0]));
-        };
+        return predicates;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,28 @@
+package com.pokekor.pokekor.repository;
+
+import java.util.List;
+
+/**
+ * CollectedCardRepository의 일괄 저장 기능 (구현: CollectedCardBatchRepositoryImpl)
+ * [추가] 네이티브 SQL로 쓰는 단건 수집 INSERT도 여기서 구현 (캐시 무효화 범위를 지정하기 위함)
+ */
+public interface CollectedCardBatchRepository {
+
+    /**
+     * 한 카테고리에 여러 카드를 JDBC 배치 INSERT로 저장
+     * (카테고리 소유자, 카드 존재 여부는 호출 전에 확인되어 있어야 함)
+     * [수정] 이미 수집된 카드는 uk_category_card 충돌을 무시하고 건너뜀 (동시에 같은 카드를 추가해도 오류가 나지 않음)
+     *
+     * @return 실제로 추가한 카드 ID (cardIds 순서)
+     */
+    List<Long> insertAllIfAbsent(Long categoryId, List<Long> cardIds);
+
+    /**
+     * [추가] 카드 수집 INSERT 한 문장 (소유자 확인, 카드 존재 확인, 중복 무시를 모두 포함)
+     * 카테고리가 사용자 소유이고 카드가 있을 때만 행을 만들고, 이미 수집된 카드면 uk_category_card 충돌을 무시함.
+     * (동시에 같은 카드를 추가해도 한 요청만 행을 만들고 나머지는 0을 반환하며 오류가 나지 않음)
+     *
+     * @return 추가한 행 수 (0이면 CollectedCardRepository.findCollectTarget으로 이유 확인)
+     */
+    int insertIfAbsent(Long categoryId, Long cardId, Long userId);
+}
@@ -0,0 +1,82 @@
+package com.pokekor.pokekor.repository;
+
+import com.pokekor.pokekor.domain.CollectedCard;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 수집 카드 일괄 저장 구현
+ *
+ * CollectedCard는 IDENTITY 전략이라 Hibernate가 save() 때마다 INSERT를 바로 실행하고 생성된 ID를 받아오므로
+ * JDBC 배치가 동작하지 않는다. 일괄 저장에서는 생성된 ID가 필요 없으므로 엔티티를 거치지 않고
+ * JdbcTemplate 배치로 INSERT 한다. (JPA 트랜잭션과 같은 커넥션을 사용하므로 함께 커밋/롤백됨)
+ * [수정] 일괄 저장도 단건 수집처럼 uk_category_card 충돌을 무시하고(ON CONFLICT DO NOTHING), 행별 결과로 실제 추가 여부를 판단
+ */
+public class CollectedCardBatchRepositoryImpl implements CollectedCardBatchRepository {
+
+    // 한 번에 드라이버로 보내는 INSERT 수
+    static final int BATCH_SIZE = 100;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO t_collected_card (category_id, card_id) VALUES (?, ?) ON CONFLICT DO NOTHING";
+
+    // [추가] 충돌 대상 생략: PK(IDENTITY) 외 유니크 키는 uk_category_card뿐 (H2 호환)
+    private static final String INSERT_IF_ABSENT_SQL =
+            "INSERT INTO t_collected_card (category_id, card_id) " +
+                    "SELECT cat.category_id, c.card_id " +
+                    "FROM t_collection_category cat, t_card c " +
+                    "WHERE cat.category_id = :categoryId AND cat.user_id = :userId AND c.card_id = :cardId " +
+                    "ON CONFLICT DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public CollectedCardBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Long> insertAllIfAbsent(Long categoryId, List<Long> cardIds) {
+        int[][] results = jdbcTemplate.batchUpdate(INSERT_SQL, cardIds, BATCH_SIZE, (ps, cardId) -> {
+            ps.setLong(1, categoryId);
+            ps.setLong(2, cardId);
+        });
+
+        // 행별 결과는 cardIds 순서대로 BATCH_SIZE개씩 나뉘어 있음 (0이면 이미 수집된 카드)
+        List<Long> inserted = new ArrayList<>(cardIds.size());
+        int index = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                // SUCCESS_NO_INFO(-2)는 드라이버가 배치를 합쳐서 실행한 경우 (reWriteBatchedInserts, 사용하지 않음)
+                if (count != 0) {
+                    inserted.add(cardIds.get(index));
+                }
+                index++;
+            }
+        }
+        return inserted;
+    }
+
+    /**
+     * [추가] 네이티브 INSERT는 어떤 테이블을 바꾸는지 Hibernate가 알 수 없어서, 그대로 실행하면
+     * 모든 2차 캐시 리전(팩/레어도)과 쿼리 캐시를 비운다. CollectedCard만 바뀐다고 알려서
+     * t_collected_card에 대한 무효화만 일어나게 함
+     */
+    @Override
+    public int insertIfAbsent(Long categoryId, Long cardId, Long userId) {
+        return entityManager.createNativeQuery(INSERT_IF_ABSENT_SQL)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(CollectedCard.class)
+                .setParameter("categoryId", categoryId)
+                .setParameter("cardId", cardId)
+                .setParameter("userId", userId)
+                .executeUpdate();
+    }
+}
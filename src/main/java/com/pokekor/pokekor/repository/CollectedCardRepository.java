@@ -1,21 +1,37 @@
 package com.pokekor.pokekor.repository;
 
+import com.pokekor.pokekor.catalog.CatalogCard;
+import com.pokekor.pokekor.collection.CollectTargetRow;
+import com.pokekor.pokekor.collection.CollectionOverlayRow;
+import com.pokekor.pokekor.collection.PackCollectionCountRow;
 import com.pokekor.pokekor.domain.CollectedCard;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
-public interface CollectedCardRepository extends JpaRepository<CollectedCard, Long> {
+public interface CollectedCardRepository extends JpaRepository<CollectedCard, Long>, CollectedCardBatchRepository {
 
     // 특정 카테고리에 특정 카드가 이미 수집되었는지 확인하는 기능
     Optional<CollectedCard> findByCategoryCategoryIdAndCardCardId(Long categoryId, Long cardId);
 
+    /**
+     * [추가] 사용자가 소유한 카테고리의 수집 항목 조회 (소유자 확인을 WHERE 절에서 처리)
+     */
+    Optional<CollectedCard> findByCategoryCategoryIdAndCardCardIdAndCategoryUserUserId(Long categoryId, Long cardId, Long userId);
+
     /**
      * [수정됨] 특정 사용자가 수집한 모든 카드의 정보와 '카테고리' 정보를 JOIN FETCH로 조회
      * (이전의 findCollectedCardIdsByUsernameAndOwned 메서드를 대체합니다)
@@ -27,4 +43,108 @@ public interface CollectedCardRepository extends JpaRepository<CollectedCard, Lo
             "JOIN FETCH cc.category cat " + // [수정] 카테고리 정보를 함께 가져옴
             "WHERE cat.user.username = :username")
     List<CollectedCard> findWithCategoryByUsername(@Param("username") String username);
+
+    /**
+     * [추가] 수집 오버레이(카드별 수집 카테고리) 빌드용 프로젝션 조회
+     * (CollectedCard/Category 엔티티를 만들지 않고 필요한 4개 컬럼만 읽음)
+     */
+    @Query("SELECT new com.pokekor.pokekor.collection.CollectionOverlayRow(" +
+            "cc.card.cardId, cat.categoryId, cat.categoryName, cat.themeColor) " +
+            "FROM CollectedCard cc " +
+            "JOIN cc.category cat " +
+            "WHERE cat.user.userId = :userId") // [수정] T_USER 조인 없이 FK로 조회
+    List<CollectionOverlayRow> findOverlayRowsByUserId(@Param("userId") Long userId);
+
+    /**
+     * [추가] 주어진 카드 중 이미 카테고리에 수집된 카드 ID (일괄 추가/제거 시 한 번의 IN 쿼리로 확인)
+     */
+    @Query("SELECT cc.card.cardId FROM CollectedCard cc " +
+            "WHERE cc.category.categoryId = :categoryId AND cc.card.cardId IN :cardIds")
+    Set<Long> findCardIdsByCategoryIdAndCardIdIn(@Param("categoryId") Long categoryId,
+                                                 @Param("cardIds") Collection<Long> cardIds);
+
+    /**
+     * [추가] 카테고리에서 여러 카드를 DELETE 한 번으로 제거
+     * (엔티티를 읽어서 한 건씩 delete 하지 않음)
+     */
+    @Modifying
+    @Query("DELETE FROM CollectedCard cc " +
+            "WHERE cc.category.categoryId = :categoryId AND cc.card.cardId IN :cardIds")
+    int deleteByCategoryIdAndCardIdIn(@Param("categoryId") Long categoryId,
+                                      @Param("cardIds") Collection<Long> cardIds);
+
+    /**
+     * [추가] 카테고리의 모든 수집 카드를 DELETE 한 번으로 제거 (카테고리 삭제용)
+     */
+    @Modifying
+    @Query("DELETE FROM CollectedCard cc WHERE cc.category.categoryId = :categoryId")
+    int deleteByCategoryId(@Param("categoryId") Long categoryId);
+
+    /**
+     * [추가] 사용자의 팩별, 카테고리 유형(OWNED/WISHLIST)별 수집 카드 수
+     * (한 번의 GROUP BY 쿼리로 모든 팩을 집계. 같은 카드를 여러 카테고리에 담았으면 한 장으로 셈)
+     */
+    @Query("SELECT new com.pokekor.pokekor.collection.PackCollectionCountRow(" +
+            "p.packId, cat.categoryType, COUNT(DISTINCT c.cardId)) " +
+            "FROM CollectedCard cc " +
+            "JOIN cc.category cat " +
+            "JOIN cc.card c " +
+            "JOIN c.pack p " +
+            "WHERE cat.user.userId = :userId " +
+            "GROUP BY p.packId, cat.categoryType")
+    List<PackCollectionCountRow> countCollectedCardsByPack(@Param("userId") Long userId);
+
+    /**
+     * [추가] 특정 카테고리에 수집된 카드를 DB 커서로 한 행씩 읽는 스트림 (수집한 순서)
+     * (엔티티 대신 CatalogCard 프로젝션을 사용하므로 영속성 컨텍스트가 커지지 않음,
+     *  반드시 트랜잭션 안에서 사용하고 사용 후 close 해야 함)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.pokekor.pokekor.catalog.CatalogCard(" +
+            "c.cardId, c.cardName, c.cardImageUrl, c.cardNumberInPack, c.cardType, c.cardAttribute1, c.cardAttribute2, " +
+            "p.packId, p.packNameKo, r.rarityId) " +
+            "FROM CollectedCard cc " +
+            "JOIN cc.card c " +
+            "LEFT JOIN c.pack p " +
+            "LEFT JOIN c.rarity r " +
+            "WHERE cc.category.categoryId = :categoryId " +
+            "ORDER BY cc.collectedCardId")
+    Stream<CatalogCard> streamCatalogCardsByCategoryId(@Param("categoryId") Long categoryId);
+
+    /**
+     * [추가] 카테고리 수집 카드 키셋 페이지 조회 (cardId 오름차순, afterCardId 다음부터 최대 limit개)
+     * 컬렉션 JOIN FETCH 없이 CatalogCard 프로젝션으로 한 페이지만 읽으므로, 카테고리 크기와 관계없이 비용이 일정함.
+     * 정렬/커서 조건이 (category_id, card_id) 유니크 인덱스를 그대로 따라감
+     *
+     * @param afterCardId (이전 페이지의 마지막 cardId, 첫 페이지는 0)
+     * @param packId (팩 필터, 없으면 null)
+     * @param rarityId (레어도 필터, 없으면 null)
+     */
+    @Query("SELECT new com.pokekor.pokekor.catalog.CatalogCard(" +
+            "c.cardId, c.cardName, c.cardImageUrl, c.cardNumberInPack, c.cardType, c.cardAttribute1, c.cardAttribute2, " +
+            "p.packId, p.packNameKo, r.rarityId) " +
+            "FROM CollectedCard cc " +
+            "JOIN cc.card c " +
+            "LEFT JOIN c.pack p " +
+            "LEFT JOIN c.rarity r " +
+            "WHERE cc.category.categoryId = :categoryId " +
+            "AND cc.card.cardId > :afterCardId " +
+            "AND (:packId IS NULL OR p.packId = :packId) " +
+            "AND (:rarityId IS NULL OR r.rarityId = :rarityId) " +
+            "ORDER BY cc.card.cardId")
+    List<CatalogCard> findCatalogCardPageByCategoryId(@Param("categoryId") Long categoryId,
+                                                      @Param("afterCardId") Long afterCardId,
+                                                      @Param("packId") Long packId,
+                                                      @Param("rarityId") String rarityId,
+                                                      Limit limit);
+
+    /**
+     * [추가] 카드 수집 INSERT가 0행일 때 이유 확인용 (카테고리가 없으면 빈 결과)
+     */
+    @Query("SELECT new com.pokekor.pokekor.collection.CollectTargetRow(" +
+            "cat.user.userId, (SELECT COUNT(c) FROM Card c WHERE c.cardId = :cardId)) " +
+            "FROM CollectionCategory cat " +
+            "WHERE cat.categoryId = :categoryId")
+    Optional<CollectTargetRow> findCollectTarget(@Param("categoryId") Long categoryId,
+                                                 @Param("cardId") Long cardId);
 }
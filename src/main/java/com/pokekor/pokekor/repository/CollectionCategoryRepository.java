@@ -1,13 +1,19 @@
 package com.pokekor.pokekor.repository;
 
 import com.pokekor.pokekor.domain.CollectionCategory;
+import com.pokekor.pokekor.dto.CollectionExportRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CollectionCategoryRepository extends JpaRepository<CollectionCategory, Long> {
@@ -16,6 +22,12 @@ public interface CollectionCategoryRepository extends JpaRepository<CollectionCa
     // (JPA 쿼리 메서드 규칙에 따라 User 객체 안의 userId 필드를 찾습니다)
     List<CollectionCategory> findByUserUserId(Long userId);
 
+    /**
+     * [추가] 사용자가 소유한 카테고리를 ID로 조회 (소유자 확인을 WHERE user_id = ? 로 처리)
+     * User를 로드하지 않으므로 권한 확인을 위한 사용자 조회/지연 로딩 쿼리가 없음
+     */
+    Optional<CollectionCategory> findByCategoryIdAndUserUserId(Long categoryId, Long userId);
+
     /**
      * [추가됨] N+1 문제를 해결하기 위한 JOIN FETCH 쿼리
      * 특정 카테고리 ID로 조회 시,
@@ -28,6 +40,34 @@ public interface CollectionCategoryRepository extends JpaRepository<CollectionCa
             "LEFT JOIN FETCH cc.card c_card " +
             "LEFT JOIN FETCH c_card.pack p " +
             "LEFT JOIN FETCH c_card.rarity r " +
-            "WHERE c.categoryId = :categoryId")
-    Optional<CollectionCategory> findByIdWithCollectedCards(@Param("categoryId") Long categoryId);
+            "WHERE c.categoryId = :categoryId AND c.user.userId = :userId") // [수정] 소유자 조건 추가
+    Optional<CollectionCategory> findByIdWithCollectedCards(@Param("categoryId") Long categoryId,
+                                                            @Param("userId") Long userId);
+
+    /**
+     * [추가] 내보내기용: 사용자의 모든 카테고리와 수집 카드(팩, 레어도 포함)를 쿼리 한 번으로 읽는 스트림
+     * (엔티티 대신 프로젝션을 사용하고 DB 커서에서 fetch size만큼씩 읽으므로 메모리 사용량이 일정함.
+     *  반드시 트랜잭션 안에서 사용하고 사용 후 close 해야 함)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.pokekor.pokekor.dto.CollectionExportRow(" +
+            "cat.categoryId, cat.categoryName, cat.categoryType, cat.themeColor, " +
+            "c.cardId, c.cardName, c.cardNumberInPack, c.cardType, c.cardAttribute1, c.cardAttribute2, " +
+            "p.packId, p.packNameKo, r.rarityId, r.rarityName) " +
+            "FROM CollectionCategory cat " +
+            "LEFT JOIN cat.collectedCards cc " +
+            "LEFT JOIN cc.card c " +
+            "LEFT JOIN c.pack p " +
+            "LEFT JOIN c.rarity r " +
+            "WHERE cat.user.userId = :userId " +
+            "ORDER BY cat.categoryId, cc.collectedCardId")
+    Stream<CollectionExportRow> streamExportRowsByUserId(@Param("userId") Long userId);
+
+    /**
+     * [추가] 카테고리 한 건을 DELETE 한 번으로 삭제
+     * (수집 카드는 먼저 CollectedCardRepository.deleteByCategoryId로 지워야 함. cascade로 한 건씩 지우지 않기 위함)
+     */
+    @Modifying
+    @Query("DELETE FROM CollectionCategory c WHERE c.categoryId = :categoryId")
+    int deleteByCategoryId(@Param("categoryId") Long categoryId);
 }
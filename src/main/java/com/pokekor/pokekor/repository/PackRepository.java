@@ -1,10 +1,28 @@
 package com.pokekor.pokekor.repository;
 
+import com.pokekor.pokekor.catalog.CatalogCacheRegions;
 import com.pokekor.pokekor.domain.Pack;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface PackRepository extends JpaRepository<Pack, Long> {
 
+    /**
+     * [추가] 출시일 오름차순으로 전체 팩 조회 (출시일이 없는 팩은 맨 뒤)
+     * [수정] 쿼리 캐시 사용 (결과 ID 목록은 쿼리 캐시, 팩 엔티티는 2차 캐시에서 읽음)
+     */
+    @Query("SELECT p FROM Pack p ORDER BY p.releaseDate ASC NULLS LAST, p.packId ASC")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CatalogCacheRegions.QUERY)
+    })
+    List<Pack> findAllOrderByReleaseDate();
+
 }
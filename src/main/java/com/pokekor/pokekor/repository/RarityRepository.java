@@ -1,9 +1,26 @@
 package com.pokekor.pokekor.repository;
 
+import com.pokekor.pokekor.catalog.CatalogCacheRegions;
 import com.pokekor.pokekor.domain.Rarity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface RarityRepository extends JpaRepository<Rarity, String> {
+
+    /**
+     * [추가] ID 오름차순으로 전체 레어도 조회 (쿼리 캐시 사용)
+     */
+    @Query("SELECT r FROM Rarity r ORDER BY r.rarityId ASC")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CatalogCacheRegions.QUERY)
+    })
+    List<Rarity> findAllOrderByRarityId();
 }
@@ -1,22 +1,30 @@
 package com.pokekor.pokekor.service;
 
-import com.pokekor.pokekor.domain.Card;
-import com.pokekor.pokekor.domain.CollectedCard;
+import com.pokekor.pokekor.catalog.CatalogCard;
+import com.pokekor.pokekor.catalog.CatalogIndex;
+import com.pokekor.pokekor.catalog.CatalogSnapshot;
+import com.pokekor.pokekor.catalog.CatalogVersion;
+import com.pokekor.pokekor.collection.CollectionOverlay;
+import com.pokekor.pokekor.collection.CollectionOverlayCache;
 import com.pokekor.pokekor.dto.CardDTO;
-import com.pokekor.pokekor.dto.CollectionInfoDTO;
+import com.pokekor.pokekor.dto.CardFacetsDTO;
+import com.pokekor.pokekor.dto.CardPageDTO;
+import com.pokekor.pokekor.dto.CardSearchCondition;
 import com.pokekor.pokekor.repository.CardRepository;
-import com.pokekor.pokekor.repository.CardSpecification;
-import com.pokekor.pokekor.repository.CollectedCardRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -24,43 +32,154 @@ import java.util.stream.Collectors;
 public class CardService {
 
     private final CardRepository cardRepository;
-    private final CollectedCardRepository collectedCardRepository;
+    private final CollectionOverlayCache collectionOverlayCache; // [추가] 사용자별 수집 오버레이 캐시
+    private final CatalogIndex catalogIndex; // [추가] 인메모리 카탈로그 인덱스
+    private final CatalogVersion catalogVersion; // [추가] 카탈로그 버전 (ETag)
+    private final QueryFanOut queryFanOut; // [추가] 독립적인 조회 동시 실행
+
+    // [추가] 검색 방식: index(인메모리 인덱스, 기본값) 또는 database(프로젝션 쿼리로 DB 조회)
+    @Value("${pokekor.catalog.search-mode:index}")
+    private String searchMode;
 
     // [수정] cardAttribute 파라미터를 1개로 변경
-    public List<CardDTO> searchCards(String username, Long packId, String cardName, String rarityId, String cardType, String cardAttribute) {
-
-        // 1. 수집 정보 조회 (기존 로직과 동일)
-        Map<Long, List<CollectionInfoDTO>> collectedCardInfoMap = Collections.emptyMap();
-        if (username != null) {
-            List<CollectedCard> allCollectedCards =
-                    collectedCardRepository.findWithCategoryByUsername(username);
-
-            collectedCardInfoMap = allCollectedCards.stream()
-                    // ... (groupingBy 로직 동일)
-                    .collect(Collectors.groupingBy(
-                            cc -> cc.getCard().getCardId(),
-                            Collectors.mapping(
-                                    cc -> new CollectionInfoDTO(
-                                            cc.getCategory().getCategoryName(),
-                                            cc.getCategory().getThemeColor()
-                                    ),
-                                    Collectors.toList()
-                            )
-                    ));
+    // [수정] 두 조회가 각자 트랜잭션을 쓰도록 메서드 자체는 트랜잭션 없이 실행 (커넥션을 겹쳐 잡지 않음)
+    // [수정] 응답에 쓸 ETag도 함께 반환 (실제로 사용한 스냅샷 버전과 오버레이 revision으로 만듦)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CardSearchResult searchCards(Long userId, Long packId, String cardName, String rarityId, String cardType, String cardAttribute) {
+        CardSearchCondition condition = new CardSearchCondition(packId, cardName, rarityId, cardType, cardAttribute);
+
+        // 1. [수정] 기본적으로 인메모리 카탈로그 인덱스에서 검색 (DB 조회 없음)
+        //    (search-mode=database 이면 필요한 컬럼만 읽는 프로젝션 쿼리로 조회)
+        // 2. [수정] 수집 정보 조회 (매번 전체 수집 목록을 읽지 않고 캐시된 오버레이 사용)
+        //    (서로 독립적이므로 오버레이를 DB에서 읽어야 할 때는 검색과 동시에 실행)
+        // 3. DTO 변환
+        CatalogSnapshot snapshot = isIndexMode() ? catalogIndex.current() : null;
+        long version = snapshot != null ? snapshot.getVersion() : catalogVersion.current();
+        return searchWithOverlay(userId,
+                () -> snapshot != null
+                        ? snapshot.search(condition)
+                        : cardRepository.searchCatalogCards(condition, null, null),
+                (cards, overlay) -> new CardSearchResult(toDTOs(cards, overlay), cardsETag(version, userId, overlay)));
+    }
+
+    /**
+     * [추가] 카드 검색 결과와 그 결과의 ETag
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class CardSearchResult {
+        private final List<CardDTO> cards;
+        private final String etag;
+    }
+
+    /**
+     * [추가] 키셋(cursor) 방식 카드 검색
+     * cardId 오름차순으로 cursor 이후의 카드를 최대 size개 반환하며, 전체 건수(count) 쿼리는 실행하지 않음
+     *
+     * @param cursor (이전 페이지의 마지막 cardId, 첫 페이지는 null)
+     * @param size (페이지 크기, 호출 전에 최대 페이지 크기로 제한되어 있어야 함)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // [추가] searchCards와 동일
+    public CardPageDTO searchCardPage(Long userId, CardSearchCondition condition, Long cursor, int size) {
+        // 다음 페이지 존재 여부를 알기 위해 size + 1개를 조회 (오버레이 로드와 동시에)
+        return searchWithOverlay(userId,
+                () -> isIndexMode()
+                        ? catalogIndex.current().searchAfter(condition, cursor, size + 1)
+                        : cardRepository.searchCatalogCards(condition, cursor, size + 1),
+                (cards, overlay) -> {
+                    boolean hasNext = cards.size() > size;
+                    List<CatalogCard> page = hasNext ? cards.subList(0, size) : cards;
+                    Long nextCursor = hasNext ? page.get(page.size() - 1).getCardId() : null;
+                    return new CardPageDTO(toDTOs(page, overlay), nextCursor, hasNext);
+                });
+    }
+
+    /**
+     * [추가] 카탈로그 검색과 사용자 수집 오버레이 조회를 함께 실행
+     * 오버레이가 캐시에 있으면 그대로 쓰고, DB에서 읽어야 할 때만 검색(호출 스레드)과 동시에 로드
+     */
+    private <R> R searchWithOverlay(Long userId, Supplier<List<CatalogCard>> search,
+                                    BiFunction<List<CatalogCard>, CollectionOverlay, R> combine) {
+        CollectionOverlay cached = userId != null ? collectionOverlayCache.getIfPresent(userId) : CollectionOverlay.empty();
+        if (cached != null) {
+            return combine.apply(search.get(), cached);
         }
+        return queryFanOut.both(search, () -> collectionOverlayCache.get(userId), combine);
+    }
 
-        // 2. [수정] 검색 조건(Specification) 생성 (CardSpecification에 파라미터 전달)
-        Specification<Card> spec = CardSpecification.search(cardName, packId, rarityId, cardType, cardAttribute);
+    /**
+     * [추가] 검색 결과를 리스트로 모으지 않고 한 장씩 sink로 전달 (스트리밍 응답용)
+     * index 모드는 스냅샷을 순회하고, database 모드는 트랜잭션이 열린 동안 DB 커서에서 한 행씩 읽음
+     */
+    public void streamCards(Long userId, CardSearchCondition condition, Consumer<CardDTO> sink) {
+        CollectionOverlay overlay = loadCollectionOverlay(userId);
 
-        // 3. [수정] JpaSpecificationExecutor의 기본 findAll(spec) 메서드를 호출
-        List<Card> cards = cardRepository.findAll(spec);
+        if (isIndexMode()) {
+            catalogIndex.current().forEachMatch(condition,
+                    card -> sink.accept(new CardDTO(card, overlay.collectionsOf(card.getCardId()))));
+            return;
+        }
+        try (Stream<CatalogCard> cards = cardRepository.streamCatalogCards(condition)) {
+            cards.forEach(card -> sink.accept(new CardDTO(card, overlay.collectionsOf(card.getCardId()))));
+        }
+    }
 
+    /**
+     * [추가] 필터 옵션별 결과 건수 (pack, rarity, type, 속성)
+     * 항목마다 검색하지 않고 index 모드는 스냅샷 한 번 순회, database 모드는 GROUP BY 쿼리 한 번으로 계산
+     */
+    public CardFacetsDTO getFacets(CardSearchCondition condition) {
+        return isIndexMode()
+                ? catalogIndex.current().facets(condition)
+                : cardRepository.countFacets(condition);
+    }
+
+    /**
+     * [추가] 필터 옵션별 건수(GET /api/cards/facets)의 ETag (카탈로그가 바뀔 때만 달라짐)
+     */
+    public String getFacetsETag() {
+        long version = isIndexMode() ? catalogIndex.current().getVersion() : catalogVersion.current();
+        return "facets-" + version;
+    }
 
-        final Map<Long, List<CollectionInfoDTO>> finalCollectedCardInfoMap = collectedCardInfoMap;
+    /**
+     * [추가] 카드 검색 결과(GET /api/cards)의 ETag
+     * 카탈로그 버전 + (로그인 사용자라면) 수집 오버레이 revision
+     * (같은 URL의 응답은 둘 중 하나가 바뀌지 않는 한 항상 같음. 검색 조건은 URL에 있으므로 포함하지 않음)
+     *
+     * [수정] 오버레이가 캐시에 없으면 로드하지 않고 null 반환 (304 확인을 건너뜀).
+     * 다시 로드한 오버레이는 revision이 새로 발급되므로 어차피 이전 ETag와 일치할 수 없고,
+     * 여기서 미리 로드하면 검색과 오버레이 로드를 동시에 실행할 기회가 사라짐
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String getCardsETag(Long userId) {
+        // index 모드는 실제로 응답을 만들 스냅샷의 버전을 사용 (재빌드 전에 새 버전으로 옛 내용을 응답하지 않도록)
+        long version = isIndexMode() ? catalogIndex.current().getVersion() : catalogVersion.current();
+        if (userId == null) {
+            return cardsETag(version, null, null);
+        }
+        CollectionOverlay cached = collectionOverlayCache.getIfPresent(userId);
+        return cached != null ? cardsETag(version, userId, cached) : null;
+    }
 
-        // 4. DTO 변환 (기존 로직과 동일)
+    private static String cardsETag(long version, Long userId, CollectionOverlay overlay) {
+        return userId == null ? "cards-" + version : "cards-" + version + "-" + overlay.getRevision();
+    }
+
+    private boolean isIndexMode() {
+        return !"database".equals(searchMode);
+    }
+
+    private List<CardDTO> toDTOs(List<CatalogCard> cards, CollectionOverlay overlay) {
         return cards.stream()
-                .map(card -> new CardDTO(card, finalCollectedCardInfoMap))
+                .map(card -> new CardDTO(card, overlay.collectionsOf(card.getCardId())))
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    /**
+     * 사용자의 수집 오버레이 조회 (로그인하지 않았으면 빈 오버레이)
+     */
+    private CollectionOverlay loadCollectionOverlay(Long userId) {
+        return userId != null ? collectionOverlayCache.get(userId) : CollectionOverlay.empty();
+    }
+}
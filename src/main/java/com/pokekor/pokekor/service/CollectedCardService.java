@@ -1,16 +1,26 @@
 package com.pokekor.pokekor.service;
 
-import com.pokekor.pokekor.domain.Card;
+import com.pokekor.pokekor.collection.CollectTargetRow;
+import com.pokekor.pokekor.collection.CollectionChangedEvent;
 import com.pokekor.pokekor.domain.CollectedCard;
 import com.pokekor.pokekor.domain.CollectionCategory;
+import com.pokekor.pokekor.dto.CardBulkCollectRequestDTO;
+import com.pokekor.pokekor.dto.CardBulkCollectResultDTO;
 import com.pokekor.pokekor.repository.CardRepository;
 import com.pokekor.pokekor.repository.CollectedCardRepository;
 import com.pokekor.pokekor.repository.CollectionCategoryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 @Transactional // 쓰기 작업이 포함되므로 readOnly = false
@@ -19,63 +29,175 @@ public class CollectedCardService {
     private final CollectedCardRepository collectedCardRepository;
     private final CollectionCategoryRepository collectionCategoryRepository;
     private final CardRepository cardRepository;
+    private final ApplicationEventPublisher eventPublisher; // [추가] 수집 오버레이 캐시 갱신용
+
+    /**
+     * [추가] 카드 수집 결과
+     */
+    public enum CollectResult {
+        ADDED,          // 새로 수집됨
+        ALREADY_PRESENT // 이미 카테고리에 있던 카드 (변경 없음)
+    }
 
     /**
      * 특정 카테고리에 특정 카드를 추가 (수집)
+     * [수정] 멱등(idempotent) 처리: 이미 수집된 카드도 오류가 아니라 ALREADY_PRESENT로 반환
+     * (조회 후 INSERT 하면 동시에 두 번 요청했을 때 둘 다 검사를 통과해서 uk_category_card 위반(500)이 났음)
      * @param categoryId (어느 카테고리에?)
      * @param cardId (어떤 카드를?)
-     * @param username (누가 요청?)
-     * @return 저장된 CollectedCard 엔티티
+     * @param userId (누가 요청?)
+     * @return 수집 결과 (ADDED / ALREADY_PRESENT)
      */
-    public CollectedCard addCardToCategory(Long categoryId, Long cardId, String username) {
-        // 1. 카테고리 엔티티 조회
-        CollectionCategory category = collectionCategoryRepository.findById(categoryId)
-                .orElseThrow(() -> new IllegalArgumentException("카테고리를 찾을 수 없습니다: " + categoryId));
+    public CollectResult addCardToCategory(Long categoryId, Long cardId, Long userId) {
+        // 1. 소유자 확인, 카드 존재 확인, 중복 무시를 INSERT 한 문장으로 처리
+        int inserted = collectedCardRepository.insertIfAbsent(categoryId, cardId, userId);
+        if (inserted > 0) {
+            // 2. 커밋 후 수집 오버레이 캐시에 반영
+            // (카테고리 정보를 읽지 않으므로 info 없이 보냄. 오버레이에 없는 카테고리면 캐시가 다시 로드함)
+            eventPublisher.publishEvent(CollectionChangedEvent.cardAdded(userId, categoryId, cardId, null));
+            return CollectResult.ADDED;
+        }
 
-        // 2. (중요) 보안 검사: 요청한 사용자가 카테고리의 소유자인지 확인
-        if (!category.getUser().getUsername().equals(username)) {
+        // 3. 행이 만들어지지 않았을 때만 이유 확인 (쿼리 1회)
+        CollectTargetRow target = collectedCardRepository.findCollectTarget(categoryId, cardId)
+                .orElseThrow(() -> new IllegalArgumentException("카테고리를 찾을 수 없습니다: " + categoryId));
+        if (!userId.equals(target.getOwnerId())) {
             throw new AccessDeniedException("이 카테고리에 접근할 권한이 없습니다.");
         }
+        if (!target.isCardExists()) {
+            throw new IllegalArgumentException("카드를 찾을 수 없습니다: " + cardId);
+        }
+        return CollectResult.ALREADY_PRESENT;
+    }
+
+    /**
+     * [추가] 카테고리에 여러 카드를 한 번에 추가/제거
+     * 카드 수와 관계없이 권한 확인 1회, 수집 여부 확인 1회(IN), 카드 존재 확인 1회(IN),
+     * DELETE 1회, 배치 INSERT(BATCH_SIZE 단위)로 처리
+     *
+     * @param categoryId (어느 카테고리에?)
+     * @param requestDTO (추가/제거할 카드 ID 목록, 제거를 먼저 처리)
+     * @param userId (누가 요청?)
+     * @return 카드별 처리 결과
+     */
+    public CardBulkCollectResultDTO bulkUpdateCards(Long categoryId, CardBulkCollectRequestDTO requestDTO, Long userId) {
+        // 1. 권한 확인 (카테고리 ID와 user_id 조건으로 한 번에 조회)
+        findOwnedCategory(categoryId, userId);
 
-        // 3. 카드 엔티티 조회
-        Card card = cardRepository.findById(cardId)
-                .orElseThrow(() -> new IllegalArgumentException("카드를 찾을 수 없습니다: " + cardId));
+        Set<Long> addIds = distinctIds(requestDTO.getAddCardIds());
+        Set<Long> removeIds = distinctIds(requestDTO.getRemoveCardIds());
+        if (addIds.isEmpty() && removeIds.isEmpty()) {
+            return new CardBulkCollectResultDTO(List.of(), List.of(), List.of(), List.of());
+        }
 
-        // 4. (중요) 중복 검사: 해당 카테고리에 이 카드가 이미 수집되었는지 확인
-        // (JPA가 자동으로 생성해준 메서드 활용)
-        collectedCardRepository.findByCategoryCategoryIdAndCardCardId(categoryId, cardId)
-                .ifPresent(existingCard -> {
-                    throw new IllegalStateException("이 카드는 이미 해당 카테고리에 수집되었습니다.");
-                });
+        // 2. 요청된 카드 중 이미 카테고리에 있는 카드 (IN 쿼리 1회)
+        Set<Long> requested = new HashSet<>(addIds);
+        requested.addAll(removeIds);
+        Set<Long> collected = new HashSet<>(collectedCardRepository.findCardIdsByCategoryIdAndCardIdIn(categoryId, requested));
 
-        // 5. 모든 검사 통과 -> 새 CollectedCard 엔티티 생성
-        CollectedCard newCollectedCard = new CollectedCard();
-        newCollectedCard.setCategory(category); // 연관관계 설정 (FK)
-        newCollectedCard.setCard(card);         // 연관관계 설정 (FK)
+        List<Long> notFound = new ArrayList<>();
 
-        // 6. T_COLLECTED_CARD 테이블에 저장
-        return collectedCardRepository.save(newCollectedCard);
+        // 3. 제거: 카테고리에 있는 카드만 DELETE 한 번으로
+        List<Long> removed = new ArrayList<>();
+        for (Long cardId : removeIds) {
+            if (collected.remove(cardId)) {
+                removed.add(cardId);
+            } else {
+                notFound.add(cardId);
+            }
+        }
+        if (!removed.isEmpty()) {
+            collectedCardRepository.deleteByCategoryIdAndCardIdIn(categoryId, removed);
+        }
+
+        // 4. 추가: 이미 있는 카드는 건너뛰고, 존재하는 카드만 배치 INSERT
+        List<Long> alreadyCollected = new ArrayList<>();
+        List<Long> candidates = new ArrayList<>();
+        for (Long cardId : addIds) {
+            if (collected.contains(cardId)) {
+                alreadyCollected.add(cardId);
+            } else {
+                candidates.add(cardId);
+            }
+        }
+        List<Long> added = new ArrayList<>();
+        if (!candidates.isEmpty()) {
+            Set<Long> existingCards = cardRepository.findExistingCardIds(candidates);
+            List<Long> toInsert = new ArrayList<>();
+            for (Long cardId : candidates) {
+                if (existingCards.contains(cardId)) {
+                    toInsert.add(cardId);
+                } else {
+                    notFound.add(cardId);
+                }
+            }
+            if (!toInsert.isEmpty()) {
+                // [수정] 확인 이후에 다른 요청이 같은 카드를 먼저 추가했으면 충돌을 무시하고 alreadyCollected로 분류
+                added = collectedCardRepository.insertAllIfAbsent(categoryId, toInsert);
+                if (added.size() < toInsert.size()) {
+                    Set<Long> inserted = new HashSet<>(added);
+                    for (Long cardId : toInsert) {
+                        if (!inserted.contains(cardId)) {
+                            alreadyCollected.add(cardId);
+                        }
+                    }
+                }
+            }
+        }
+
+        // 5. 커밋 후 수집 오버레이 캐시 갱신 (카드마다 이벤트를 보내지 않고 한 번에)
+        if (!added.isEmpty() || !removed.isEmpty()) {
+            eventPublisher.publishEvent(CollectionChangedEvent.cardsBulkChanged(userId, categoryId));
+        }
+        return new CardBulkCollectResultDTO(added, alreadyCollected, removed, notFound);
+    }
+
+    /**
+     * [추가] 사용자가 소유한 카테고리 조회 (카테고리 ID와 user_id 조건으로 한 번에)
+     * 조회되지 않았을 때만 카테고리 존재 여부를 한 번 더 확인해서 404(없음)와 403(남의 카테고리)을 구분
+     */
+    private CollectionCategory findOwnedCategory(Long categoryId, Long userId) {
+        return collectionCategoryRepository.findByCategoryIdAndUserUserId(categoryId, userId)
+                .orElseThrow(() -> collectionCategoryRepository.existsById(categoryId)
+                        ? new AccessDeniedException("이 카테고리에 접근할 권한이 없습니다.")
+                        : new IllegalArgumentException("카테고리를 찾을 수 없습니다: " + categoryId));
+    }
+
+    /**
+     * null을 제외하고 요청 순서를 유지한 중복 없는 ID 집합
+     */
+    private static Set<Long> distinctIds(List<Long> ids) {
+        Set<Long> result = new LinkedHashSet<>();
+        if (ids != null) {
+            for (Long id : ids) {
+                if (id != null) {
+                    result.add(id);
+                }
+            }
+        }
+        return result;
     }
 
     /**
      * [추가됨] 특정 카테고리에서 특정 카드를 제거 (수집 해제)
      * @param categoryId (어느 카테고리에서?)
      * @param cardId (어떤 카드를?)
-     * @param username (누가 요청?)
+     * @param userId (누가 요청?)
      */
-    public void removeCardFromCategory(Long categoryId, Long cardId, String username) {
-        // 1. (중요) T_COLLECTED_CARD 테이블에서 수집 항목을 직접 조회
-        // (findBy... 메서드는 Repository에 이미 존재함)
-        CollectedCard collectedCard = collectedCardRepository.findByCategoryCategoryIdAndCardCardId(categoryId, cardId)
-                .orElseThrow(() -> new IllegalArgumentException("수집된 카드를 찾을 수 없습니다."));
-
-        // 2. (중요) 보안 검사:
-        // 조회된 CollectedCard -> Category -> User의 username을 확인
-        if (!collectedCard.getCategory().getUser().getUsername().equals(username)) {
-            throw new AccessDeniedException("이 카드를 제거할 권한이 없습니다.");
-        }
+    public void removeCardFromCategory(Long categoryId, Long cardId, Long userId) {
+        // 1. [수정] T_COLLECTED_CARD 테이블에서 수집 항목을 소유자 조건(user_id)과 함께 조회
+        // 2. (중요) 보안 검사: 조회되지 않았을 때만 남의 카드인지, 없는 카드인지 구분
+        //    (CollectedCard -> Category -> User를 지연 로딩하지 않음)
+        CollectedCard collectedCard = collectedCardRepository
+                .findByCategoryCategoryIdAndCardCardIdAndCategoryUserUserId(categoryId, cardId, userId)
+                .orElseThrow(() -> collectedCardRepository.findByCategoryCategoryIdAndCardCardId(categoryId, cardId).isPresent()
+                        ? new AccessDeniedException("이 카드를 제거할 권한이 없습니다.")
+                        : new IllegalArgumentException("수집된 카드를 찾을 수 없습니다."));
 
         // 3. T_COLLECTED_CARD 테이블에서 해당 레코드 삭제
         collectedCardRepository.delete(collectedCard);
+
+        // 4. [추가] 커밋 후 수집 오버레이 캐시에 반영
+        eventPublisher.publishEvent(CollectionChangedEvent.cardRemoved(userId, categoryId, cardId));
     }
 }
\ No newline at end of file
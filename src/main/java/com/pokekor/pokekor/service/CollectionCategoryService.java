@@ -1,20 +1,30 @@
 package com.pokekor.pokekor.service;
 
+import com.pokekor.pokekor.catalog.CatalogCard;
+import com.pokekor.pokekor.collection.CollectionChangedEvent;
 import com.pokekor.pokekor.domain.CollectionCategory;
-import com.pokekor.pokekor.domain.User;
+import com.pokekor.pokekor.dto.CardDTO;
 import com.pokekor.pokekor.dto.CategoryCreateRequestDTO;
 import com.pokekor.pokekor.dto.CollectionCategoryDTO;
 import com.pokekor.pokekor.dto.CollectionCategoryDetailDTO;
+import com.pokekor.pokekor.dto.CollectionCategoryPageDTO;
+import com.pokekor.pokekor.dto.CollectionInfoDTO;
+import com.pokekor.pokekor.repository.CollectedCardRepository;
 import com.pokekor.pokekor.repository.CollectionCategoryRepository;
 import com.pokekor.pokekor.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.util.StringUtils;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -23,19 +33,18 @@ public class CollectionCategoryService {
 
     private final CollectionCategoryRepository collectionCategoryRepository;
     private final UserRepository userRepository;
+    private final CollectedCardRepository collectedCardRepository;
+    private final ApplicationEventPublisher eventPublisher; // [추가] 수집 오버레이 캐시 갱신용
 
     /**
      * 특정 사용자의 모든 컬렉션 카테고리 조회
-     * @param username (로그인한 사용자의 아이디)
+     * @param userId (로그인한 사용자의 ID)
      * @return List<CollectionCategoryDTO>
      */
-    public List<CollectionCategoryDTO> getCategoriesForUser(String username) {
-        // 1. 사용자 ID로 카테고리 조회
-        // (findByUserUserId가 User 객체를 로드하지 않고 FK만으로 조회하여 더 효율적일 수 있음)
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username));
-
-        List<CollectionCategory> categories = collectionCategoryRepository.findByUserUserId(user.getUserId());
+    public List<CollectionCategoryDTO> getCategoriesForUser(Long userId) {
+        // 1. [수정] 사용자 ID로 카테고리 조회 (토큰의 userId를 바로 사용하므로 사용자 조회 쿼리 없음)
+        // (findByUserUserId가 User 객체를 로드하지 않고 FK만으로 조회)
+        List<CollectionCategory> categories = collectionCategoryRepository.findByUserUserId(userId);
 
         // 2. DTO로 변환하여 반환
         return categories.stream()
@@ -45,19 +54,16 @@ public class CollectionCategoryService {
 
     /**
      * 특정 사용자를 위해 새 카테고리 생성
-     * @param username (로그인한 사용자의 아이디)
+     * @param userId (로그인한 사용자의 ID)
      * @param requestDTO (새 카테고리 정보)
      * @return CollectionCategoryDTO (생성된 카테고리 정보)
      */
     @Transactional // (readOnly = false) 쓰기 트랜잭션
-    public CollectionCategoryDTO createCategory(String username, CategoryCreateRequestDTO requestDTO) {
-        // 1. 사용자 엔티티 조회
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username));
-
+    public CollectionCategoryDTO createCategory(Long userId, CategoryCreateRequestDTO requestDTO) {
+        // 1. [수정] 사용자 엔티티 조회 대신 프록시 참조 사용 (FK 값만 필요하므로 SELECT 없음)
         // 2. DTO -> Entity 변환
         CollectionCategory newCategory = new CollectionCategory();
-        newCategory.setUser(user); // 연관관계 설정 (필수)
+        newCategory.setUser(userRepository.getReferenceById(userId)); // 연관관계 설정 (필수)
         newCategory.setCategoryName(requestDTO.getCategoryName());
         newCategory.setCategoryType(requestDTO.getCategoryType());
         newCategory.setThemeColor(requestDTO.getThemeColor() != null ? requestDTO.getThemeColor() : "#FFFFFF"); // 기본값
@@ -72,41 +78,92 @@ public class CollectionCategoryService {
     /**
      * [추가됨] 특정 카테고리의 상세 정보 (포함된 카드 목록 포함) 조회
      * @param categoryId (조회할 카테고리 ID)
-     * @param username (권한 확인용, 현재 로그인한 사용자)
+     * @param userId (권한 확인용, 현재 로그인한 사용자 ID)
      * @return CollectionCategoryDetailDTO
      */
-    public CollectionCategoryDetailDTO getCategoryDetails(Long categoryId, String username) {
+    public CollectionCategoryDetailDTO getCategoryDetails(Long categoryId, Long userId) {
         // 1. N+1 방지 쿼리를 사용하여 카테고리 및 하위 카드 정보 모두 조회
-        CollectionCategory category = collectionCategoryRepository.findByIdWithCollectedCards(categoryId)
-                .orElseThrow(() -> new IllegalArgumentException("카테고리를 찾을 수 없습니다: " + categoryId));
-
-        // 2. (중요) 보안 검사: 요청한 사용자가 카테고리의 소유자인지 확인
-        if (!category.getUser().getUsername().equals(username)) {
-            throw new AccessDeniedException("이 카테고리를 조회할 권한이 없습니다.");
-        }
+        // 2. [수정] (중요) 보안 검사: 소유자 조건(user_id)을 같은 쿼리의 WHERE 절에서 확인
+        CollectionCategory category = collectionCategoryRepository.findByIdWithCollectedCards(categoryId, userId)
+                .orElseThrow(() -> categoryNotAccessible(categoryId, "이 카테고리를 조회할 권한이 없습니다."));
 
         // 3. DTO로 변환하여 반환
         // (JOIN FETCH가 모두 완료되었으므로 DTO 변환 시 추가 쿼리 발생 안 함)
         return new CollectionCategoryDetailDTO(category);
     }
 
+    /**
+     * [추가] 특정 카테고리의 상세 정보를 수집 카드 한 페이지와 함께 조회 (키셋 페이지네이션)
+     * 카테고리 조회(권한 확인) 한 번 + 카드 페이지 프로젝션 조회 한 번이므로, 카테고리에 카드가 몇 장이든 비용이 같음
+     * @param categoryId (조회할 카테고리 ID)
+     * @param userId (권한 확인용, 현재 로그인한 사용자 ID)
+     * @param cursor (이전 응답의 nextCursor, 첫 페이지는 null)
+     * @param size (페이지 크기)
+     * @param packId (팩 필터, 선택 사항)
+     * @param rarityId (레어도 필터, 선택 사항)
+     * @return CollectionCategoryPageDTO
+     */
+    public CollectionCategoryPageDTO getCategoryPage(Long categoryId, Long userId, Long cursor, int size,
+                                                     Long packId, String rarityId) {
+        CollectionCategory category = findOwnedCategory(categoryId, userId, "이 카테고리를 조회할 권한이 없습니다.");
+
+        // 다음 페이지 존재 여부를 알기 위해 size + 1개를 조회
+        List<CatalogCard> cards = collectedCardRepository.findCatalogCardPageByCategoryId(
+                categoryId,
+                cursor != null ? cursor : 0L,
+                packId,
+                StringUtils.hasText(rarityId) ? rarityId : null,
+                Limit.of(size + 1)
+        );
+        boolean hasNext = cards.size() > size;
+        List<CatalogCard> page = hasNext ? cards.subList(0, size) : cards;
+        Long nextCursor = hasNext ? page.get(page.size() - 1).getCardId() : null;
+
+        // 상세 페이지에서는 컬러 닷을 표시하지 않으므로 collections는 빈 리스트 (기존 상세 조회와 동일)
+        List<CardDTO> collectedCards = page.stream()
+                .map(card -> new CardDTO(card, Collections.emptyList()))
+                .collect(Collectors.toList());
+        return new CollectionCategoryPageDTO(
+                category.getCategoryId(), category.getCategoryName(), category.getThemeColor(), category.getCategoryType(),
+                collectedCards, nextCursor, hasNext);
+    }
+
+    /**
+     * [추가] 카테고리 자체 정보(카드 목록 제외)를 권한 확인 후 조회
+     * @param categoryId (조회할 카테고리 ID)
+     * @param userId (권한 확인용, 현재 로그인한 사용자 ID)
+     * @return CollectionCategoryDTO
+     */
+    public CollectionCategoryDTO getCategory(Long categoryId, Long userId) {
+        CollectionCategory category = findOwnedCategory(categoryId, userId, "이 카테고리를 조회할 권한이 없습니다.");
+        return CollectionCategoryDTO.fromEntity(category);
+    }
+
+    /**
+     * [추가] 카테고리에 수집된 카드를 리스트로 모으지 않고 한 장씩 sink로 전달 (스트리밍 응답용)
+     * (권한 확인은 getCategory로 먼저 해야 함. 트랜잭션이 열린 동안 DB 커서에서 한 행씩 읽음)
+     * @param categoryId (조회할 카테고리 ID)
+     * @param sink (카드를 한 장씩 받을 대상)
+     */
+    public void streamCategoryCards(Long categoryId, Consumer<CardDTO> sink) {
+        try (Stream<CatalogCard> cards = collectedCardRepository.streamCatalogCardsByCategoryId(categoryId)) {
+            // 상세 페이지에서는 컬러 닷을 표시하지 않으므로 collections는 빈 리스트 (기존 CardDTO(Card)와 동일)
+            cards.forEach(card -> sink.accept(new CardDTO(card, Collections.emptyList())));
+        }
+    }
+
     /**
      * [추가됨] 특정 카테고리 정보 수정
      * @param categoryId (수정할 카테고리 ID)
      * @param requestDTO (수정할 내용, CategoryCreateRequestDTO 재사용)
-     * @param username (권한 확인용, 현재 로그인한 사용자)
+     * @param userId (권한 확인용, 현재 로그인한 사용자 ID)
      * @return 수정된 카테고리 DTO
      */
     @Transactional // (쓰기 트랜잭션)
-    public CollectionCategoryDTO updateCategory(Long categoryId, CategoryCreateRequestDTO requestDTO, String username) {
+    public CollectionCategoryDTO updateCategory(Long categoryId, CategoryCreateRequestDTO requestDTO, Long userId) {
         // 1. 카테고리 엔티티 조회
-        CollectionCategory category = collectionCategoryRepository.findById(categoryId)
-                .orElseThrow(() -> new IllegalArgumentException("카테고리를 찾을 수 없습니다: " + categoryId));
-
-        // 2. (중요) 보안 검사: 요청한 사용자가 카테고리의 소유자인지 확인
-        if (!category.getUser().getUsername().equals(username)) {
-            throw new AccessDeniedException("이 카테고리를 수정할 권한이 없습니다.");
-        }
+        // 2. [수정] (중요) 보안 검사: 소유자 조건(user_id)을 조회 쿼리에서 함께 확인 (User 지연 로딩 없음)
+        CollectionCategory category = findOwnedCategory(categoryId, userId, "이 카테고리를 수정할 권한이 없습니다.");
 
         // 3. DTO의 내용으로 엔티티 필드 업데이트
         category.setCategoryName(requestDTO.getCategoryName());
@@ -116,6 +173,12 @@ public class CollectionCategoryService {
         // 4. 저장 (JPA가 변경 감지(Dirty Checking)하여 UPDATE 쿼리 실행)
         CollectionCategory savedCategory = collectionCategoryRepository.save(category);
 
+        // [추가] 커밋 후 수집 오버레이 캐시의 카테고리 정보(이름, 색상) 갱신
+        eventPublisher.publishEvent(CollectionChangedEvent.categoryUpdated(
+                userId, categoryId,
+                new CollectionInfoDTO(savedCategory.getCategoryName(), savedCategory.getThemeColor())
+        ));
+
         // 5. DTO로 변환하여 반환
         return CollectionCategoryDTO.fromEntity(savedCategory);
     }
@@ -123,23 +186,37 @@ public class CollectionCategoryService {
     /**
      * [추가됨] 특정 카테고리 삭제
      * @param categoryId (삭제할 카테고리 ID)
-     * @param username (권한 확인용, 현재 로그인한 사용자)
+     * @param userId (권한 확인용, 현재 로그인한 사용자 ID)
      */
     @Transactional // (쓰기 트랜잭션)
-    public void deleteCategory(Long categoryId, String username) {
+    public void deleteCategory(Long categoryId, Long userId) {
         // 1. 카테고리 엔티티 조회
-        CollectionCategory category = collectionCategoryRepository.findById(categoryId)
-                .orElseThrow(() -> new IllegalArgumentException("카테고리를 찾을 수 없습니다: " + categoryId));
+        // 2. [수정] (중요) 보안 검사: 소유자 조건(user_id)을 조회 쿼리에서 함께 확인 (User 지연 로딩 없음)
+        findOwnedCategory(categoryId, userId, "이 카테고리를 삭제할 권한이 없습니다.");
 
-        // 2. (중요) 보안 검사: 요청한 사용자가 카테고리의 소유자인지 확인
-        if (!category.getUser().getUsername().equals(username)) {
-            throw new AccessDeniedException("이 카테고리를 삭제할 권한이 없습니다.");
-        }
+        // 3. [수정] 삭제
+        // (cascade = CascadeType.ALL, orphanRemoval = true에 맡기면 수집 카드를 모두 읽은 뒤 한 건씩 DELETE 하므로,
+        //  수집 카드와 카테고리를 각각 DELETE 한 번으로 지움)
+        collectedCardRepository.deleteByCategoryId(categoryId);
+        collectionCategoryRepository.deleteByCategoryId(categoryId);
+
+        // 4. [추가] 커밋 후 수집 오버레이 캐시에서 이 카테고리 제거
+        eventPublisher.publishEvent(CollectionChangedEvent.categoryDeleted(userId, categoryId));
+    }
+
+    /**
+     * [추가] 사용자가 소유한 카테고리 조회 (카테고리 ID와 user_id 조건으로 한 번에)
+     * 조회되지 않았을 때만 카테고리 존재 여부를 한 번 더 확인해서 404(없음)와 403(남의 카테고리)을 구분
+     */
+    private CollectionCategory findOwnedCategory(Long categoryId, Long userId, String deniedMessage) {
+        return collectionCategoryRepository.findByCategoryIdAndUserUserId(categoryId, userId)
+                .orElseThrow(() -> categoryNotAccessible(categoryId, deniedMessage));
+    }
 
-        // 3. 삭제
-        // (CollectionCategory 엔티티의 'collectedCards' 필드에
-        //  cascade = CascadeType.ALL, orphanRemoval = true가 설정되어 있으므로,
-        //  이 카테고리를 참조하던 T_COLLECTED_CARD 레코드도 함께 삭제됩니다.)
-        collectionCategoryRepository.delete(category);
+    private RuntimeException categoryNotAccessible(Long categoryId, String deniedMessage) {
+        if (collectionCategoryRepository.existsById(categoryId)) {
+            return new AccessDeniedException(deniedMessage);
+        }
+        return new IllegalArgumentException("카테고리를 찾을 수 없습니다: " + categoryId);
     }
 }
\ No newline at end of file
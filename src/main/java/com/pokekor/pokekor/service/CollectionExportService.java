@@ -0,0 +1,35 @@
+package com.pokekor.pokekor.service;
+
+import com.pokekor.pokekor.dto.CollectionExportRow;
+import com.pokekor.pokekor.repository.CollectionCategoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 사용자 컬렉션 내보내기
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CollectionExportService {
+
+    private final CollectionCategoryRepository collectionCategoryRepository;
+
+    /**
+     * 사용자의 모든 카테고리와 수집 카드를 한 행씩 sink로 전달
+     * (쿼리 한 번 + DB 커서로 읽으므로 컬렉션 크기와 관계없이 메모리 사용량이 일정함.
+     *  트랜잭션이 열린 동안 sink가 호출되므로, sink에서 응답을 바로 쓰면 됨)
+     *
+     * @param userId (현재 로그인한 사용자 ID)
+     * @param sink (행을 받을 대상, 카테고리 ID -> 수집한 순서로 호출됨)
+     */
+    public void exportCollections(Long userId, Consumer<CollectionExportRow> sink) {
+        try (Stream<CollectionExportRow> rows = collectionCategoryRepository.streamExportRowsByUserId(userId)) {
+            rows.forEach(sink);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.pokekor.pokekor.service;
+
+import com.pokekor.pokekor.catalog.CatalogIndex;
+import com.pokekor.pokekor.catalog.CatalogSnapshot;
+import com.pokekor.pokekor.collection.PackCollectionCountRow;
+import com.pokekor.pokekor.dto.PackCollectionStatsDTO;
+import com.pokekor.pokekor.repository.CollectedCardRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 컬렉션 통계
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CollectionStatsService {
+
+    private final CollectedCardRepository collectedCardRepository;
+    private final CatalogIndex catalogIndex;
+
+    /**
+     * 팩별 수집 현황 (수집한 카드 수 / 팩 전체 카드 수)
+     * - 수집 수: (팩, 카테고리 유형)별 GROUP BY 쿼리 한 번
+     * - 팩 전체 카드 수와 팩 이름: 인메모리 카탈로그 스냅샷 (DB 조회 없음)
+     *
+     * @param userId (현재 로그인한 사용자 ID)
+     * @return 카드가 있는 모든 팩의 수집 현황 (packId 오름차순, 수집하지 않은 팩은 0)
+     */
+    public List<PackCollectionStatsDTO> getPackStats(Long userId) {
+        // 1. packId -> [OWNED 수, WISHLIST 수]
+        Map<Long, long[]> collected = new HashMap<>();
+        for (PackCollectionCountRow row : collectedCardRepository.countCollectedCardsByPack(userId)) {
+            long[] counts = collected.computeIfAbsent(row.getPackId(), id -> new long[2]);
+            if ("OWNED".equals(row.getCategoryType())) {
+                counts[0] = row.getCardCount();
+            } else if ("WISHLIST".equals(row.getCategoryType())) {
+                counts[1] = row.getCardCount();
+            }
+        }
+
+        // 2. 카탈로그의 팩별 전체 카드 수와 합침
+        CatalogSnapshot catalog = catalogIndex.current();
+        Map<Long, Integer> totals = catalog.countByPack();
+        List<PackCollectionStatsDTO> stats = new ArrayList<>(totals.size());
+        totals.forEach((packId, total) -> {
+            long[] counts = collected.getOrDefault(packId, new long[2]);
+            stats.add(new PackCollectionStatsDTO(packId, catalog.packName(packId), total, counts[0], counts[1]));
+        });
+        return stats;
+    }
+}
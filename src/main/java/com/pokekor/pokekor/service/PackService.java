@@ -1,5 +1,6 @@
 package com.pokekor.pokekor.service;
 
+import com.pokekor.pokekor.catalog.CatalogVersion;
 import com.pokekor.pokekor.dto.PackDTO;
 import com.pokekor.pokekor.repository.PackRepository;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +16,7 @@ import java.util.stream.Collectors;
 public class PackService {
 
     private final PackRepository packRepository;
+    private final CatalogVersion catalogVersion; // [추가] 카탈로그 버전 (ETag)
 
     /**
      * 모든 팩 목록을 DTO로 조회
@@ -22,13 +24,17 @@ public class PackService {
      * @return List<PackDTO>
      */
     public List<PackDTO> getAllPacks() {
-        return packRepository.findAll().stream()
-                .sorted((p1, p2) -> {
-                    if (p1.getReleaseDate() == null) return 1;
-                    if (p2.getReleaseDate() == null) return -1;
-                    return p1.getReleaseDate().compareTo(p2.getReleaseDate());
-                })
+        // [수정] 매번 Java에서 정렬하지 않고 DB에서 정렬된 순서로 조회 (출시일 없는 팩은 맨 뒤)
+        return packRepository.findAllOrderByReleaseDate().stream()
                 .map(PackDTO::new)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * [추가] 팩 목록(GET /api/packs)의 ETag (카탈로그가 바뀔 때만 달라짐)
+     * (목록을 조회하기 전에 호출해야 함. 조회 도중 바뀐 경우 다음 요청에서 다시 받게 됨)
+     */
+    public String getPacksETag() {
+        return "packs-" + catalogVersion.current();
+    }
 }
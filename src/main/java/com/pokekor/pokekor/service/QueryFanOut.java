@@ -0,0 +1,88 @@
+package com.pokekor.pokekor.service;
+
+import com.pokekor.pokekor.metrics.RequestQueryCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * 한 요청 안의 서로 독립적인 조회 두 개를 동시에 실행하는 도우미
+ *
+ * 실행 모드 (pokekor.execution.mode)
+ * - concurrent (기본): 하나는 호출 스레드에서, 다른 하나는 별도 스레드에서 동시에 실행
+ * - sequential: 기존처럼 호출 스레드에서 차례로 실행
+ *
+ * 동시에 실행되는 조회는 각자 트랜잭션(= DB 커넥션)을 쓰므로, 호출하는 쪽은 트랜잭션 밖에서 호출해야
+ * 요청 하나가 커넥션을 불필요하게 더 잡지 않는다.
+ * 별도 스레드 수는 max-concurrency로 제한되며, 한도에 도달하면 새 작업은 자리가 날 때까지 기다린다
+ * (요청이 아무리 몰려도 이 경로가 Hikari 풀을 max-concurrency개 넘게 쓰지 않음).
+ *
+ * spring.threads.virtual.enabled=true 이고 Java 21 이상에서 실행하면 별도 스레드도 가상 스레드를 사용한다.
+ * (Java 17에서는 설정과 관계없이 플랫폼 스레드)
+ */
+@Slf4j
+@Component
+public class QueryFanOut {
+
+    private final boolean concurrent;
+    private final SimpleAsyncTaskExecutor executor;
+
+    public QueryFanOut(
+            @Value("${pokekor.execution.mode:concurrent}") String mode,
+            @Value("${pokekor.execution.fan-out.max-concurrency:5}") int maxConcurrency,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled
+    ) {
+        this.concurrent = "concurrent".equals(mode);
+        boolean virtualThreads = virtualThreadsEnabled && Runtime.version().feature() >= 21;
+
+        this.executor = new SimpleAsyncTaskExecutor("query-fan-out-");
+        this.executor.setConcurrencyLimit(maxConcurrency);
+        this.executor.setVirtualThreads(virtualThreads);
+        this.executor.setDaemon(true);
+
+        log.info("조회 실행 모드: {}, maxConcurrency={}, virtualThreads={}", mode, maxConcurrency, virtualThreads);
+    }
+
+    /**
+     * 두 조회를 실행하고 결과를 합침
+     * first는 호출 스레드에서, second는 (concurrent 모드면) 별도 스레드에서 동시에 실행된다.
+     * 어느 쪽이든 실패하면 그 예외를 그대로 던지며, first가 실패하면 second는 취소한다.
+     */
+    public <A, B, R> R both(Supplier<A> first, Supplier<B> second, BiFunction<A, B, R> combine) {
+        if (!concurrent) {
+            return combine.apply(first.get(), second.get());
+        }
+
+        // [추가] 별도 스레드의 쿼리도 요청의 쿼리 수에 포함
+        CompletableFuture<B> forked = CompletableFuture.supplyAsync(RequestQueryCounter.wrap(second), executor);
+        A firstResult;
+        try {
+            firstResult = first.get();
+        } catch (RuntimeException | Error e) {
+            forked.cancel(true);
+            throw e;
+        }
+        return combine.apply(firstResult, join(forked));
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // 별도 스레드에서 난 예외를 호출 스레드에서 난 것처럼 그대로 전달 (컨트롤러의 예외 매핑 유지)
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -1,9 +1,9 @@
 package com.pokekor.pokekor.service;
 
+import com.pokekor.pokekor.catalog.CatalogVersion;
 import com.pokekor.pokekor.dto.RarityDTO;
 import com.pokekor.pokekor.repository.RarityRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,15 +16,23 @@ import java.util.stream.Collectors;
 public class RarityService {
 
     private final RarityRepository rarityRepository; //
+    private final CatalogVersion catalogVersion; // [추가] 카탈로그 버전 (ETag)
 
     /**
      * 모든 레어도 목록을 DTO로 조회
      * @return List<RarityDTO>
      */
     public List<RarityDTO> getAllRarities() {
-        // ID 기준 오름차순 정렬
-        return rarityRepository.findAll(Sort.by(Sort.Direction.ASC, "rarityId")).stream()
+        // ID 기준 오름차순 정렬 ([수정] 쿼리 캐시를 쓰는 조회로 변경)
+        return rarityRepository.findAllOrderByRarityId().stream()
                 .map(RarityDTO::new)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * [추가] 레어도 목록(GET /api/rarities)의 ETag (카탈로그가 바뀔 때만 달라짐)
+     */
+    public String getRaritiesETag() {
+        return "rarities-" + catalogVersion.current();
+    }
 }
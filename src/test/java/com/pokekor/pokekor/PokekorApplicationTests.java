@@ -2,8 +2,10 @@ package com.pokekor.pokekor;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
 
 @SpringBootTest
+@ActiveProfiles("test") // H2 인메모리 DB (application-test.yml)
 class PokekorApplicationTests {
 
     @Test
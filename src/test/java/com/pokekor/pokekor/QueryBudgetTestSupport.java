@@ -0,0 +1,149 @@
+package com.pokekor.pokekor;
+
+import com.pokekor.pokekor.auth.AuthUser;
+import com.pokekor.pokekor.auth.JwtUtil;
+import com.pokekor.pokekor.catalog.CatalogIndex;
+import com.pokekor.pokekor.dataset.DatasetSpec;
+import com.pokekor.pokekor.dataset.SyntheticDatasetGenerator;
+import com.pokekor.pokekor.metrics.QueryBudget;
+import com.pokekor.pokekor.metrics.RequestQueryCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.method.HandlerMethod;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * API 쿼리 예산 테스트 공통 설정
+ *
+ * H2 인메모리 DB(application-test.yml)에 작은 합성 카탈로그를 한 번만 넣고,
+ * 테스트마다 새 사용자를 만들어 서로 영향을 주지 않게 한다.
+ * 테스트 프로필은 pokekor.query-budget.mode=fail이므로 예산을 넘는 요청은 실행 중에 실패하며,
+ * assertWithinBudget은 핸들러에 @QueryBudget이 선언되어 있는지와 실제 문장 수를 함께 확인한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public abstract class QueryBudgetTestSupport {
+
+    protected static final int CATALOG_PACKS = 3;
+    protected static final int CATALOG_CARDS = 90;
+
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SyntheticDatasetGenerator datasetGenerator;
+
+    @Autowired
+    private CatalogIndex catalogIndex;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    protected long firstCardId;
+
+    @BeforeEach
+    void seedCatalog() {
+        synchronized (QueryBudgetTestSupport.class) {
+            Long cards = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM t_card", Long.class);
+            if (cards == null || cards == 0) {
+                DatasetSpec spec = new DatasetSpec();
+                spec.setPacks(CATALOG_PACKS);
+                spec.setCards(CATALOG_CARDS);
+                spec.setUsers(0);
+                datasetGenerator.generate(spec);
+                catalogIndex.rebuild();
+            }
+        }
+        firstCardId = jdbcTemplate.queryForObject("SELECT MIN(card_id) FROM t_card", Long.class);
+    }
+
+    /**
+     * 요청이 선언한 @QueryBudget 안에서 끝났는지 확인하고 실제 문장 수를 반환
+     */
+    protected int assertWithinBudget(MvcResult result) {
+        assertThat(result.getHandler()).isInstanceOf(HandlerMethod.class);
+        HandlerMethod handler = (HandlerMethod) result.getHandler();
+        QueryBudget budget = AnnotatedElementUtils.findMergedAnnotation(handler.getMethod(), QueryBudget.class);
+        assertThat(budget).as("%s에 @QueryBudget이 없습니다", handler.getShortLogMessage()).isNotNull();
+
+        int queries = queries(result);
+        assertThat(queries).as("%s SQL 문장 수", handler.getShortLogMessage()).isLessThanOrEqualTo(budget.value());
+        return queries;
+    }
+
+    protected static int queries(MvcResult result) {
+        Object count = result.getRequest().getAttribute(RequestQueryCounter.COUNT_ATTRIBUTE);
+        assertThat(count).as("요청 SQL 문장 수가 기록되지 않았습니다").isNotNull();
+        return (Integer) count;
+    }
+
+    protected TestUser createUser() {
+        String username = "test-" + UUID.randomUUID().toString().substring(0, 8);
+        String password = "password1234";
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO t_user (username, password) VALUES (?, ?)", Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, username);
+            ps.setString(2, passwordEncoder.encode(password));
+            return ps;
+        }, keyHolder);
+        long userId = keyHolder.getKey().longValue();
+        String token = jwtUtil.generateToken(new AuthUser(userId, username, "", Collections.emptyList()));
+        return new TestUser(userId, username, password, "Bearer " + token);
+    }
+
+    protected long createCategory(TestUser user, String type) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO t_collection_category (category_name, theme_color, category_type, user_id) VALUES (?, ?, ?, ?)",
+                    Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, type + " 카테고리");
+            ps.setString(2, "#FF6B6B");
+            ps.setString(3, type);
+            ps.setLong(4, user.userId());
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    /**
+     * 카탈로그 앞쪽 카드 count장을 카테고리에 수집
+     */
+    protected void collectCards(long categoryId, int count) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{categoryId, firstCardId + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO t_collected_card (category_id, card_id) VALUES (?, ?)", rows);
+    }
+
+    protected record TestUser(long userId, String username, String password, String authorization) {
+    }
+}
@@ -0,0 +1,103 @@
+package com.pokekor.pokekor.auth;
+
+import com.pokekor.pokekor.QueryBudgetTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * /api/auth 쿼리 예산 테스트
+ * (가입/로그인의 해시와 저장은 해시 전용 스레드에서 실행되므로 요청 스레드의 문장만 센다)
+ */
+class AuthControllerQueryBudgetTest extends QueryBudgetTestSupport {
+
+    @Autowired
+    private PasswordHashExecutor passwordHashExecutor;
+
+    @Test
+    void registerUser() throws Exception {
+        String username = "new-" + UUID.randomUUID().toString().substring(0, 8);
+
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + username + "\",\"password\":\"password1234\"}"))
+                .andReturn();
+        assertWithinBudget(result);
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isCreated());
+    }
+
+    @Test
+    void loginUser() throws Exception {
+        TestUser user = createUser();
+
+        MvcResult result = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + user.username() + "\",\"password\":\"" + user.password() + "\"}"))
+                .andReturn();
+        assertWithinBudget(result);
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+    }
+
+    @Test
+    void logoutUser() throws Exception {
+        TestUser user = createUser();
+
+        assertWithinBudget(mockMvc.perform(post("/api/auth/logout")
+                        .header("Authorization", user.authorization()))
+                .andExpect(status().isNoContent())
+                .andReturn());
+    }
+
+    @Test
+    void loginWhenHashQueueIsFull() throws Exception {
+        TestUser user = createUser();
+        CountDownLatch release = new CountDownLatch(1);
+        List<CompletableFuture<Object>> blockers = new ArrayList<>();
+        try {
+            // 해시 스레드와 대기열을 모두 막힌 작업으로 채움 (거절될 때까지)
+            while (true) {
+                try {
+                    blockers.add(passwordHashExecutor.submit("test", () -> {
+                        PasswordHashExecutorTest.await(release);
+                        return null;
+                    }));
+                } catch (RejectedExecutionException e) {
+                    break;
+                }
+            }
+
+            // 로그인과 (아이디 중복 확인을 통과한) 회원가입 모두 기다리지 않고 503
+            String newUsername = "new-" + UUID.randomUUID().toString().substring(0, 8);
+            for (String[] request : List.of(
+                    new String[]{"/api/auth/login", user.username()},
+                    new String[]{"/api/auth/register", newUsername})) {
+                MvcResult result = mockMvc.perform(post(request[0])
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"username\":\"" + request[1] + "\",\"password\":\"" + user.password() + "\"}"))
+                        .andReturn();
+                assertWithinBudget(result);
+                mockMvc.perform(asyncDispatch(result))
+                        .andExpect(status().isServiceUnavailable())
+                        .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+            }
+        } finally {
+            release.countDown();
+            CompletableFuture.allOf(blockers.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+        }
+    }
+}
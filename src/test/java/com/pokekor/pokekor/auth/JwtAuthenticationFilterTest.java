@@ -0,0 +1,60 @@
+package com.pokekor.pokekor.auth;
+
+import com.pokekor.pokekor.QueryBudgetTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * JWT 인증 필터 테스트 (로그아웃 무효화, uid 클레임이 없는 이전 토큰)
+ */
+class JwtAuthenticationFilterTest extends QueryBudgetTestSupport {
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    void tokenIssuedBeforeLogoutIsRejected() throws Exception {
+        TestUser user = createUser();
+        mockMvc.perform(get("/api/my-collections").header("Authorization", user.authorization()))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/auth/logout").header("Authorization", user.authorization()))
+                .andExpect(status().isNoContent());
+
+        // 로그아웃 이전에 발급된 토큰은 서명과 만료가 유효해도 거부 (검증 캐시에 있어도 마찬가지)
+        mockMvc.perform(get("/api/my-collections").header("Authorization", user.authorization()))
+                .andExpect(status().isUnauthorized());
+
+        // 로그아웃 이후에 발급된 토큰은 사용 가능
+        String newToken = jwtUtil.generateToken(new AuthUser(user.userId(), user.username(), "", List.of()));
+        mockMvc.perform(get("/api/my-collections").header("Authorization", "Bearer " + newToken))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void tokenWithoutUserIdIsResolvedFromDatabase() throws Exception {
+        TestUser user = createUser();
+        collectCards(createCategory(user, "OWNED"), 3);
+
+        // uid 클레임 없이 발급된 이전 형식의 토큰 (AuthUser가 아닌 UserDetails로 발급)
+        String legacyToken = jwtUtil.generateToken(User.withUsername(user.username()).password("").build());
+
+        mockMvc.perform(get("/api/my-collections").header("Authorization", "Bearer " + legacyToken))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void tokenWithoutUserIdForUnknownUserIsRejected() throws Exception {
+        String legacyToken = jwtUtil.generateToken(User.withUsername("no-such-user").password("").build());
+
+        mockMvc.perform(get("/api/my-collections").header("Authorization", "Bearer " + legacyToken))
+                .andExpect(status().isUnauthorized());
+    }
+}
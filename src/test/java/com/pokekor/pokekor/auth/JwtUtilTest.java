@@ -0,0 +1,101 @@
+package com.pokekor.pokekor.auth;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JwtUtil.verify 검증 캐시 테스트
+ */
+class JwtUtilTest {
+
+    private static final String SECRET = "pokekor-test-secret-key-0123456789-abcdefghijklmnopqrstu";
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, 2);
+
+    @Test
+    void verifyAndCache() {
+        String token = token(1L, "ash");
+
+        JwtUtil.VerifiedToken first = jwtUtil.verify(token);
+        assertThat(first.getUsername()).isEqualTo("ash");
+        assertThat(first.getUserId()).isEqualTo(1L);
+        assertThat(jwtUtil.cachedTokenCount()).isEqualTo(1);
+
+        // 두 번째부터는 파싱 없이 같은 결과
+        assertThat(jwtUtil.verify(token)).isSameAs(first);
+    }
+
+    @Test
+    void expiredTokenIsRejectedOnCacheHit() throws InterruptedException {
+        // exp는 초 단위이므로 최소 1초 뒤에 만료되는 토큰
+        long expiresAt = (System.currentTimeMillis() / 1000 + 2) * 1000;
+        String token = Jwts.builder()
+                .subject("ash")
+                .claim(JwtUtil.USER_ID_CLAIM, 1L)
+                .expiration(new Date(expiresAt))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertThat(jwtUtil.verify(token)).isNotNull();
+        assertThat(jwtUtil.cachedTokenCount()).isEqualTo(1);
+
+        Thread.sleep(Math.max(0, expiresAt - System.currentTimeMillis()) + 50);
+
+        // 캐시에 있어도 만료된 토큰은 거부하고 캐시에서 제거
+        assertThat(jwtUtil.verify(token)).isNull();
+        assertThat(jwtUtil.cachedTokenCount()).isZero();
+    }
+
+    @Test
+    void tamperedTokenNeverHitsCache() {
+        String token = token(1L, "ash");
+        assertThat(jwtUtil.verify(token)).isNotNull();
+
+        // 서명 한 글자 변경
+        int last = token.length() - 2;
+        String tamperedSignature = token.substring(0, last) + (token.charAt(last) == 'A' ? 'B' : 'A') + token.substring(last + 1);
+        // 다른 사용자의 페이로드에 원래 서명
+        String[] parts = token.split("\\.");
+        String otherPayload = token(2L, "misty").split("\\.")[1];
+        String swappedPayload = parts[0] + "." + otherPayload + "." + parts[2];
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(jwtUtil.verify(tamperedSignature)).isNull();
+            assertThat(jwtUtil.verify(swappedPayload)).isNull();
+        }
+        assertThat(jwtUtil.verify("not-a-jwt")).isNull();
+        assertThat(jwtUtil.cachedTokenCount()).isEqualTo(1);
+        assertThat(jwtUtil.verify(token).getUsername()).isEqualTo("ash");
+    }
+
+    @Test
+    void tokenSignedWithOtherKeyIsRejected() {
+        JwtUtil other = new JwtUtil("another-secret-key-0123456789-abcdefghijklmnopqrstuvwxyz", 2);
+
+        assertThat(jwtUtil.verify(other.generateToken(new AuthUser(1L, "ash", "", Collections.emptyList())))).isNull();
+        assertThat(jwtUtil.cachedTokenCount()).isZero();
+    }
+
+    @Test
+    void cacheIsBounded() {
+        String ash = token(1L, "ash");
+        jwtUtil.verify(ash);
+        jwtUtil.verify(token(2L, "misty"));
+        jwtUtil.verify(token(3L, "brock"));
+
+        assertThat(jwtUtil.cachedTokenCount()).isEqualTo(2);
+        // 캐시에서 밀려난 토큰도 다시 파싱해서 검증
+        assertThat(jwtUtil.verify(ash).getUsername()).isEqualTo("ash");
+    }
+
+    private String token(long userId, String username) {
+        return jwtUtil.generateToken(new AuthUser(userId, username, "", Collections.emptyList()));
+    }
+}
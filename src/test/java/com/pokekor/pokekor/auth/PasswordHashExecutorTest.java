@@ -0,0 +1,63 @@
+package com.pokekor.pokekor.auth;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 비밀번호 해시 스레드 풀 테스트 (대기열이 가득 차면 기다리지 않고 바로 거절)
+ */
+class PasswordHashExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PasswordHashExecutor executor = new PasswordHashExecutor(meterRegistry, 1, 2);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void rejectsWhenQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 스레드 1개를 막고 대기열 2칸을 채움
+        CompletableFuture<String> running = executor.submit("login", () -> {
+            started.countDown();
+            await(release);
+            return "running";
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued1 = executor.submit("login", () -> "queued1");
+        CompletableFuture<String> queued2 = executor.submit("register", () -> "queued2");
+
+        assertThatThrownBy(() -> executor.submit("login", () -> "rejected"))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(meterRegistry.get("pokekor.auth.hash.rejected").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("pokekor.auth.hash.queue.size").gauge().value()).isEqualTo(2.0);
+
+        // 막힌 작업이 끝나면 대기 중이던 작업은 모두 실행되고, 다시 받을 수 있음
+        release.countDown();
+        assertThat(CompletableFuture.allOf(running, queued1, queued2).thenApply(v -> queued2.join())
+                .get(5, TimeUnit.SECONDS)).isEqualTo("queued2");
+        assertThat(executor.submit("login", () -> "accepted").get(5, TimeUnit.SECONDS)).isEqualTo("accepted");
+        assertThat(meterRegistry.get("pokekor.auth.hash").tag("operation", "login").timer().count()).isEqualTo(3);
+    }
+
+    static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
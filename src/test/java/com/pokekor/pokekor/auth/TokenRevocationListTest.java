@@ -0,0 +1,35 @@
+package com.pokekor.pokekor.auth;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 무효화 목록 테스트
+ */
+class TokenRevocationListTest {
+
+    private final TokenRevocationList revocationList = new TokenRevocationList();
+
+    @Test
+    void revokesTokensIssuedBeforeLogout() {
+        long issuedBefore = System.currentTimeMillis() - 1;
+        revocationList.revokeAll("ash");
+        long issuedAfter = System.currentTimeMillis() + 1;
+
+        assertThat(revocationList.isRevoked("ash", issuedBefore)).isTrue();
+        assertThat(revocationList.isRevoked("ash", issuedAfter)).isFalse();
+        // 다른 사용자의 토큰은 영향 없음
+        assertThat(revocationList.isRevoked("misty", issuedBefore)).isFalse();
+    }
+
+    @Test
+    void laterLogoutMovesNotBefore() throws InterruptedException {
+        revocationList.revokeAll("ash");
+        long issuedBetween = System.currentTimeMillis() + 1;
+        Thread.sleep(5);
+        revocationList.revokeAll("ash");
+
+        assertThat(revocationList.isRevoked("ash", issuedBetween)).isTrue();
+    }
+}
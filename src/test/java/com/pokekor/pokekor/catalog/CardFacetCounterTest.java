@@ -0,0 +1,107 @@
+package com.pokekor.pokekor.catalog;
+
+import com.pokekor.pokekor.dto.CardFacetsDTO;
+import com.pokekor.pokekor.dto.CardSearchCondition;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.pokekor.pokekor.catalog.CatalogFixtures.CARDS;
+import static com.pokekor.pokekor.catalog.CatalogFixtures.matches;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 필터 옵션별 건수 테스트
+ *
+ * 각 항목의 건수를 "그 항목의 필터만 그 값으로 바꿔서 전체를 다시 훑은 결과"와 비교한다.
+ */
+class CardFacetCounterTest {
+
+    private final CatalogSnapshot snapshot = CatalogSnapshot.of(1L, CARDS);
+
+    @Test
+    void matchesBruteForcePerFacet() {
+        for (CardSearchCondition condition : CatalogFixtures.allConditions()) {
+            CardFacetsDTO expected = bruteForce(condition);
+
+            assertFacets(snapshot.facets(condition), expected, condition);
+        }
+    }
+
+    @Test
+    void groupedCountsMatchPerCardCounts() {
+        // database 모드는 (pack, rarity, type, 속성1, 속성2)별 GROUP BY 결과를 count와 함께 넘김
+        Map<Group, Long> groups = CARDS.stream().collect(Collectors.groupingBy(
+                card -> new Group(card.getPackId(), card.getRarityId(), card.getCardType(),
+                        card.getCardAttribute1(), card.getCardAttribute2()),
+                Collectors.counting()));
+
+        for (CardSearchCondition condition : CatalogFixtures.allConditions()) {
+            if (condition.getCardName() != null) {
+                continue; // 이름 필터는 호출자가 미리 걸러서 넘김
+            }
+            CardFacetCounter counter = new CardFacetCounter(condition);
+            groups.forEach((group, count) -> counter.add(group.packId(), group.rarityId(), group.cardType(),
+                    group.attribute1(), group.attribute2(), count));
+
+            assertFacets(counter.toDTO(), bruteForce(condition), condition);
+        }
+    }
+
+    private static void assertFacets(CardFacetsDTO actual, CardFacetsDTO expected, CardSearchCondition condition) {
+        String description = String.format("packId=%s, name=%s, rarityId=%s, type=%s, attribute=%s",
+                condition.getPackId(), condition.getCardName(), condition.getRarityId(),
+                condition.getCardType(), condition.getCardAttribute());
+        assertThat(actual.getTotal()).as(description).isEqualTo(expected.getTotal());
+        assertThat(actual.getPacks()).as(description).isEqualTo(expected.getPacks());
+        assertThat(actual.getRarities()).as(description).isEqualTo(expected.getRarities());
+        assertThat(actual.getTypes()).as(description).isEqualTo(expected.getTypes());
+        assertThat(actual.getAttributes()).as(description).isEqualTo(expected.getAttributes());
+    }
+
+    /**
+     * 항목 값마다 그 항목의 필터만 바꿔서 전체 카탈로그를 훑어 센 건수 (0건인 항목은 제외)
+     */
+    private static CardFacetsDTO bruteForce(CardSearchCondition condition) {
+        long total = count(condition);
+
+        Map<Long, Long> packs = facet(CARDS.stream().map(CatalogCard::getPackId), packId -> count(
+                new CardSearchCondition(packId, condition.getCardName(), condition.getRarityId(),
+                        condition.getCardType(), condition.getCardAttribute())));
+        Map<String, Long> rarities = facet(CARDS.stream().map(CatalogCard::getRarityId), rarityId -> count(
+                new CardSearchCondition(condition.getPackId(), condition.getCardName(), rarityId,
+                        condition.getCardType(), condition.getCardAttribute())));
+        Map<String, Long> types = facet(CARDS.stream().map(CatalogCard::getCardType), type -> count(
+                new CardSearchCondition(condition.getPackId(), condition.getCardName(), condition.getRarityId(),
+                        type, condition.getCardAttribute())));
+        Map<String, Long> attributes = facet(
+                CARDS.stream().flatMap(card -> Stream.of(card.getCardAttribute1(), card.getCardAttribute2())),
+                attribute -> count(new CardSearchCondition(condition.getPackId(), condition.getCardName(),
+                        condition.getRarityId(), condition.getCardType(), attribute)));
+
+        return new CardFacetsDTO(total, packs, rarities, types, attributes);
+    }
+
+    private static <K> Map<K, Long> facet(Stream<K> values, Function<K, Long> counter) {
+        Map<K, Long> counts = new TreeMap<>();
+        values.filter(Objects::nonNull).distinct().forEach(value -> {
+            long count = counter.apply(value);
+            if (count > 0) {
+                counts.put(value, count);
+            }
+        });
+        return counts;
+    }
+
+    private static long count(CardSearchCondition condition) {
+        return CARDS.stream().filter(matches(condition)).count();
+    }
+
+    private record Group(Long packId, String rarityId, String cardType, String attribute1, String attribute2) {
+    }
+}
@@ -0,0 +1,92 @@
+package com.pokekor.pokekor.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 카드 이름 n-gram 역색인 테스트 (결과가 String.contains로 전체를 훑은 결과와 같아야 함)
+ */
+class CardNameIndexTest {
+
+    private static final List<String> NAMES = List.of(
+            "피카츄",            // 0
+            "라이츄",            // 1
+            "피카츄 ex",         // 2
+            "츄피카",            // 3 (피카/카츄 bigram이 모두 있지만 "피카츄"는 아님)
+            "카츄피카",          // 4 (위와 같음)
+            "리자몽 V",          // 5
+            "리자드",            // 6
+            "몽리자",            // 7 (리자/자몽 bigram이 없음)
+            "박사의 연구",       // 8
+            "카카카"             // 9 (같은 gram 반복)
+    );
+
+    private final CardNameIndex index = new CardNameIndex(cards(NAMES));
+
+    @Test
+    void singleCharacter() {
+        assertThat(positions("츄")).containsExactly(0, 1, 2, 3, 4);
+        assertThat(positions("카")).containsExactly(0, 2, 3, 4, 9);
+        assertThat(positions("없")).isEmpty();
+    }
+
+    @Test
+    void twoCharacters() {
+        assertThat(positions("피카")).containsExactly(0, 2, 3, 4);
+        assertThat(positions("리자")).containsExactly(5, 6, 7);
+        assertThat(positions("카카")).containsExactly(9);
+    }
+
+    @Test
+    void threeOrMoreCharactersRejectBigramFalsePositives() {
+        // 3, 4번은 "피카"와 "카츄" bigram을 모두 갖지만 "피카츄"를 포함하지 않으므로 제외
+        assertThat(positions("피카츄")).containsExactly(0, 2);
+        assertThat(positions("츄피카")).containsExactly(3, 4);
+        assertThat(positions("리자몽")).containsExactly(5);
+        assertThat(positions("박사의 연구")).containsExactly(8);
+        assertThat(positions("카카카카")).isEmpty();
+    }
+
+    @Test
+    void emptyQueryMatchesEverything() {
+        assertThat(positions("")).hasSize(NAMES.size());
+    }
+
+    @Test
+    void decomposedHangul() {
+        // 자모가 분리된(NFD) 검색어와 이름도 완성형(NFC)으로 합쳐서 비교
+        String nfd = Normalizer.normalize("피카츄", Normalizer.Form.NFD);
+        assertThat(nfd).isNotEqualTo("피카츄");
+        assertThat(positions(nfd)).containsExactly(0, 2);
+
+        CardNameIndex decomposed = new CardNameIndex(cards(List.of(Normalizer.normalize("리자몽", Normalizer.Form.NFD))));
+        assertThat(decomposed.match("자몽").cardinality()).isEqualTo(1);
+        assertThat(decomposed.match("자").cardinality()).isEqualTo(1);
+    }
+
+    @Test
+    void matchesBruteForce() {
+        List<String> queries = List.of("피", "카츄", "피카츄", "카츄피", "리자몽 V", "ex", " ", "의 연", "츄 e", "몽리");
+        for (String query : queries) {
+            int[] expected = IntStream.range(0, NAMES.size()).filter(i -> NAMES.get(i).contains(query)).toArray();
+            assertThat(positions(query)).as(query).containsExactly(expected);
+        }
+    }
+
+    private int[] positions(String query) {
+        BitSet match = index.match(query);
+        return match.stream().toArray();
+    }
+
+    private static CatalogCard[] cards(List<String> names) {
+        return IntStream.range(0, names.size())
+                .mapToObj(i -> new CatalogCard((long) i + 1, names.get(i), null, null, null, null, null, 1L, "팩", null))
+                .toArray(CatalogCard[]::new);
+    }
+}
@@ -0,0 +1,90 @@
+package com.pokekor.pokekor.catalog;
+
+import com.pokekor.pokekor.dto.CardSearchCondition;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * 카탈로그 인메모리 검색 테스트용 고정 카탈로그와 전체를 훑는(brute-force) 기준 구현
+ */
+final class CatalogFixtures {
+
+    static final long PACK_A = 1L;
+    static final long PACK_B = 2L;
+
+    /**
+     * cardId 순서가 아니고 중간이 비어 있는 작은 카탈로그 (팩/레어도가 없는 카드, 속성이 두 개인 카드 포함)
+     */
+    static final List<CatalogCard> CARDS = List.of(
+            card(40, "리자몽 ex", PACK_B, "RR", "POKEMON", "FIRE", null),
+            card(10, "피카츄", PACK_A, "C", "POKEMON", "LIGHTNING", null),
+            card(11, "피카츄 V", PACK_A, "RR", "POKEMON", "LIGHTNING", null),
+            card(12, "라이츄", PACK_A, "U", "POKEMON", "LIGHTNING", null),
+            card(20, "파이리", PACK_A, "C", "POKEMON", "FIRE", null),
+            card(21, "리자드", PACK_A, "C", "POKEMON", "FIRE", null),
+            card(22, "리자몽", PACK_A, "RR", "POKEMON", "FIRE", "DRAGON"),
+            card(30, "박사의 연구", PACK_B, "U", "TRAINER", null, null),
+            card(31, "몬스터볼", PACK_B, "C", "TRAINER", null, null),
+            card(32, "기본 불 에너지", PACK_B, null, "BASIC_ENERGY", "FIRE", "FIRE"),
+            card(50, "프로모 피카츄", null, "PR", "POKEMON", "LIGHTNING", null),
+            card(41, "꼬부기", PACK_B, "C", "POKEMON", "WATER", null)
+    );
+
+    // 필터 조합을 만들 때 쓰는 값 (null = 필터 없음, 카탈로그에 없는 값 포함)
+    static final List<Long> PACK_IDS = Arrays.asList(null, PACK_A, PACK_B, 99L);
+    static final List<String> RARITY_IDS = Arrays.asList(null, "C", "RR", "PR", "SAR");
+    static final List<String> TYPES = Arrays.asList(null, "POKEMON", "TRAINER", "BASIC_ENERGY", "ITEM");
+    static final List<String> ATTRIBUTES = Arrays.asList(null, "FIRE", "LIGHTNING", "DRAGON", "GRASS");
+    static final List<String> NAMES = Arrays.asList(null, "피", "피카츄", "리자몽", "츄 V", "없는 이름");
+
+    private CatalogFixtures() {
+    }
+
+    static List<CardSearchCondition> allConditions() {
+        List<CardSearchCondition> conditions = new ArrayList<>();
+        for (Long packId : PACK_IDS) {
+            for (String name : NAMES) {
+                for (String rarityId : RARITY_IDS) {
+                    for (String type : TYPES) {
+                        for (String attribute : ATTRIBUTES) {
+                            conditions.add(new CardSearchCondition(packId, name, rarityId, type, attribute));
+                        }
+                    }
+                }
+            }
+        }
+        return conditions;
+    }
+
+    /**
+     * 조건에 맞는 카드의 cardId (오름차순)
+     */
+    static List<Long> bruteForce(CardSearchCondition condition) {
+        return CARDS.stream()
+                .filter(matches(condition))
+                .map(CatalogCard::getCardId)
+                .sorted()
+                .toList();
+    }
+
+    static Predicate<CatalogCard> matches(CardSearchCondition condition) {
+        return card -> (condition.getPackId() == null || condition.getPackId().equals(card.getPackId()))
+                && (!StringUtils.hasText(condition.getCardName()) || card.getCardName().contains(condition.getCardName()))
+                && (!StringUtils.hasText(condition.getRarityId()) || condition.getRarityId().equals(card.getRarityId()))
+                && (!StringUtils.hasText(condition.getCardType()) || condition.getCardType().equals(card.getCardType()))
+                && (!StringUtils.hasText(condition.getCardAttribute())
+                    || Objects.equals(condition.getCardAttribute(), card.getCardAttribute1())
+                    || Objects.equals(condition.getCardAttribute(), card.getCardAttribute2()));
+    }
+
+    static CatalogCard card(long cardId, String name, Long packId, String rarityId, String type,
+                            String attribute1, String attribute2) {
+        return new CatalogCard(cardId, name, "https://img/" + cardId + ".png", String.format("%03d", cardId), type,
+                attribute1, attribute2, packId, packId == null ? null : "팩 " + packId, rarityId);
+    }
+}
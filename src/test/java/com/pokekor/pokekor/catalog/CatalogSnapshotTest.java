@@ -0,0 +1,120 @@
+package com.pokekor.pokekor.catalog;
+
+import com.pokekor.pokekor.dto.CardSearchCondition;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static com.pokekor.pokekor.catalog.CatalogFixtures.CARDS;
+import static com.pokekor.pokekor.catalog.CatalogFixtures.PACK_A;
+import static com.pokekor.pokekor.catalog.CatalogFixtures.PACK_B;
+import static com.pokekor.pokekor.catalog.CatalogFixtures.bruteForce;
+import static com.pokekor.pokekor.catalog.CatalogFixtures.card;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인메모리 카탈로그 스냅샷 검색 테스트 (모든 필터 조합을 전체 순회 결과와 비교)
+ */
+class CatalogSnapshotTest {
+
+    private final CatalogSnapshot snapshot = CatalogSnapshot.of(7L, CARDS);
+
+    @Test
+    void searchEveryFilterCombination() {
+        for (CardSearchCondition condition : CatalogFixtures.allConditions()) {
+            List<Long> expected = bruteForce(condition);
+
+            assertThat(cardIds(snapshot.search(condition))).as(describe(condition)).isEqualTo(expected);
+
+            List<CatalogCard> visited = new ArrayList<>();
+            snapshot.forEachMatch(condition, visited::add);
+            assertThat(cardIds(visited)).as(describe(condition)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void emptyStringFiltersAreIgnored() {
+        CardSearchCondition blank = new CardSearchCondition(null, "", "", " ", "");
+
+        assertThat(snapshot.search(blank)).hasSize(CARDS.size());
+    }
+
+    @Test
+    void searchAfterPagesThroughEveryCombination() {
+        for (CardSearchCondition condition : CatalogFixtures.allConditions()) {
+            List<Long> pages = new ArrayList<>();
+            Long cursor = null;
+            while (true) {
+                List<CatalogCard> page = snapshot.searchAfter(condition, cursor, 2);
+                pages.addAll(cardIds(page));
+                if (page.size() < 2) {
+                    break;
+                }
+                cursor = page.get(page.size() - 1).getCardId();
+            }
+            assertThat(pages).as(describe(condition)).isEqualTo(bruteForce(condition));
+        }
+    }
+
+    @Test
+    void searchAfterCursorBoundaries() {
+        CardSearchCondition all = new CardSearchCondition(null, null, null, null, null);
+
+        // 마지막 카드 이후, 마지막 카드보다 큰 cursor는 빈 결과
+        assertThat(snapshot.searchAfter(all, 50L, 10)).isEmpty();
+        assertThat(snapshot.searchAfter(all, 1_000L, 10)).isEmpty();
+        // 카탈로그에 없는 cursor는 그보다 큰 첫 카드부터
+        assertThat(cardIds(snapshot.searchAfter(all, 13L, 3))).containsExactly(20L, 21L, 22L);
+        assertThat(cardIds(snapshot.searchAfter(all, 0L, 2))).containsExactly(10L, 11L);
+        assertThat(cardIds(snapshot.searchAfter(all, -5L, 1))).containsExactly(10L);
+        // cursor 이후에 조건에 맞는 카드가 없음
+        CardSearchCondition packA = new CardSearchCondition(PACK_A, null, null, null, null);
+        assertThat(snapshot.searchAfter(packA, 22L, 10)).isEmpty();
+        assertThat(cardIds(snapshot.searchAfter(packA, 21L, 10))).containsExactly(22L);
+    }
+
+    @Test
+    void findByCardIdAndPackCounts() {
+        assertThat(snapshot.size()).isEqualTo(CARDS.size());
+        assertThat(snapshot.findByCardId(22L).getCardName()).isEqualTo("리자몽");
+        assertThat(snapshot.findByCardId(23L)).isNull();
+
+        assertThat(snapshot.countByPack()).isEqualTo(Map.of(PACK_A, 6, PACK_B, 5));
+        assertThat(snapshot.packName(PACK_B)).isEqualTo("팩 " + PACK_B);
+        assertThat(snapshot.packName(99L)).isNull();
+    }
+
+    @Test
+    void fingerprint() {
+        List<CatalogCard> shuffled = new ArrayList<>(CARDS);
+        Collections.reverse(shuffled);
+        CatalogSnapshot sameContent = CatalogSnapshot.of(8L, shuffled);
+
+        // 입력 순서, 버전과 무관하게 내용이 같으면 같은 값
+        assertThat(sameContent.getFingerprint()).isEqualTo(snapshot.getFingerprint());
+        assertThat(snapshot.withVersion(9L).getFingerprint()).isEqualTo(snapshot.getFingerprint());
+        assertThat(snapshot.withVersion(9L).getVersion()).isEqualTo(9L);
+
+        // 카드 한 장의 필드 하나만 바뀌어도 다른 값
+        List<CatalogCard> renamed = new ArrayList<>(CARDS);
+        renamed.set(1, card(10, "피카츄!", PACK_A, "C", "POKEMON", "LIGHTNING", null));
+        assertThat(CatalogSnapshot.of(7L, renamed).getFingerprint()).isNotEqualTo(snapshot.getFingerprint());
+
+        List<CatalogCard> moved = new ArrayList<>(CARDS);
+        moved.set(1, card(10, "피카츄", PACK_B, "C", "POKEMON", "LIGHTNING", null));
+        assertThat(CatalogSnapshot.of(7L, moved).getFingerprint()).isNotEqualTo(snapshot.getFingerprint());
+    }
+
+    private static List<Long> cardIds(List<CatalogCard> cards) {
+        return cards.stream().map(CatalogCard::getCardId).toList();
+    }
+
+    private static String describe(CardSearchCondition condition) {
+        return String.format("packId=%s, name=%s, rarityId=%s, type=%s, attribute=%s",
+                condition.getPackId(), condition.getCardName(), condition.getRarityId(),
+                condition.getCardType(), condition.getCardAttribute());
+    }
+}
@@ -0,0 +1,86 @@
+package com.pokekor.pokekor.catalog.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CSV/JSON 카탈로그 덤프 리더 테스트
+ */
+class CatalogImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void readCsv() throws IOException {
+        Path dump = write("dump.csv", "\uFEFFpackNameKo,releaseDate,cardNumberInPack,cardName,cardImageUrl\r\n" +
+                "스칼렛ex,2023-10-27,001,\"피카츄, ex\",\r\n" +
+                "\r\n" +
+                "스칼렛ex,,002,\"여러 줄\n이름 \"\"따옴표\"\"\", https://img/2.png \r\n");
+
+        List<CatalogImportRow> rows = readAll(dump);
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).getPackNameKo()).isEqualTo("스칼렛ex"); // BOM 제거
+        assertThat(rows.get(0).getReleaseDate()).isEqualTo(LocalDate.of(2023, 10, 27));
+        assertThat(rows.get(0).getCardName()).isEqualTo("피카츄, ex");
+        assertThat(rows.get(0).getCardImageUrl()).isNull(); // 빈 필드
+        assertThat(rows.get(1).getReleaseDate()).isNull();
+        assertThat(rows.get(1).getCardName()).isEqualTo("여러 줄\n이름 \"따옴표\"");
+        assertThat(rows.get(1).getCardImageUrl()).isEqualTo("https://img/2.png");
+    }
+
+    @Test
+    void readJson() throws IOException {
+        Path dump = write("dump.json", "[" +
+                "{\"packNameKo\":\"스칼렛ex\",\"releaseDate\":\"2023-10-27\",\"cardNumberInPack\":\"001\",\"cardName\":\"피카츄\"}," +
+                "{\"packNameKo\":\"스칼렛ex\",\"cardNumberInPack\":\"002\",\"cardName\":\"라이츄\",\"rarityId\":\"U\"}" +
+                "]");
+
+        List<CatalogImportRow> rows = readAll(dump);
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).getReleaseDate()).isEqualTo(LocalDate.of(2023, 10, 27));
+        assertThat(rows.get(1).getCardName()).isEqualTo("라이츄");
+        assertThat(rows.get(1).getRarityId()).isEqualTo("U");
+    }
+
+    @Test
+    void rejectUnsupportedDump() throws IOException {
+        Path notArray = write("dump.json", "{\"packNameKo\":\"스칼렛ex\"}");
+        Path text = write("dump.txt", "packNameKo\n");
+
+        assertThatThrownBy(() -> CatalogImportReader.open(notArray, objectMapper)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CatalogImportReader.open(text, objectMapper)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<CatalogImportRow> readAll(Path dump) throws IOException {
+        List<CatalogImportRow> rows = new ArrayList<>();
+        try (CatalogImportReader reader = CatalogImportReader.open(dump, objectMapper)) {
+            CatalogImportRow row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    private Path write(String fileName, String content) throws IOException {
+        return Files.writeString(tempDir.resolve(fileName), content, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,162 @@
+package com.pokekor.pokekor.catalog.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pokekor.pokekor.QueryBudgetTestSupport;
+import com.pokekor.pokekor.catalog.CatalogChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 카탈로그 가져오기 테스트 (H2)
+ *
+ * 다른 테스트와 같은 DB를 쓰므로 팩 이름을 테스트마다 새로 만들어 서로 겹치지 않게 한다.
+ */
+class CatalogImporterTest extends QueryBudgetTestSupport {
+
+    @Autowired
+    private CatalogImporter catalogImporter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void importSameDumpTwice() throws IOException {
+        String packName = newPackName();
+        Path dump = writeCsv("dump.csv",
+                "packNameKo,releaseDate,series,rarityId,cardNumberInPack,cardName,cardType",
+                packName + ",2024-01-26,SV,C,001,이상해씨,POKEMON",
+                packName + ",2024-01-26,SV,C,002,\"이상해풀, 2진화 전\",POKEMON",
+                packName + ",2024-01-26,SV,U,003,\"\"\"박사\"\"의 연구\",TRAINER");
+
+        CatalogImportResult first = catalogImporter.importFile(dump);
+        assertThat(first.getRowsRead()).isEqualTo(3);
+        assertThat(first.getPacksInserted()).isEqualTo(1);
+        assertThat(first.getCardsInserted()).isEqualTo(3);
+        assertThat(first.isCatalogChanged()).isTrue();
+        assertThat(cardNames(packName)).containsExactly("이상해씨", "이상해풀, 2진화 전", "\"박사\"의 연구");
+
+        // 같은 덤프를 다시 가져오면 해시가 모두 같으므로 아무것도 쓰지 않음
+        CatalogImportResult second = catalogImporter.importFile(dump);
+        assertThat(second.getCardsUnchanged()).isEqualTo(second.getRowsRead()).isEqualTo(3);
+        assertThat(second.getCardsInserted()).isZero();
+        assertThat(second.getCardsUpdated()).isZero();
+        assertThat(second.getPacksInserted()).isZero();
+        assertThat(second.getPacksUpdated()).isZero();
+        assertThat(second.isCatalogChanged()).isFalse();
+    }
+
+    @Test
+    void importJsonUpdatesChangedCards() throws IOException {
+        String packName = newPackName();
+        catalogImporter.importFile(writeJson("first.json",
+                row(packName, "001", "파이리", "C"),
+                row(packName, "002", "리자드", "C")));
+
+        CatalogImportResult result = catalogImporter.importFile(writeJson("second.json",
+                row(packName, "001", "파이리", "C"),
+                row(packName, "002", "리자드", "U"),   // 레어도만 바뀜
+                row(packName, "003", "리자몽", "RR"),
+                row(packName, "003", "리자몽", "RR"),  // 덤프 안의 중복
+                "{\"packNameKo\":\"" + packName + "\",\"cardNumberInPack\":\"004\"}")); // 카드 이름 누락
+
+        assertThat(result.getRowsRead()).isEqualTo(5);
+        assertThat(result.getRowsRejected()).isEqualTo(2);
+        assertThat(result.getCardsUnchanged()).isEqualTo(1);
+        assertThat(result.getCardsUpdated()).isEqualTo(1);
+        assertThat(result.getCardsInserted()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT c.rarity_id FROM t_card c JOIN t_pack p ON p.pack_id = c.pack_id " +
+                "WHERE p.pack_name_ko = ? ORDER BY c.card_number_in_pack", String.class, packName))
+                .containsExactly("C", "U", "RR");
+    }
+
+    @Test
+    void failedBatchStillPublishesCommittedChanges() throws IOException {
+        String packName = newPackName();
+        List<Object> events = new ArrayList<>();
+        CatalogImporter importer = new CatalogImporter(jdbcTemplate, transactionManager, objectMapper, events::add, 2);
+
+        // 첫 배치(2행)는 커밋되고, 두 번째 배치는 카드 번호가 컬럼 길이(50)를 넘어 실패
+        Path dump = writeCsv("broken.csv",
+                "packNameKo,cardNumberInPack,cardName",
+                packName + ",001,꼬부기",
+                packName + ",002,어니부기",
+                packName + ",003,거북왕",
+                packName + "," + "9".repeat(60) + ",잘못된 카드");
+
+        assertThatThrownBy(() -> importer.importFile(dump)).isInstanceOf(DataAccessException.class);
+
+        assertThat(cardNames(packName)).containsExactly("꼬부기", "어니부기");
+        assertThat(events).hasSize(1).first().isInstanceOf(CatalogChangedEvent.class);
+    }
+
+    @Test
+    void failedFirstBatchPublishesNothing() throws IOException {
+        String packName = newPackName();
+        List<Object> events = new ArrayList<>();
+        CatalogImporter importer = new CatalogImporter(jdbcTemplate, transactionManager, objectMapper, events::add, 2);
+
+        Path dump = writeCsv("broken.csv",
+                "packNameKo,cardNumberInPack,cardName",
+                packName + "," + "9".repeat(60) + ",잘못된 카드");
+
+        assertThatThrownBy(() -> importer.importFile(dump)).isInstanceOf(DataAccessException.class);
+
+        assertThat(cardNames(packName)).isEmpty();
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void contentHash() {
+        long hash = CatalogImporter.contentHash("피카츄", null, "POKEMON");
+
+        assertThat(CatalogImporter.contentHash("피카츄", null, "POKEMON")).isEqualTo(hash);
+        // null과 빈 문자열, 필드 경계가 다른 값은 서로 다른 해시
+        assertThat(CatalogImporter.contentHash("피카츄", "", "POKEMON")).isNotEqualTo(hash);
+        assertThat(CatalogImporter.contentHash("ab", "c")).isNotEqualTo(CatalogImporter.contentHash("a", "bc"));
+        assertThat(CatalogImporter.contentHash("a", null)).isNotEqualTo(CatalogImporter.contentHash(null, "a"));
+    }
+
+    private List<String> cardNames(String packName) {
+        return jdbcTemplate.queryForList(
+                "SELECT c.card_name FROM t_card c JOIN t_pack p ON p.pack_id = c.pack_id " +
+                "WHERE p.pack_name_ko = ? ORDER BY c.card_number_in_pack", String.class, packName);
+    }
+
+    private static String newPackName() {
+        return "가져오기-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private static String row(String packName, String number, String cardName, String rarityId) {
+        return "{\"packNameKo\":\"" + packName + "\",\"cardNumberInPack\":\"" + number +
+                "\",\"cardName\":\"" + cardName + "\",\"rarityId\":\"" + rarityId + "\"}";
+    }
+
+    private Path writeCsv(String fileName, String... lines) throws IOException {
+        return Files.writeString(tempDir.resolve(fileName), String.join("\n", lines) + "\n", StandardCharsets.UTF_8);
+    }
+
+    private Path writeJson(String fileName, String... rows) throws IOException {
+        return Files.writeString(tempDir.resolve(fileName), "[" + String.join(",", rows) + "]", StandardCharsets.UTF_8);
+    }
+}
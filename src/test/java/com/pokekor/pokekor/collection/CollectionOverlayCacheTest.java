@@ -0,0 +1,192 @@
+package com.pokekor.pokekor.collection;
+
+import com.pokekor.pokekor.dto.CollectionInfoDTO;
+import com.pokekor.pokekor.repository.CollectedCardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 수집 오버레이 증분 갱신 테스트
+ *
+ * 변경 이벤트를 반영한 캐시의 오버레이가, 같은 변경을 반영한 DB 행으로 새로 만든 오버레이와 같은지 확인한다.
+ * (DB 대신 rows 목록을 고치고, 리포지토리는 그 목록을 그대로 반환)
+ */
+class CollectionOverlayCacheTest {
+
+    private static final long USER = 1L;
+    private static final long OWNED = 10L;
+    private static final long WISHLIST = 20L;
+    private static final long MAX_CARD_ID = 10L;
+
+    private final List<CollectionOverlayRow> rows = new ArrayList<>();
+    private CollectedCardRepository repository;
+    private CollectionOverlayCache cache;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(CollectedCardRepository.class);
+        when(repository.findOverlayRowsByUserId(USER)).thenAnswer(invocation -> new ArrayList<>(rows));
+        cache = new CollectionOverlayCache(repository, 100, Duration.ofMinutes(10));
+
+        collect(1, OWNED);
+        collect(2, OWNED);
+        collect(2, WISHLIST);
+        collect(5, WISHLIST);
+    }
+
+    @Test
+    void cardAdded() {
+        cache.get(USER);
+
+        collect(3, OWNED);
+        cache.onCollectionChanged(CollectionChangedEvent.cardAdded(USER, OWNED, 3L, info(OWNED)));
+        collect(5, OWNED);
+        cache.onCollectionChanged(CollectionChangedEvent.cardAdded(USER, OWNED, 5L, info(OWNED)));
+        // 이미 반영된 추가가 다시 와도 그대로
+        cache.onCollectionChanged(CollectionChangedEvent.cardAdded(USER, OWNED, 5L, info(OWNED)));
+
+        assertSameAsFreshLoad(cache.getIfPresent(USER));
+    }
+
+    @Test
+    void cardAddedWithoutInfo() {
+        cache.get(USER);
+
+        // 오버레이에 있는 카테고리면 카테고리 정보 없이도 증분 반영
+        collect(7, WISHLIST);
+        cache.onCollectionChanged(CollectionChangedEvent.cardAdded(USER, WISHLIST, 7L, null));
+        assertSameAsFreshLoad(cache.getIfPresent(USER));
+
+        // 처음 보는 카테고리면 표시할 정보가 없으므로 캐시에서 제거되고 다음 조회에서 다시 로드
+        long newCategory = 30L;
+        collect(8, newCategory);
+        cache.onCollectionChanged(CollectionChangedEvent.cardAdded(USER, newCategory, 8L, null));
+        assertThat(cache.getIfPresent(USER)).isNull();
+        assertSameAsFreshLoad(cache.get(USER));
+    }
+
+    @Test
+    void cardRemoved() {
+        cache.get(USER);
+
+        // 두 카테고리 중 하나에서만 제거
+        uncollect(2, WISHLIST);
+        cache.onCollectionChanged(CollectionChangedEvent.cardRemoved(USER, WISHLIST, 2L));
+        // 마지막 카테고리에서 제거 (카드가 오버레이에서 사라짐)
+        uncollect(1, OWNED);
+        cache.onCollectionChanged(CollectionChangedEvent.cardRemoved(USER, OWNED, 1L));
+        // 수집하지 않은 카드 제거는 무시
+        cache.onCollectionChanged(CollectionChangedEvent.cardRemoved(USER, OWNED, 9L));
+
+        CollectionOverlay overlay = cache.getIfPresent(USER);
+        assertSameAsFreshLoad(overlay);
+        assertThat(overlay.size()).isEqualTo(2);
+    }
+
+    @Test
+    void categoryUpdatedAndDeleted() {
+        cache.get(USER);
+
+        rows.replaceAll(row -> row.getCategoryId() == OWNED
+                ? new CollectionOverlayRow(row.getCardId(), OWNED, "바뀐 이름", "#000000")
+                : row);
+        cache.onCollectionChanged(CollectionChangedEvent.categoryUpdated(USER, OWNED, new CollectionInfoDTO("바뀐 이름", "#000000")));
+        assertSameAsFreshLoad(cache.getIfPresent(USER));
+
+        rows.removeIf(row -> row.getCategoryId() == WISHLIST);
+        cache.onCollectionChanged(CollectionChangedEvent.categoryDeleted(USER, WISHLIST));
+        assertSameAsFreshLoad(cache.getIfPresent(USER));
+    }
+
+    @Test
+    void cardsBulkChanged() {
+        CollectionOverlay before = cache.get(USER);
+
+        for (long cardId = 3; cardId <= MAX_CARD_ID; cardId++) {
+            collect(cardId, OWNED);
+        }
+        uncollect(5, WISHLIST);
+        cache.onCollectionChanged(CollectionChangedEvent.cardsBulkChanged(USER, OWNED));
+
+        assertThat(cache.getIfPresent(USER)).isNull();
+        CollectionOverlay reloaded = cache.get(USER);
+        assertSameAsFreshLoad(reloaded);
+        assertThat(reloaded.getRevision()).isNotEqualTo(before.getRevision());
+        verify(repository, times(2)).findOverlayRowsByUserId(USER);
+    }
+
+    @Test
+    void changeDuringLoadIsNotLost() {
+        // 로드 쿼리가 행을 읽은 뒤, 결과를 캐시에 넣기 전에 다른 요청의 변경이 커밋된 상황
+        when(repository.findOverlayRowsByUserId(USER)).thenAnswer(invocation -> {
+            List<CollectionOverlayRow> snapshot = new ArrayList<>(rows);
+            collect(4, OWNED);
+            cache.onCollectionChanged(CollectionChangedEvent.cardAdded(USER, OWNED, 4L, info(OWNED)));
+            return snapshot;
+        });
+
+        CollectionOverlay stale = cache.get(USER);
+        assertThat(stale.collectionsOf(4L)).isEmpty();
+        // 변경 이전 데이터로 만든 오버레이는 캐시하지 않음
+        assertThat(cache.getIfPresent(USER)).isNull();
+
+        doAnswer(invocation -> new ArrayList<>(rows)).when(repository).findOverlayRowsByUserId(USER);
+        assertSameAsFreshLoad(cache.get(USER));
+        assertThat(cache.getIfPresent(USER).collectionsOf(4L)).hasSize(1);
+    }
+
+    @Test
+    void evictDuringLoadIsNotLost() {
+        when(repository.findOverlayRowsByUserId(USER)).thenAnswer(invocation -> {
+            List<CollectionOverlayRow> snapshot = new ArrayList<>(rows);
+            cache.onCollectionChanged(CollectionChangedEvent.cardsBulkChanged(USER, OWNED));
+            return snapshot;
+        });
+
+        cache.get(USER);
+
+        assertThat(cache.getIfPresent(USER)).isNull();
+    }
+
+    private void assertSameAsFreshLoad(CollectionOverlay overlay) {
+        CollectionOverlay fresh = CollectionOverlay.build(new ArrayList<>(rows));
+        assertThat(overlay).isNotNull();
+        assertThat(overlay.size()).isEqualTo(fresh.size());
+        for (long cardId = 1; cardId <= MAX_CARD_ID; cardId++) {
+            assertThat(describe(overlay.collectionsOf(cardId)))
+                    .as("cardId=%d", cardId)
+                    .containsExactlyInAnyOrderElementsOf(describe(fresh.collectionsOf(cardId)));
+        }
+    }
+
+    private static List<String> describe(List<CollectionInfoDTO> infos) {
+        return infos.stream()
+                .map(info -> info.getCategoryName() + "/" + info.getThemeColor())
+                .collect(Collectors.toList());
+    }
+
+    private void collect(long cardId, long categoryId) {
+        CollectionInfoDTO info = info(categoryId);
+        rows.add(new CollectionOverlayRow(cardId, categoryId, info.getCategoryName(), info.getThemeColor()));
+    }
+
+    private void uncollect(long cardId, long categoryId) {
+        rows.removeIf(row -> row.getCardId() == cardId && row.getCategoryId() == categoryId);
+    }
+
+    private static CollectionInfoDTO info(long categoryId) {
+        return new CollectionInfoDTO("카테고리 " + categoryId, "#" + categoryId);
+    }
+}
@@ -0,0 +1,125 @@
+package com.pokekor.pokekor.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pokekor.pokekor.QueryBudgetTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * /api/cards 쿼리 예산 테스트 (카드 검색은 인메모리 카탈로그 인덱스 + 사용자 수집 오버레이)
+ */
+class CardControllerQueryBudgetTest extends QueryBudgetTestSupport {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void searchCards() throws Exception {
+        TestUser user = createUser();
+        collectCards(createCategory(user, "OWNED"), 30);
+
+        // 첫 요청은 오버레이를 DB에서 로드, 두 번째 요청은 캐시 사용
+        for (int i = 0; i < 2; i++) {
+            assertWithinBudget(mockMvc.perform(get("/api/cards")
+                            .param("packId", String.valueOf(firstPackId()))
+                            .header("Authorization", user.authorization()))
+                    .andExpect(status().isOk())
+                    .andReturn());
+        }
+    }
+
+    @Test
+    void searchCardsNotModified() throws Exception {
+        TestUser user = createUser();
+        long categoryId = createCategory(user, "OWNED");
+        collectCards(categoryId, 10);
+
+        // 오버레이가 캐시에 없는 첫 요청도 검색과 함께 로드한 오버레이로 ETag를 만듦
+        MvcResult first = mockMvc.perform(get("/api/cards")
+                        .header("Authorization", user.authorization()))
+                .andExpect(status().isOk())
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+
+        // 같은 ETag면 검색 없이 304 (SQL 없음)
+        MvcResult notModified = mockMvc.perform(get("/api/cards")
+                        .header("Authorization", user.authorization())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andReturn();
+        assertThat(assertWithinBudget(notModified)).isZero();
+
+        // 카드를 수집하면 이전 ETag로는 304가 아님
+        mockMvc.perform(post("/api/my-collections/{id}/cards", categoryId)
+                        .header("Authorization", user.authorization())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"cardId\":" + (firstCardId + 20) + "}"))
+                .andExpect(status().isCreated());
+        MvcResult changed = mockMvc.perform(get("/api/cards")
+                        .header("Authorization", user.authorization())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(changed.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+    }
+
+    @Test
+    void streamCards() throws Exception {
+        TestUser user = createUser();
+        collectCards(createCategory(user, "OWNED"), 30);
+
+        MvcResult result = mockMvc.perform(get("/api/cards")
+                        .param("stream", "true")
+                        .header("Authorization", user.authorization()))
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // 오버레이 로드는 스트리밍 스레드에서 실행되지만 요청의 문장 수에 포함됨
+        assertThat(assertWithinBudget(result)).isEqualTo(1);
+        int collected = 0;
+        for (JsonNode card : objectMapper.readTree(body)) {
+            collected += card.get("collections").isEmpty() ? 0 : 1;
+        }
+        assertThat(collected).isEqualTo(30);
+    }
+
+    @Test
+    void getFacets() throws Exception {
+        TestUser user = createUser();
+
+        assertWithinBudget(mockMvc.perform(get("/api/cards/facets")
+                        .header("Authorization", user.authorization()))
+                .andExpect(status().isOk())
+                .andReturn());
+    }
+
+    @Test
+    void searchCardPage() throws Exception {
+        TestUser user = createUser();
+        collectCards(createCategory(user, "WISHLIST"), 30);
+
+        assertWithinBudget(mockMvc.perform(get("/api/cards/page")
+                        .param("size", "20")
+                        .header("Authorization", user.authorization()))
+                .andExpect(status().isOk())
+                .andReturn());
+    }
+
+    private long firstPackId() {
+        return jdbcTemplate.queryForObject("SELECT MIN(pack_id) FROM t_pack", Long.class);
+    }
+}
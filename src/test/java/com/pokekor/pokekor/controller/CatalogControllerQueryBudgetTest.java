@@ -0,0 +1,119 @@
+package com.pokekor.pokekor.controller;
+
+import com.pokekor.pokekor.QueryBudgetTestSupport;
+import com.pokekor.pokekor.catalog.CatalogCacheEvictor;
+import com.pokekor.pokekor.catalog.CatalogChangedEvent;
+import com.pokekor.pokekor.catalog.CatalogIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * /api/packs, /api/rarities 쿼리 예산 테스트
+ * [추가] 2차 캐시/쿼리 캐시가 채워진 뒤에는 SQL 없이 응답하는지, 카탈로그 변경 이벤트로 캐시가 비워지는지 확인
+ */
+class CatalogControllerQueryBudgetTest extends QueryBudgetTestSupport {
+
+    @Autowired
+    private CatalogCacheEvictor catalogCacheEvictor;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private CatalogIndex catalogIndex;
+
+    @Test
+    void getAllPacks() throws Exception {
+        TestUser user = createUser();
+        catalogCacheEvictor.evictAll();
+
+        assertThat(assertWithinBudget(getPacks(user))).isEqualTo(1);
+        assertThat(assertWithinBudget(getPacks(user))).isZero();
+    }
+
+    @Test
+    void getAllRarities() throws Exception {
+        TestUser user = createUser();
+        catalogCacheEvictor.evictAll();
+
+        assertThat(assertWithinBudget(mockMvc.perform(get("/api/rarities")
+                        .header("Authorization", user.authorization()))
+                .andExpect(status().isOk())
+                .andReturn())).isEqualTo(1);
+        assertThat(assertWithinBudget(mockMvc.perform(get("/api/rarities")
+                        .header("Authorization", user.authorization()))
+                .andExpect(status().isOk())
+                .andReturn())).isZero();
+    }
+
+    @Test
+    void collectingCardKeepsPackCache() throws Exception {
+        TestUser user = createUser();
+        long categoryId = createCategory(user, "OWNED");
+        getPacks(user); // 캐시 채우기
+
+        // 카드 수집(네이티브 INSERT)은 t_collected_card만 무효화해야 함 (팩/레어도 캐시는 그대로)
+        mockMvc.perform(post("/api/my-collections/{id}/cards", categoryId)
+                        .header("Authorization", user.authorization())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"cardId\":" + firstCardId + "}"))
+                .andExpect(status().isCreated());
+
+        assertThat(assertWithinBudget(getPacks(user))).isZero();
+    }
+
+    @Test
+    void catalogChangeEvictsPackCache() throws Exception {
+        TestUser user = createUser();
+        getPacks(user); // 캐시 채우기
+
+        // 가져오기/합성 데이터셋처럼 JDBC로 직접 쓰면 Hibernate는 알 수 없으므로 이벤트로 비움
+        String packName = "캐시 테스트 팩 " + user.username();
+        jdbcTemplate.update("INSERT INTO t_pack (pack_name_ko) VALUES (?)", packName);
+        eventPublisher.publishEvent(new CatalogChangedEvent("CatalogControllerQueryBudgetTest"));
+
+        MvcResult result = getPacks(user);
+        assertThat(queries(result)).isEqualTo(1);
+        assertThat(result.getResponse().getContentAsString()).contains(packName);
+    }
+
+    @Test
+    void directDatabaseChangeEvictsPackCacheBeforeNewETag() throws Exception {
+        TestUser user = createUser();
+        MvcResult before = getPacks(user); // 캐시 채우기
+        String etag = before.getResponse().getHeader(HttpHeaders.ETAG);
+
+        // 이벤트 없이 DB를 직접 바꾸면 주기적 갱신(rebuild)이 지문 변경으로 발견함
+        long packId = jdbcTemplate.queryForObject("SELECT pack_id FROM t_card WHERE card_id = ?", Long.class, firstCardId);
+        String originalName = jdbcTemplate.queryForObject("SELECT pack_name_ko FROM t_pack WHERE pack_id = ?", String.class, packId);
+        String renamed = "직접 수정한 팩 " + user.username();
+        jdbcTemplate.update("UPDATE t_pack SET pack_name_ko = ? WHERE pack_id = ?", renamed, packId);
+        try {
+            catalogIndex.rebuild();
+
+            MvcResult after = getPacks(user);
+            assertThat(queries(after)).isEqualTo(1);
+            assertThat(after.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+            assertThat(after.getResponse().getContentAsString()).contains(renamed);
+        } finally {
+            jdbcTemplate.update("UPDATE t_pack SET pack_name_ko = ? WHERE pack_id = ?", originalName, packId);
+            catalogIndex.rebuild();
+        }
+    }
+
+    private MvcResult getPacks(TestUser user) throws Exception {
+        return mockMvc.perform(get("/api/packs")
+                        .header("Authorization", user.authorization()))
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+}
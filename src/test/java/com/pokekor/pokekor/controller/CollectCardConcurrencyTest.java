@@ -0,0 +1,164 @@
+package com.pokekor.pokekor.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pokekor.pokekor.QueryBudgetTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * 카드 수집 동시 요청(더블 클릭, 재시도) 스트레스 테스트
+ *
+ * 여러 스레드가 같은 카테고리에 같은 카드를 동시에 추가해도
+ * 정확히 한 요청만 201(ADDED)을 받고 나머지는 200(ALREADY_PRESENT)이며, 500이나 중복 행이 없어야 한다.
+ * [추가] 일괄 추가가 겹쳐도 409 없이 카드마다 한 요청만 added로, 나머지는 alreadyCollected로 응답해야 한다.
+ */
+class CollectCardConcurrencyTest extends QueryBudgetTestSupport {
+
+    private static final int THREADS = 8;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void concurrentCollectOfSameCardIsIdempotent() throws Exception {
+        TestUser user = createUser();
+        long categoryId = createCategory(user, "OWNED");
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                long cardId = firstCardId + round;
+                CountDownLatch start = new CountDownLatch(1);
+
+                List<Future<MvcResult>> futures = new ArrayList<>(THREADS);
+                for (int i = 0; i < THREADS; i++) {
+                    futures.add(executor.submit(collect(start, user, categoryId, cardId)));
+                }
+                start.countDown();
+
+                int added = 0;
+                int alreadyPresent = 0;
+                for (Future<MvcResult> future : futures) {
+                    MvcResult result = future.get(30, TimeUnit.SECONDS);
+                    int status = result.getResponse().getStatus();
+                    String body = result.getResponse().getContentAsString();
+                    assertThat(status).as("카드 %d 응답: %s", cardId, body).isIn(200, 201);
+
+                    String outcome = objectMapper.readTree(body).get("result").asText();
+                    if (status == 201) {
+                        assertThat(outcome).isEqualTo("ADDED");
+                        added++;
+                    } else {
+                        assertThat(outcome).isEqualTo("ALREADY_PRESENT");
+                        alreadyPresent++;
+                    }
+                }
+                assertThat(added).as("카드 %d를 새로 수집한 요청 수", cardId).isEqualTo(1);
+                assertThat(alreadyPresent).isEqualTo(THREADS - 1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Long rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM t_collected_card WHERE category_id = ?", Long.class, categoryId);
+        Long distinctCards = jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT card_id) FROM t_collected_card WHERE category_id = ?", Long.class, categoryId);
+        assertThat(rows).isEqualTo(ROUNDS);
+        assertThat(distinctCards).isEqualTo(ROUNDS);
+    }
+
+    @Test
+    void concurrentBulkAddsOfSameCardsDoNotConflict() throws Exception {
+        TestUser user = createUser();
+        long categoryId = createCategory(user, "OWNED");
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < 5; round++) {
+                // 라운드마다 새 카드 10장을 모든 스레드가 동시에 일괄 추가 (한 스레드는 단건 수집으로 경쟁)
+                List<Long> cardIds = new ArrayList<>();
+                for (int i = 0; i < 10; i++) {
+                    cardIds.add(firstCardId + round * 10 + i);
+                }
+                String content = objectMapper.writeValueAsString(Map.of("addCardIds", cardIds));
+                CountDownLatch start = new CountDownLatch(1);
+
+                List<Future<MvcResult>> futures = new ArrayList<>(THREADS);
+                for (int i = 0; i < THREADS - 1; i++) {
+                    futures.add(executor.submit(bulkAdd(start, user, categoryId, content)));
+                }
+                Future<MvcResult> single = executor.submit(collect(start, user, categoryId, cardIds.get(0)));
+                start.countDown();
+
+                List<Long> added = new ArrayList<>();
+                for (Future<MvcResult> future : futures) {
+                    MvcResult result = future.get(30, TimeUnit.SECONDS);
+                    String body = result.getResponse().getContentAsString();
+                    assertThat(result.getResponse().getStatus()).as("일괄 추가 응답: %s", body).isEqualTo(200);
+
+                    JsonNode json = objectMapper.readTree(body);
+                    List<Long> mine = new ArrayList<>();
+                    json.get("added").forEach(id -> mine.add(id.asLong()));
+                    List<Long> skipped = new ArrayList<>();
+                    json.get("alreadyCollected").forEach(id -> skipped.add(id.asLong()));
+                    List<Long> all = new ArrayList<>(mine);
+                    all.addAll(skipped);
+                    assertThat(all).containsExactlyInAnyOrderElementsOf(cardIds);
+                    added.addAll(mine);
+                }
+                if (single.get(30, TimeUnit.SECONDS).getResponse().getStatus() == 201) {
+                    added.add(cardIds.get(0));
+                }
+
+                // 각 카드는 정확히 한 요청만 새로 추가함
+                assertThat(added).containsExactlyInAnyOrderElementsOf(cardIds);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Long rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM t_collected_card WHERE category_id = ?", Long.class, categoryId);
+        assertThat(rows).isEqualTo(50);
+    }
+
+    private Callable<MvcResult> bulkAdd(CountDownLatch start, TestUser user, long categoryId, String content) {
+        return () -> {
+            start.await();
+            return mockMvc.perform(post("/api/my-collections/{id}/cards/bulk", categoryId)
+                            .header("Authorization", user.authorization())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(content))
+                    .andReturn();
+        };
+    }
+
+    private Callable<MvcResult> collect(CountDownLatch start, TestUser user, long categoryId, long cardId) {
+        return () -> {
+            start.await();
+            return mockMvc.perform(post("/api/my-collections/{id}/cards", categoryId)
+                            .header("Authorization", user.authorization())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"cardId\":" + cardId + "}"))
+                    .andReturn();
+        };
+    }
+}
@@ -0,0 +1,435 @@
+package com.pokekor.pokekor.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pokekor.pokekor.QueryBudgetTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * /api/my-collections 쿼리 예산 테스트
+ * 카드나 카테고리 수가 늘어도 요청당 SQL 문장 수가 그대로인지(N+1이 없는지)도 확인한다.
+ */
+class CollectionCategoryControllerQueryBudgetTest extends QueryBudgetTestSupport {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void getMyCategories() throws Exception {
+        TestUser user = createUser();
+        createCategory(user, "OWNED");
+        int one = assertWithinBudget(mockMvc.perform(get("/api/my-collections")
+                        .header("Authorization", user.authorization()))
+                .andExpect(status().isOk())
+                .andReturn());
+
+        for (int i = 0; i < 5; i++) {
+            collectCards(createCategory(user, i % 2 == 0 ? "OWNED" : "WISHLIST"), 3);
+        }
+        int many = assertWithinBudget(mockMvc.perform(get("/api/my-collections")
+                        .header("Authorization", user.authorization()))
+                .andExpect(status().isOk())
+                .andReturn());
+
+        assertThat(many).as("카테고리 수에 따라 쿼리가 늘어나면 안 됨").isEqualTo(one);
+    }
+
+    @Test
+    void getPackStats() throws Exception {
+        TestUser user = createUser();
+        collectCards(createCategory(user, "OWNED"), 40);
+
+        assertWithinBudget(mockMvc.perform(get("/api/my-collections/stats/packs")
+                        .header("Authorization", user.authorization()))
+                .andExpect(status().isOk())
+                .andReturn());
+    }
+
+    @Test
+    void exportCollections() throws Exception {
+        TestUser user = createUser();
+        long owned = createCategory(user, "OWNED");
+        collectCards(owned, 10);
+        long empty = createCategory(user, "WISHLIST");
+        // 수식으로 시작하는 이름은 CSV에서 '를 붙여서 내보냄
+        jdbcTemplate.update("UPDATE t_collection_category SET category_name = ? WHERE category_id = ?", "=SUM(1)", empty);
+
+        MvcResult result = mockMvc.perform(get("/api/my-collections/export")
+                        .header("Authorization", user.authorization()))
+                .andReturn();
+        String csv = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        // 스트리밍 스레드에서 실행한 내보내기 쿼리도 요청의 문장 수에 포함됨 (응답이 끝난 뒤 기록)
+        assertThat(assertWithinBudget(result)).isEqualTo(1);
+
+        // 카테고리 ID -> 수집한 순서, 카드가 없는 카테고리는 카드 칸이 빈 한 행
+        List<String> expected = new ArrayList<>();
+        expected.add("\uFEFF" + CollectionExportCsv.HEADER);
+        collectedCardNames(owned).forEach((cardId, cardName) -> expected.add(
+                owned + ",OWNED 카테고리,OWNED,#FF6B6B," + cardId + "," + cardName + ","));
+        expected.add(empty + ",'=SUM(1),WISHLIST,#FF6B6B,,,,,,,,,,");
+
+        String[] lines = csv.split("\r\n");
+        assertThat(lines).hasSize(expected.size());
+        for (int i = 0; i < lines.length; i++) {
+            assertThat(lines[i]).startsWith(expected.get(i));
+        }
+        assertThat(lines[lines.length - 1]).isEqualTo(expected.get(expected.size() - 1));
+    }
+
+    @Test
+    void exportCollectionsAsNdjson() throws Exception {
+        TestUser user = createUser();
+        long owned = createCategory(user, "OWNED");
+        collectCards(owned, 5);
+        long empty = createCategory(user, "WISHLIST");
+
+        MvcResult result = mockMvc.perform(get("/api/my-collections/export")
+                        .param("format", "ndjson")
+                        .header("Authorization", user.authorization()))
+                .andReturn();
+        String ndjson = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(assertWithinBudget(result)).isEqualTo(1);
+
+        Map<Long, String> cards = collectedCardNames(owned);
+        List<Long> cardIds = new ArrayList<>(cards.keySet());
+        String[] lines = ndjson.split("\n");
+        assertThat(lines).hasSize(cards.size() + 1);
+        for (int i = 0; i < cardIds.size(); i++) {
+            JsonNode row = objectMapper.readTree(lines[i]);
+            assertThat(row.get("categoryId").asLong()).isEqualTo(owned);
+            assertThat(row.get("categoryType").asText()).isEqualTo("OWNED");
+            assertThat(row.get("cardId").asLong()).isEqualTo(cardIds.get(i));
+            assertThat(row.get("cardName").asText()).isEqualTo(cards.get(cardIds.get(i)));
+            assertThat(row.get("packId").isNull()).isFalse();
+        }
+        JsonNode last = objectMapper.readTree(lines[lines.length - 1]);
+        assertThat(last.get("categoryId").asLong()).isEqualTo(empty);
+        assertThat(last.get("cardId").isNull()).isTrue();
+    }
+
+    @Test
+    void exportCollectionsRejectsUnknownFormat() throws Exception {
+        TestUser user = createUser();
+
+        assertWithinBudget(mockMvc.perform(get("/api/my-collections/export")
+                        .param("format", "xlsx")
+                        .header("Authorization", user.authorization()))
+                .andExpect(status().isBadRequest())
+                .andReturn());
+    }
+
+    @Test
+    void getCategoryDetails() throws Exception {
+        TestUser user = createUser();
+        long small = createCategory(user, "OWNED");
+        collectCards(small, 1);
+        long large = createCategory(user, "OWNED");
+        collectCards(large, 40);
+
+        int one = assertWithinBudget(mockMvc.perform(get("/api/my-collections/{id}", small)
+                        .header("Authorization", user.authorization()))
+                .andExpect(status().isOk())
+                .andReturn());
+        int forty = assertWithinBudget(mockMvc.perform(get("/api/my-collections/{id}", large)
+                        .header("Authorization", user.authorization()))
+                .andExpect(status().isOk())
+                .andReturn());
+
+        // 카드마다 팩/레어도/사용자를 지연 로딩하면 여기서 드러남
+        assertThat(forty).as("수집 카드 수에 따라 쿼리가 늘어나면 안 됨").isEqualTo(one);
+    }
+
+    @Test
+    void getCategoryDetailsOfOtherUser() throws Exception {
+        TestUser owner = createUser();
+        TestUser other = createUser();
+        long categoryId = createCategory(owner, "OWNED");
+
+        assertWithinBudget(mockMvc.perform(get("/api/my-collections/{id}", categoryId)
+                        .header("Authorization", other.authorization()))
+                .andExpect(status().isForbidden())
+                .andReturn());
+    }
+
+    @Test
+    void streamCategoryDetails() throws Exception {
+        TestUser user = createUser();
+        long categoryId = createCategory(user, "OWNED");
+        collectCards(categoryId, 20);
+
+        MvcResult result = mockMvc.perform(get("/api/my-collections/{id}", categoryId)
+                        .param("stream", "true")
+                        .header("Authorization", user.authorization()))
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        // 권한 확인(요청 스레드) + 카드 커서(스트리밍 스레드)
+        assertThat(assertWithinBudget(result)).isEqualTo(2);
+        JsonNode cards = objectMapper.readTree(body).get("collectedCards");
+        assertThat(cards.size()).isEqualTo(20);
+    }
+
+    @Test
+    void getCategoryPage() throws Exception {
+        TestUser user = createUser();
+        long categoryId = createCategory(user, "OWNED");
+        collectCards(categoryId, 40);
+
+        // 한 페이지씩 끝까지 넘기면서, 페이지마다 쿼리 수가 같고 카드가 빠짐없이 cardId 순으로 오는지 확인
+        List<Long> cardIds = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            MvcResult result = mockMvc.perform(get("/api/my-collections/{id}/cards", categoryId)
+                            .param("size", "15")
+                            .param("cursor", cursor)
+                            .header("Authorization", user.authorization()))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            assertThat(assertWithinBudget(result)).isEqualTo(2);
+
+            JsonNode page = objectMapper.readTree(result.getResponse().getContentAsString());
+            assertThat(page.get("categoryId").asLong()).isEqualTo(categoryId);
+            page.get("collectedCards").forEach(card -> cardIds.add(card.get("cardId").asLong()));
+            cursor = page.get("hasNext").asBoolean() ? page.get("nextCursor").asText() : null;
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(cardIds).hasSize(40).isSorted().doesNotHaveDuplicates();
+        assertThat(cardIds.get(0)).isEqualTo(firstCardId);
+    }
+
+    @Test
+    void getCategoryPageWithFilters() throws Exception {
+        TestUser user = createUser();
+        long categoryId = createCategory(user, "OWNED");
+        collectCards(categoryId, 60);
+
+        long packId = jdbcTemplate.queryForObject(
+                "SELECT c.pack_id FROM t_card c WHERE c.card_id = ?", Long.class, firstCardId);
+        Long expected = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM t_collected_card cc JOIN t_card c ON c.card_id = cc.card_id " +
+                        "WHERE cc.category_id = ? AND c.pack_id = ?", Long.class, categoryId, packId);
+
+        MvcResult result = mockMvc.perform(get("/api/my-collections/{id}/cards", categoryId)
+                        .param("packId", String.valueOf(packId))
+                        .param("size", "200")
+                        .header("Authorization", user.authorization()))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertWithinBudget(result);
+        JsonNode cards = objectMapper.readTree(result.getResponse().getContentAsString()).get("collectedCards");
+        assertThat(cards.size()).isEqualTo(expected.intValue());
+
+        String rarityId = cards.get(0).get("rarityId").asText();
+        JsonNode filtered = objectMapper.readTree(mockMvc.perform(get("/api/my-collections/{id}/cards", categoryId)
+                        .param("packId", String.valueOf(packId))
+                        .param("rarityId", rarityId)
+                        .header("Authorization", user.authorization()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("collectedCards");
+        assertThat(filtered.size()).isPositive();
+        filtered.forEach(card -> assertThat(card.get("rarityId").asText()).isEqualTo(rarityId));
+    }
+
+    @Test
+    void getCategoryPageOfOtherUser() throws Exception {
+        TestUser owner = createUser();
+        TestUser other = createUser();
+        long categoryId = createCategory(owner, "OWNED");
+
+        assertWithinBudget(mockMvc.perform(get("/api/my-collections/{id}/cards", categoryId)
+                        .header("Authorization", other.authorization()))
+                .andExpect(status().isForbidden())
+                .andReturn());
+    }
+
+    @Test
+    void createCategory() throws Exception {
+        TestUser user = createUser();
+
+        assertWithinBudget(mockMvc.perform(post("/api/my-collections")
+                        .header("Authorization", user.authorization())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"categoryName\":\"새 카테고리\",\"themeColor\":\"#FFD93D\",\"categoryType\":\"OWNED\"}"))
+                .andExpect(status().isCreated())
+                .andReturn());
+    }
+
+    @Test
+    void updateCategory() throws Exception {
+        TestUser user = createUser();
+        long categoryId = createCategory(user, "OWNED");
+        collectCards(categoryId, 20);
+
+        assertWithinBudget(mockMvc.perform(put("/api/my-collections/{id}", categoryId)
+                        .header("Authorization", user.authorization())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"categoryName\":\"이름 변경\",\"themeColor\":\"#6BCB77\",\"categoryType\":\"WISHLIST\"}"))
+                .andExpect(status().isOk())
+                .andReturn());
+    }
+
+    @Test
+    void deleteCategory() throws Exception {
+        TestUser user = createUser();
+        long categoryId = createCategory(user, "OWNED");
+        collectCards(categoryId, 20);
+
+        assertWithinBudget(mockMvc.perform(delete("/api/my-collections/{id}", categoryId)
+                        .header("Authorization", user.authorization()))
+                .andExpect(status().isOk())
+                .andReturn());
+    }
+
+    @Test
+    void addCardToCategory() throws Exception {
+        TestUser user = createUser();
+        long categoryId = createCategory(user, "OWNED");
+
+        assertWithinBudget(mockMvc.perform(post("/api/my-collections/{id}/cards", categoryId)
+                        .header("Authorization", user.authorization())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"cardId\":" + firstCardId + "}"))
+                .andExpect(status().isCreated())
+                .andReturn());
+
+        // 같은 카드를 다시 추가하면 오류가 아니라 200 ALREADY_PRESENT
+        MvcResult again = mockMvc.perform(post("/api/my-collections/{id}/cards", categoryId)
+                        .header("Authorization", user.authorization())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"cardId\":" + firstCardId + "}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertWithinBudget(again);
+        assertThat(objectMapper.readTree(again.getResponse().getContentAsString()).get("result").asText())
+                .isEqualTo("ALREADY_PRESENT");
+    }
+
+    @Test
+    void addCardToCategoryRejected() throws Exception {
+        TestUser owner = createUser();
+        TestUser other = createUser();
+        long categoryId = createCategory(owner, "OWNED");
+
+        // 남의 카테고리 403, 없는 카드 404, 없는 카테고리 404 (INSERT + 이유 확인 쿼리)
+        assertWithinBudget(mockMvc.perform(post("/api/my-collections/{id}/cards", categoryId)
+                        .header("Authorization", other.authorization())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"cardId\":" + firstCardId + "}"))
+                .andExpect(status().isForbidden())
+                .andReturn());
+        assertWithinBudget(mockMvc.perform(post("/api/my-collections/{id}/cards", categoryId)
+                        .header("Authorization", owner.authorization())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"cardId\":" + Long.MAX_VALUE + "}"))
+                .andExpect(status().isNotFound())
+                .andReturn());
+        assertWithinBudget(mockMvc.perform(post("/api/my-collections/{id}/cards", Long.MAX_VALUE)
+                        .header("Authorization", owner.authorization())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"cardId\":" + firstCardId + "}"))
+                .andExpect(status().isNotFound())
+                .andReturn());
+
+        Long rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM t_collected_card WHERE category_id = ?", Long.class, categoryId);
+        assertThat(rows).isZero();
+    }
+
+    @Test
+    void bulkUpdateCards() throws Exception {
+        TestUser user = createUser();
+        long categoryId = createCategory(user, "OWNED");
+        collectCards(categoryId, 10);
+
+        // 새 카드 30장 + 이미 수집한 카드 1장 + 없는 카드 추가, 수집한 카드 3장 + 수집하지 않은 카드 1장 제거
+        List<Long> newCards = new ArrayList<>();
+        for (int i = 10; i < 40; i++) {
+            newCards.add(firstCardId + i);
+        }
+        List<Long> addIds = new ArrayList<>(newCards);
+        addIds.add(firstCardId + 9);
+        addIds.add(Long.MAX_VALUE);
+        List<Long> removeIds = List.of(firstCardId, firstCardId + 1, firstCardId + 2, firstCardId + 50);
+
+        MvcResult result = mockMvc.perform(post("/api/my-collections/{id}/cards/bulk", categoryId)
+                        .header("Authorization", user.authorization())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("addCardIds", addIds, "removeCardIds", removeIds))))
+                .andExpect(status().isOk())
+                .andReturn();
+        // 권한 확인, 기존 수집 확인, DELETE, 카드 확인, 배치 INSERT (JdbcTemplate 배치도 한 문장으로 셈)
+        assertThat(assertWithinBudget(result)).isEqualTo(5);
+
+        JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
+        assertThat(ids(body.get("added"))).containsExactlyInAnyOrderElementsOf(newCards);
+        assertThat(ids(body.get("alreadyCollected"))).containsExactly(firstCardId + 9);
+        assertThat(ids(body.get("removed"))).containsExactlyInAnyOrder(firstCardId, firstCardId + 1, firstCardId + 2);
+        assertThat(ids(body.get("notFound"))).containsExactlyInAnyOrder(Long.MAX_VALUE, firstCardId + 50);
+
+        // 처음 10장 중 3장이 빠지고 30장이 들어감 (카드별로 한 행씩)
+        List<Long> collected = jdbcTemplate.queryForList(
+                "SELECT card_id FROM t_collected_card WHERE category_id = ? ORDER BY card_id", Long.class, categoryId);
+        List<Long> expected = new ArrayList<>();
+        for (int i = 3; i < 40; i++) {
+            expected.add(firstCardId + i);
+        }
+        assertThat(collected).isEqualTo(expected);
+    }
+
+    @Test
+    void removeCardFromCategory() throws Exception {
+        TestUser user = createUser();
+        long categoryId = createCategory(user, "OWNED");
+        collectCards(categoryId, 5);
+
+        assertWithinBudget(mockMvc.perform(delete("/api/my-collections/{id}/cards/{cardId}", categoryId, firstCardId)
+                        .header("Authorization", user.authorization()))
+                .andExpect(status().isOk())
+                .andReturn());
+    }
+
+    /**
+     * 카테고리의 수집 카드 (cardId -> 카드 이름, 수집한 순서)
+     */
+    private Map<Long, String> collectedCardNames(long categoryId) {
+        Map<Long, String> names = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT c.card_id, c.card_name FROM t_collected_card cc " +
+                        "JOIN t_card c ON c.card_id = cc.card_id WHERE cc.category_id = ? ORDER BY cc.collected_card_id",
+                rs -> {
+                    names.put(rs.getLong(1), rs.getString(2));
+                }, categoryId);
+        return names;
+    }
+
+    private static List<Long> ids(JsonNode array) {
+        List<Long> ids = new ArrayList<>();
+        array.forEach(id -> ids.add(id.asLong()));
+        return ids;
+    }
+}
@@ -0,0 +1,65 @@
+package com.pokekor.pokekor.controller;
+
+import com.pokekor.pokekor.dto.CollectionExportRow;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CollectionExportCsvTest {
+
+    @Test
+    void headerAndRowHaveSameColumnCount() throws IOException {
+        String line = write(row("내 카드", "피카츄", "001"));
+
+        assertThat(line.split(",", -1)).hasSameSizeAs(CollectionExportCsv.HEADER.split(","));
+        assertThat(line).isEqualTo("1,내 카드,OWNED,#FF6B6B,10,피카츄,001,포켓몬,,,3,확장팩,SR,슈퍼 레어\r\n");
+    }
+
+    @Test
+    void quotesCommaQuoteAndNewline() throws IOException {
+        String line = write(row("a,b", "say \"hi\"", "1\n2"));
+
+        assertThat(line).startsWith("1,\"a,b\",OWNED,#FF6B6B,10,\"say \"\"hi\"\"\",\"1\n2\",");
+    }
+
+    @Test
+    void prefixesFormulaCells() throws IOException {
+        String line = write(row("=HYPERLINK(\"http://x\")", "+1", "-2"));
+
+        assertThat(line).startsWith("1,\"'=HYPERLINK(\"\"http://x\"\")\",OWNED,#FF6B6B,10,'+1,'-2,");
+
+        CollectionExportRow at = new CollectionExportRow(1L, "@SUM(A1)", "OWNED", "#FF6B6B",
+                null, null, null, null, null, null, null, null, null, null);
+        assertThat(write(at)).isEqualTo("1,'@SUM(A1),OWNED,#FF6B6B,,,,,,,,,,\r\n");
+    }
+
+    @Test
+    void prefixesCellsStartingWithTabOrCarriageReturn() throws IOException {
+        String line = write(row("\t=1+1", "\r=1+1", "001"));
+
+        // 탭은 따옴표 없이, CR은 줄바꿈 문자이므로 따옴표로 감싸서 씀
+        assertThat(line).startsWith("1,'\t=1+1,OWNED,#FF6B6B,10,\"'\r=1+1\",001,");
+    }
+
+    @Test
+    void doesNotPrefixNumbersOrInnerSigns() throws IOException {
+        String line = write(row("A-B", "e=mc2", "10+"));
+
+        assertThat(line).startsWith("1,A-B,OWNED,#FF6B6B,10,e=mc2,10+,");
+    }
+
+    private static CollectionExportRow row(String categoryName, String cardName, String cardNumber) {
+        return new CollectionExportRow(1L, categoryName, "OWNED", "#FF6B6B",
+                10L, cardName, cardNumber, "포켓몬", null, null,
+                3L, "확장팩", "SR", "슈퍼 레어");
+    }
+
+    private static String write(CollectionExportRow row) throws IOException {
+        StringWriter writer = new StringWriter();
+        CollectionExportCsv.writeRow(writer, row);
+        return writer.toString();
+    }
+}
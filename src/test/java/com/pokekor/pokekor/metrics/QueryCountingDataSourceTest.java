@@ -0,0 +1,72 @@
+package com.pokekor.pokekor.metrics;
+
+import com.pokekor.pokekor.QueryBudgetTestSupport;
+import com.pokekor.pokekor.repository.CardRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JdbcTemplate와 Hibernate가 실행하는 문장을 모두 RequestQueryCounter로 세는지 확인
+ * (테스트 프로필은 pokekor.query-budget.mode=fail)
+ */
+class QueryCountingDataSourceTest extends QueryBudgetTestSupport {
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void countsJdbcTemplateAndHibernateStatements() {
+        try (RequestQueryCounter.Scope scope = RequestQueryCounter.start()) {
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM t_card", Long.class);
+            cardRepository.findById(firstCardId);
+
+            assertThat(scope.count()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void countsJdbcBatchAsOneStatement() {
+        TestUser user = createUser();
+        long categoryId = createCategory(user, "OWNED");
+
+        try (RequestQueryCounter.Scope scope = RequestQueryCounter.start()) {
+            jdbcTemplate.batchUpdate("INSERT INTO t_collected_card (category_id, card_id) VALUES (?, ?)",
+                    List.of(new Object[]{categoryId, firstCardId}, new Object[]{categoryId, firstCardId + 1}));
+
+            assertThat(scope.count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void jdbcTemplateStatementOverBudgetFails() {
+        try (RequestQueryCounter.Scope scope = RequestQueryCounter.start()) {
+            RequestQueryCounter.limit(1, "QueryCountingDataSourceTest");
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM t_card", Long.class);
+
+                assertThatThrownBy(() -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM t_pack", Long.class))
+                        .isInstanceOf(QueryBudgetExceededException.class)
+                        .hasMessageContaining("t_pack");
+            });
+            assertThat(scope.counter().isOverBudget()).isTrue();
+        }
+    }
+
+    @Test
+    void statementsOutsideRequestAreNotCounted() {
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM t_card", Long.class);
+
+        try (RequestQueryCounter.Scope scope = RequestQueryCounter.start()) {
+            assertThat(scope.count()).isZero();
+        }
+    }
+}